@@ -5,21 +5,35 @@ import com.asterexcrisys.acm.constants.GlobalConstants;
 import com.asterexcrisys.acm.constants.HashingConstants;
 import com.asterexcrisys.acm.constants.StorageConstants;
 import com.asterexcrisys.acm.exceptions.HashingException;
+import com.asterexcrisys.acm.services.agent.AgentClient;
+import com.asterexcrisys.acm.services.agent.AgentServer;
+import com.asterexcrisys.acm.services.api.ApiServer;
+import com.asterexcrisys.acm.services.console.PagedWriter;
 import com.asterexcrisys.acm.services.console.TableBuilder;
+import com.asterexcrisys.acm.services.console.TableRenderer;
 import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
 import com.asterexcrisys.acm.services.encryption.KeyEncryptor;
+import com.asterexcrisys.acm.services.injection.SecretResolver;
+import com.asterexcrisys.acm.services.injection.TemplateRenderer;
 import com.asterexcrisys.acm.services.storage.HardwareStore;
 import com.asterexcrisys.acm.services.storage.SoftwareStore;
 import com.asterexcrisys.acm.services.storage.Store;
 import com.asterexcrisys.acm.services.utility.ConfigurationManager;
+import com.asterexcrisys.acm.services.utility.HashingCalibrator;
+import com.asterexcrisys.acm.types.agent.AgentOperation;
+import com.asterexcrisys.acm.types.agent.AgentStatus;
+import com.asterexcrisys.acm.types.encryption.HashingPolicy;
+import com.asterexcrisys.acm.types.encryption.BatchSummary;
 import com.asterexcrisys.acm.types.encryption.Token;
 import com.asterexcrisys.acm.types.encryption.Vault;
 import com.asterexcrisys.acm.types.encryption.VaultType;
+import com.asterexcrisys.acm.types.injection.SecretReference;
 import com.asterexcrisys.acm.types.storage.SoftwareStoreType;
 import com.asterexcrisys.acm.types.storage.StoreMode;
 import com.asterexcrisys.acm.types.utility.*;
 import com.asterexcrisys.acm.utility.EncryptionUtility;
 import com.asterexcrisys.acm.utility.GlobalUtility;
+import com.asterexcrisys.acm.utility.HashingUtility;
 import com.asterexcrisys.acm.services.console.ShellSignalHandler;
 import com.asterexcrisys.acm.services.console.ShellArgumentParser;
 import com.asterexcrisys.acm.types.console.*;
@@ -40,10 +54,16 @@ import org.jline.terminal.TerminalBuilder;
 import oshi.SystemInfo;
 import oshi.hardware.ComputerSystem;
 import javax.crypto.SecretKey;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.logging.*;
@@ -56,6 +76,7 @@ public class ShellApplication {
 
     private static final Logger LOGGER = Logger.getLogger(ShellApplication.class.getName());
     private static final boolean DEBUG = GlobalUtility.isDebugEnabled();
+    private static Terminal terminal = null;
 
     public static void main(String[] programArguments) {
         LineReader reader;
@@ -63,6 +84,7 @@ public class ShellApplication {
             Files.createDirectories(Paths.get("./data/"));
             LogManager.getLogManager().reset();
             configureLogger(LogManager.getLogManager().getLogger(GlobalConstants.ROOT_LOGGER));
+            HashingUtility.setPolicy(HashingCalibrator.loadPolicy(new ConfigurationManager()));
             reader = configureReader();
             switch (validateArguments(programArguments, ShellType.NON_INTERACTIVE)) {
                 case Triplet(FlowInstruction instruction, EvaluationResult result, String message) when instruction == FlowInstruction.TERMINATE -> {
@@ -83,6 +105,11 @@ public class ShellApplication {
             System.exit(1);
             return;
         }
+        if (GenericNonInteractiveCommandType.QUERY_AGENT.is(programArguments[0])) {
+            Triplet<FlowInstruction, EvaluationResult, Message> result = queryAgent(programArguments);
+            printMessage(result.second().level(), result.third().content());
+            return;
+        }
         Optional<SecretKey> masterKey = loadMasterKey();
         if (masterKey.isEmpty()) {
             printMessage(Level.SEVERE, "An error occurred while loading the master key");
@@ -107,6 +134,7 @@ public class ShellApplication {
                     // No operation needed
                 }
             }
+            terminal = reader.getTerminal();
             while (true) {
                 String[] shellArguments = reader.readLine(GlobalConstants.SHELL_PROMPT).trim().split("\\s+");
                 switch (validateArguments(shellArguments, ShellType.INTERACTIVE)) {
@@ -217,6 +245,9 @@ public class ShellApplication {
     }
 
     private static void printMessage(Level level, String message) {
+        if (message == null) {
+            return;
+        }
         if (level.intValue() >= Level.FINEST.intValue() && level.intValue() <= Level.INFO.intValue()) {
             System.out.println(message);
             System.out.flush();
@@ -226,6 +257,15 @@ public class ShellApplication {
         }
     }
 
+    private static boolean printTable(CellSize cellSize, List<String> attributes, Iterator<List<String>> records) {
+        TableRenderer renderer = new TableRenderer(attributes, cellSize);
+        if (terminal == null || Terminal.TYPE_DUMB.equals(terminal.getType()) || Terminal.TYPE_DUMB_COLOR.equals(terminal.getType())) {
+            return renderer.render(records, new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        }
+        PagedWriter writer = new PagedWriter(terminal);
+        return renderer.render(records, writer) || writer.isStopped();
+    }
+
     private static String buildTable(CellSize cellSize, List<String> attributes, List<List<String>> records) {
         try (TableBuilder builder = new TableBuilder(cellSize)) {
             builder.addAttributes(attributes);
@@ -234,6 +274,45 @@ public class ShellApplication {
         }
     }
 
+    private static String buildTexts(String label, List<String> texts) {
+        if (texts.size() == 1) {
+            return String.format("%s: %s", label, texts.getFirst());
+        }
+        List<List<String>> rows = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            rows.add(List.of(String.valueOf(i + 1), texts.get(i)));
+        }
+        return buildTable(CellSize.WRAP_LARGE, List.of("#", label), rows);
+    }
+
+    private static String buildSummary(BatchSummary summary) {
+        String table = buildTable(
+                CellSize.WRAP_SMALL,
+                List.of("Processed", "Skipped", "Failed", "Size (MiB)", "Elapsed (ms)", "Files/s", "MiB/s"),
+                List.of(List.of(
+                        String.valueOf(summary.processed()),
+                        String.valueOf(summary.skipped()),
+                        String.valueOf(summary.failed()),
+                        String.format("%.1f", summary.bytes() / 1048576.0),
+                        String.valueOf(summary.elapsed().toMillis()),
+                        String.format("%.0f", summary.filesPerSecond()),
+                        String.format("%.1f", summary.bytesPerSecond() / 1048576.0)
+                ))
+        );
+        if (summary.isSuccessful()) {
+            return table;
+        }
+        return String.format(
+                "%s\n%s",
+                table,
+                buildTable(
+                        CellSize.WRAP_LARGE,
+                        List.of("Failed File"),
+                        summary.failures().stream().map((file) -> List.of(file.toString())).toList()
+                )
+        );
+    }
+
     // TODO: replace StoreMode.SOFTWARE with StoreMode.HARDWARE once TPM2 implementation is ready
     private static Optional<SecretKey> loadMasterKey() {
         ConfigurationManager manager = new ConfigurationManager();
@@ -410,6 +489,61 @@ public class ShellApplication {
                     Message.of("Succeeded to wipe data of user: " + user, true)
             );
         }
+        if (GenericNonInteractiveCommandType.CALIBRATE_HASHING.is(arguments[0])) {
+            Optional<HashingPolicy> policy = GlobalUtility.ifThrows(() -> {
+                return new HashingCalibrator(Duration.ofMillis(Long.parseLong(arguments[1]))).calibrate();
+            }, Optional.empty());
+            if (policy.isEmpty() || !HashingCalibrator.savePolicy(new ConfigurationManager(), policy.get())) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to calibrate hashing for target latency: " + arguments[1] + "ms", false)
+                );
+            }
+            HashingUtility.setPolicy(policy.get());
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.SUCCESS,
+                    Message.of(buildTable(
+                            CellSize.WRAP_SMALL,
+                            List.of("Iterations", "Memory (KiB)", "Parallelism", "Key Iterations"),
+                            List.of(List.of(
+                                    String.valueOf(policy.get().iterationCount()),
+                                    String.valueOf(policy.get().memoryUsage()),
+                                    String.valueOf(policy.get().parallelismCount()),
+                                    String.valueOf(policy.get().keyIterationCount())
+                            ))
+                    ), false)
+            );
+        }
+        if (GenericNonInteractiveCommandType.START_SERVER.is(arguments[0])) {
+            Optional<Integer> port = GlobalUtility.ifThrows(() -> Optional.of(Integer.parseInt(arguments[1])), Optional.empty());
+            if (port.isEmpty() || port.get() > 65535) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to start server on port: " + arguments[1], false)
+                );
+            }
+            try (ApiServer server = new ApiServer(manager, port.get())) {
+                if (!server.start()) {
+                    return Triplet.of(
+                            FlowInstruction.TERMINATE,
+                            EvaluationResult.FAILURE,
+                            Message.of("Failed to start server on port: " + arguments[1], false)
+                    );
+                }
+                printMessage(Level.INFO, "Server listening on address: " + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+                server.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.SUCCESS,
+                    Message.of("Server stopped on port: " + arguments[1], false)
+            );
+        }
         if (GenericNonInteractiveCommandType.TEST_GIVEN_PASSWORD.is(arguments[0])) {
             Pair<PasswordStrength, String[]> advices = manager.testGivenPassword(arguments[1]);
             return Triplet.of(
@@ -460,15 +594,14 @@ public class ShellApplication {
                         Message.of("Failed to get all vaults", false)
                 );
             }
-            return Triplet.of(
-                    FlowInstruction.TERMINATE,
-                    EvaluationResult.SUCCESS,
-                    Message.of(buildTable(
-                            CellSize.WRAP_SMALL,
-                            List.of("Name"),
-                            vaults.get().stream().map(Collections::singletonList).toList()
-                    ), true)
-            );
+            if (!printTable(CellSize.WRAP_SMALL, List.of("Name"), vaults.get().stream().map(Collections::singletonList).iterator())) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to display vaults", false)
+                );
+            }
+            return Triplet.of(FlowInstruction.TERMINATE, EvaluationResult.SUCCESS, Message.of(null, true));
         }
         if (VaultCommandType.ADD.is(arguments[0])) {
             if (!manager.addVault(arguments[1], arguments[2])) {
@@ -484,6 +617,81 @@ public class ShellApplication {
                     Message.of("Succeeded to add vault with name: " + arguments[1], false)
             );
         }
+        if (VaultCommandType.SET.is(arguments[0])) {
+            boolean isSuccessful = manager.setVault(arguments[1], arguments[2], arguments[3], (progress) -> printMessage(
+                    Level.INFO,
+                    String.format("Re-keying %s: %d/%d (%.1f%%)", progress.task(), progress.completed(), progress.total(), progress.percentage())
+            ));
+            if (!isSuccessful) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to set vault with name: " + arguments[1], false)
+                );
+            }
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.SUCCESS,
+                    Message.of("Succeeded to set vault with name: " + arguments[1], false)
+            );
+        }
+        if (VaultCommandType.START_AGENT.is(arguments[0])) {
+            if (!manager.authenticate(arguments[1], arguments[2])) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Authentication failed to vault with name: " + arguments[1], false)
+                );
+            }
+            try (AgentServer server = new AgentServer(manager)) {
+                if (!server.start()) {
+                    return Triplet.of(
+                            FlowInstruction.TERMINATE,
+                            EvaluationResult.FAILURE,
+                            Message.of("Failed to start agent for vault with name: " + arguments[1], false)
+                    );
+                }
+                printMessage(Level.INFO, "Agent listening on socket: " + server.getSocketFile().toAbsolutePath().normalize());
+                server.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.SUCCESS,
+                    Message.of("Agent stopped for vault with name: " + arguments[1], false)
+            );
+        }
+        if (VaultCommandType.RUN_BATCH.is(arguments[0])) {
+            if (!manager.authenticate(arguments[1], arguments[2])) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Authentication failed to vault with name: " + arguments[1], false)
+                );
+            }
+            return runBatch(manager, arguments[3], BatchPolicy.valueOf(arguments[4].toUpperCase()));
+        }
+        if (VaultCommandType.EXECUTE_COMMAND.is(arguments[0])) {
+            if (!manager.authenticate(arguments[1], arguments[2])) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Authentication failed to vault with name: " + arguments[1], false)
+                );
+            }
+            return executeCommand(manager, SecretReference.parseBindings(arguments[3]).orElseThrow(), Arrays.copyOfRange(arguments, 4, arguments.length));
+        }
+        if (VaultCommandType.RENDER_TEMPLATE.is(arguments[0])) {
+            if (!manager.authenticate(arguments[1], arguments[2])) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Authentication failed to vault with name: " + arguments[1], false)
+                );
+            }
+            return renderTemplate(manager, arguments[3], arguments[4]);
+        }
         if (VaultCommandType.REMOVE.is(arguments[0])) {
             if (!manager.removeVault(arguments[1], arguments[2])) {
                 return Triplet.of(
@@ -505,6 +713,158 @@ public class ShellApplication {
         );
     }
 
+    private static Triplet<FlowInstruction, EvaluationResult, Message> queryAgent(String[] arguments) {
+        AgentOperation operation = AgentOperation.valueOf(arguments[1].toUpperCase());
+        try (AgentClient client = new AgentClient()) {
+            Optional<Pair<AgentStatus, String[]>> response = client.send(operation, Arrays.copyOfRange(arguments, 2, arguments.length));
+            if (response.isEmpty()) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to query agent with operation: " + operation.name(), false)
+                );
+            }
+            if (response.get().first() != AgentStatus.SUCCESS) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Agent responded with status: " + response.get().first().name(), false)
+                );
+            }
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.SUCCESS,
+                    Message.of(String.join(System.lineSeparator(), response.get().second()), true)
+            );
+        } catch (IOException | InvalidPathException e) {
+            LOGGER.warning("Error connecting to agent: " + e.getMessage());
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.FAILURE,
+                    Message.of("Failed to connect to agent", false)
+            );
+        }
+    }
+
+    private static Triplet<FlowInstruction, EvaluationResult, Message> executeCommand(VaultManager manager, Map<String, SecretReference> bindings, String[] command) {
+        Optional<Map<String, String>> environment;
+        try (SecretResolver resolver = new SecretResolver(manager.getCredentialManager().orElseThrow(), manager.getTokenManager().orElseThrow())) {
+            environment = resolver.resolveAll(bindings);
+        }
+        manager.logout();
+        if (environment.isEmpty()) {
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.FAILURE,
+                    Message.of("Failed to resolve secrets for command: " + command[0], false)
+            );
+        }
+        try {
+            ProcessBuilder builder = new ProcessBuilder(command).inheritIO();
+            builder.environment().putAll(environment.get());
+            int exitCode = builder.start().waitFor();
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    exitCode == 0? EvaluationResult.SUCCESS:EvaluationResult.FAILURE,
+                    Message.of(String.format("Command %s exited with code: %d", command[0], exitCode), false)
+            );
+        } catch (IOException e) {
+            LOGGER.warning("Error executing command: " + e.getMessage());
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.FAILURE,
+                    Message.of("Failed to execute command: " + command[0], false)
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.FAILURE,
+                    Message.of("Interrupted while waiting for command: " + command[0], false)
+            );
+        }
+    }
+
+    private static Triplet<FlowInstruction, EvaluationResult, Message> renderTemplate(VaultManager manager, String source, String target) {
+        boolean isStandardOutput = GlobalConstants.STANDARD_INPUT.equals(target);
+        try (SecretResolver resolver = new SecretResolver(manager.getCredentialManager().orElseThrow(), manager.getTokenManager().orElseThrow()); BufferedReader reader = GlobalConstants.STANDARD_INPUT.equals(source)? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)):Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8)) {
+            TemplateRenderer renderer = new TemplateRenderer(resolver);
+            Optional<Long> count = isStandardOutput? renderer.render(reader, new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))):renderer.render(reader, Paths.get(target));
+            if (count.isEmpty()) {
+                return Triplet.of(
+                        FlowInstruction.TERMINATE,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to render template: " + source, false)
+                );
+            }
+            if (isStandardOutput) {
+                return Triplet.of(FlowInstruction.TERMINATE, EvaluationResult.SUCCESS, Message.of(null, true));
+            }
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.SUCCESS,
+                    Message.of(String.format("Rendered %d placeholders from %d unique references into: %s", count.get(), resolver.size(), target), false)
+            );
+        } catch (IOException | InvalidPathException e) {
+            LOGGER.warning("Error reading template: " + e.getMessage());
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.FAILURE,
+                    Message.of("Failed to read template: " + source, false)
+            );
+        }
+    }
+
+    private static Triplet<FlowInstruction, EvaluationResult, Message> runBatch(VaultManager manager, String source, BatchPolicy policy) {
+        try (BufferedReader reader = GlobalConstants.STANDARD_INPUT.equals(source)? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)):Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8)) {
+            int succeeded = 0;
+            int failed = 0;
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String command = line.trim();
+                if (command.isEmpty() || command.startsWith(GlobalConstants.COMMENT_PREFIX)) {
+                    continue;
+                }
+                String[] arguments = command.split("\\s+");
+                Triplet<FlowInstruction, EvaluationResult, String> validation = validateArguments(arguments, ShellType.INTERACTIVE);
+                Triplet<LoopInstruction, EvaluationResult, Message> result;
+                if (validation.first() == FlowInstruction.TERMINATE) {
+                    result = Triplet.of(LoopInstruction.SKIP, EvaluationResult.FAILURE, Message.of(validation.third(), false));
+                } else {
+                    result = checkInteractiveCommands(manager, arguments);
+                }
+                if (result.third().content() != null) {
+                    printMessage(result.second().level(), String.format("[%d] %s", lineNumber, result.third().content()));
+                }
+                if (result.second() == EvaluationResult.SUCCESS) {
+                    succeeded++;
+                } else {
+                    failed++;
+                    if (policy == BatchPolicy.FAIL_FAST) {
+                        break;
+                    }
+                }
+                if (result.first() == LoopInstruction.EXIT) {
+                    break;
+                }
+            }
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    failed == 0? EvaluationResult.SUCCESS:EvaluationResult.FAILURE,
+                    Message.of(String.format("Batch finished with %d succeeded and %d failed commands", succeeded, failed), false)
+            );
+        } catch (IOException | InvalidPathException e) {
+            LOGGER.warning("Error running batch: " + e.getMessage());
+            return Triplet.of(
+                    FlowInstruction.TERMINATE,
+                    EvaluationResult.FAILURE,
+                    Message.of("Failed to read batch from source: " + source, false)
+            );
+        }
+    }
+
     private static Triplet<LoopInstruction, EvaluationResult, Message> checkGenericInteractiveCommands(VaultManager vaultManager, String[] arguments) {
         Optional<CredentialManager> credentialManager = vaultManager.getCredentialManager();
         if (credentialManager.isEmpty()) {
@@ -568,10 +928,10 @@ public class ShellApplication {
             );
         }
         if (GenericInteractiveCommandType.ENCRYPT_TEXT.is(arguments[0])) {
-            Optional<String> encryptedText = vaultManager.getTokenManager().flatMap((tokenManager) -> {
-                return tokenManager.encryptText(arguments[1], arguments[2]);
+            Optional<List<String>> encryptedTexts = vaultManager.getTokenManager().flatMap((tokenManager) -> {
+                return tokenManager.encryptTexts(arguments[1], Arrays.asList(arguments).subList(2, arguments.length));
             });
-            if (encryptedText.isEmpty()) {
+            if (encryptedTexts.isEmpty()) {
                 return Triplet.of(
                         LoopInstruction.SKIP,
                         EvaluationResult.FAILURE,
@@ -581,14 +941,14 @@ public class ShellApplication {
             return Triplet.of(
                     LoopInstruction.SKIP,
                     EvaluationResult.SUCCESS,
-                    Message.of("Encrypted text: " + encryptedText.get(), true)
+                    Message.of(buildTexts("Encrypted text", encryptedTexts.get()), true)
             );
         }
         if (GenericInteractiveCommandType.DECRYPT_TEXT.is(arguments[0])) {
-            Optional<String> decryptedText = vaultManager.getTokenManager().flatMap((tokenManager) -> {
-                return tokenManager.decryptText(arguments[1], arguments[2]);
+            Optional<List<String>> decryptedTexts = vaultManager.getTokenManager().flatMap((tokenManager) -> {
+                return tokenManager.decryptTexts(arguments[1], Arrays.asList(arguments).subList(2, arguments.length));
             });
-            if (decryptedText.isEmpty()) {
+            if (decryptedTexts.isEmpty()) {
                 return Triplet.of(
                         LoopInstruction.SKIP,
                         EvaluationResult.FAILURE,
@@ -598,7 +958,7 @@ public class ShellApplication {
             return Triplet.of(
                     LoopInstruction.SKIP,
                     EvaluationResult.SUCCESS,
-                    Message.of("Decrypted text: " + decryptedText.get(), true)
+                    Message.of(buildTexts("Decrypted text", decryptedTexts.get()), true)
             );
         }
         if (GenericInteractiveCommandType.ENCRYPT_FILE.is(arguments[0])) {
@@ -641,6 +1001,27 @@ public class ShellApplication {
                     Message.of("Succeeded to decrypt file using token with identifier: " + arguments[1], true)
             );
         }
+        if (GenericInteractiveCommandType.ENCRYPT_DIRECTORY.is(arguments[0]) || GenericInteractiveCommandType.DECRYPT_DIRECTORY.is(arguments[0])) {
+            boolean isEncryption = GenericInteractiveCommandType.ENCRYPT_DIRECTORY.is(arguments[0]);
+            Optional<BatchSummary> summary = vaultManager.getTokenManager().flatMap((tokenManager) -> {
+                if (isEncryption) {
+                    return tokenManager.encryptDirectory(arguments[1], Paths.get(arguments[2]), arguments[3]);
+                }
+                return tokenManager.decryptDirectory(arguments[1], Paths.get(arguments[2]), arguments[3]);
+            });
+            if (summary.isEmpty()) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of(String.format("Failed to %s directory using token with identifier: %s", isEncryption? "encrypt":"decrypt", arguments[1]), false)
+                );
+            }
+            return Triplet.of(
+                    LoopInstruction.SKIP,
+                    summary.get().isSuccessful()? EvaluationResult.SUCCESS:EvaluationResult.FAILURE,
+                    Message.of(buildSummary(summary.get()), false)
+            );
+        }
         if (GenericInteractiveCommandType.QUIT_SHELL.is(arguments[0]) || GenericInteractiveCommandType.EXIT_SHELL.is(arguments[0])) {
             return Triplet.of(
                     LoopInstruction.EXIT,
@@ -699,7 +1080,7 @@ public class ShellApplication {
             );
         }
         if (CredentialCommandType.GET_ALL.is(arguments[0])) {
-            Optional<List<String>> credentials = credentialManager.get().getAllCredentials();
+            Optional<List<String>> credentials = credentialManager.get().getActiveCredentials();
             if (credentials.isEmpty()) {
                 return Triplet.of(
                         LoopInstruction.SKIP,
@@ -707,15 +1088,14 @@ public class ShellApplication {
                         Message.of("No credential found", false)
                 );
             }
-            return Triplet.of(
-                    LoopInstruction.SKIP,
-                    EvaluationResult.SUCCESS,
-                    Message.of(buildTable(
-                            CellSize.WRAP_SMALL,
-                            List.of("Platform"),
-                            credentials.get().stream().map(Collections::singletonList).toList()
-                    ), true)
-            );
+            if (!printTable(CellSize.WRAP_SMALL, List.of("Platform"), credentials.get().stream().map(Collections::singletonList).iterator())) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to display credentials", false)
+                );
+            }
+            return Triplet.of(LoopInstruction.SKIP, EvaluationResult.SUCCESS, Message.of(null, true));
         }
         if (CredentialCommandType.SET.is(arguments[0])) {
             if (!credentialManager.get().setCredential(arguments[1], arguments[2], arguments[3])) {
@@ -773,6 +1153,52 @@ public class ShellApplication {
                     Message.of("Succeeded to remove all credentials", false)
             );
         }
+        if (CredentialCommandType.GET_ARCHIVED.is(arguments[0])) {
+            Optional<List<String>> credentials = credentialManager.get().getArchivedCredentials();
+            if (credentials.isEmpty()) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("No archived credential found", false)
+                );
+            }
+            if (!printTable(CellSize.WRAP_SMALL, List.of("Platform"), credentials.get().stream().map(Collections::singletonList).iterator())) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to display archived credentials", false)
+                );
+            }
+            return Triplet.of(LoopInstruction.SKIP, EvaluationResult.SUCCESS, Message.of(null, true));
+        }
+        if (CredentialCommandType.RESTORE.is(arguments[0])) {
+            if (!credentialManager.get().restoreCredential(arguments[1])) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to restore credential with platform: " + arguments[1], false)
+                );
+            }
+            return Triplet.of(
+                    LoopInstruction.SKIP,
+                    EvaluationResult.SUCCESS,
+                    Message.of("Succeeded to restore credential with platform: " + arguments[1], false)
+            );
+        }
+        if (CredentialCommandType.PURGE_ARCHIVED.is(arguments[0])) {
+            if (!credentialManager.get().removeAllArchivedCredentials()) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to purge archived credentials", false)
+                );
+            }
+            return Triplet.of(
+                    LoopInstruction.SKIP,
+                    EvaluationResult.SUCCESS,
+                    Message.of("Succeeded to purge archived credentials", false)
+            );
+        }
         return Triplet.of(
                 LoopInstruction.CONTINUE,
                 EvaluationResult.SUCCESS,
@@ -813,7 +1239,7 @@ public class ShellApplication {
             );
         }
         if (TokenCommandType.GET_ALL.is(arguments[0])) {
-            Optional<List<String>> tokens = tokenManager.get().getAllTokens();
+            Optional<List<String>> tokens = tokenManager.get().getActiveTokens();
             if (tokens.isEmpty()) {
                 return Triplet.of(
                         LoopInstruction.SKIP,
@@ -821,15 +1247,14 @@ public class ShellApplication {
                         Message.of("No token found", false)
                 );
             }
-            return Triplet.of(
-                    LoopInstruction.SKIP,
-                    EvaluationResult.SUCCESS,
-                    Message.of(buildTable(
-                            CellSize.WRAP_SMALL,
-                            List.of("Identifier"),
-                            tokens.get().stream().map(Collections::singletonList).toList()
-                    ), true)
-            );
+            if (!printTable(CellSize.WRAP_SMALL, List.of("Identifier"), tokens.get().stream().map(Collections::singletonList).iterator())) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to display tokens", false)
+                );
+            }
+            return Triplet.of(LoopInstruction.SKIP, EvaluationResult.SUCCESS, Message.of(null, true));
         }
         if (TokenCommandType.SET.is(arguments[0])) {
             if (!tokenManager.get().setToken(arguments[1])) {
@@ -887,6 +1312,52 @@ public class ShellApplication {
                     Message.of("Succeeded to remove all tokens", false)
             );
         }
+        if (TokenCommandType.GET_ARCHIVED.is(arguments[0])) {
+            Optional<List<String>> tokens = tokenManager.get().getArchivedTokens();
+            if (tokens.isEmpty()) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("No archived token found", false)
+                );
+            }
+            if (!printTable(CellSize.WRAP_SMALL, List.of("Identifier"), tokens.get().stream().map(Collections::singletonList).iterator())) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to display archived tokens", false)
+                );
+            }
+            return Triplet.of(LoopInstruction.SKIP, EvaluationResult.SUCCESS, Message.of(null, true));
+        }
+        if (TokenCommandType.RESTORE.is(arguments[0])) {
+            if (!tokenManager.get().restoreToken(arguments[1])) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to restore token with identifier: " + arguments[1], false)
+                );
+            }
+            return Triplet.of(
+                    LoopInstruction.SKIP,
+                    EvaluationResult.SUCCESS,
+                    Message.of("Succeeded to restore token with identifier: " + arguments[1], false)
+            );
+        }
+        if (TokenCommandType.PURGE_ARCHIVED.is(arguments[0])) {
+            if (!tokenManager.get().removeAllArchivedTokens()) {
+                return Triplet.of(
+                        LoopInstruction.SKIP,
+                        EvaluationResult.FAILURE,
+                        Message.of("Failed to purge archived tokens", false)
+                );
+            }
+            return Triplet.of(
+                    LoopInstruction.SKIP,
+                    EvaluationResult.SUCCESS,
+                    Message.of("Succeeded to purge archived tokens", false)
+            );
+        }
         return Triplet.of(
                 LoopInstruction.CONTINUE,
                 EvaluationResult.SUCCESS,
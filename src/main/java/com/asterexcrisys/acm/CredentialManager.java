@@ -1,23 +1,34 @@
 package com.asterexcrisys.acm;
 
+import com.asterexcrisys.acm.constants.HashingConstants;
+import com.asterexcrisys.acm.constants.PersistenceConstants;
 import com.asterexcrisys.acm.exceptions.DatabaseException;
 import com.asterexcrisys.acm.exceptions.DerivationException;
 import com.asterexcrisys.acm.exceptions.EncryptionException;
 import com.asterexcrisys.acm.exceptions.HashingException;
+import com.asterexcrisys.acm.services.encryption.KeyCache;
+import com.asterexcrisys.acm.services.encryption.KeyMaterial;
 import com.asterexcrisys.acm.utility.DatabaseUtility;
 import com.asterexcrisys.acm.utility.EncryptionUtility;
 import com.asterexcrisys.acm.services.persistence.CredentialDatabase;
+import com.asterexcrisys.acm.services.persistence.MetadataIndex;
 import com.asterexcrisys.acm.services.utility.PasswordGenerator;
 import com.asterexcrisys.acm.services.utility.PasswordTester;
 import com.asterexcrisys.acm.types.encryption.Vault;
+import com.asterexcrisys.acm.types.persistence.EntryMetadata;
 import com.asterexcrisys.acm.types.utility.Pair;
 import com.asterexcrisys.acm.types.encryption.Credential;
 import com.asterexcrisys.acm.types.utility.PasswordStrength;
+import com.asterexcrisys.acm.types.utility.CacheStatistics;
+import com.asterexcrisys.acm.types.utility.Progress;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 @SuppressWarnings("unused")
 public class CredentialManager implements AutoCloseable {
@@ -27,30 +38,32 @@ public class CredentialManager implements AutoCloseable {
     private final CredentialDatabase database;
     private final PasswordGenerator generator;
     private Vault vault;
+    private boolean isOwner;
+    private KeyCache cache;
+    private final MetadataIndex index;
 
     public CredentialManager(String sealedSalt, String name, String password) throws NullPointerException, DerivationException, NoSuchAlgorithmException, HashingException, DatabaseException {
-        database = new CredentialDatabase(
-                Objects.requireNonNull(name),
-                EncryptionUtility.deriveKey(
-                        Objects.requireNonNull(password),
-                        Base64.getDecoder().decode(Objects.requireNonNull(sealedSalt))
-                ).orElseThrow(DerivationException::new)
-        );
-        generator = new PasswordGenerator();
-        vault = new Vault(sealedSalt, name, password);
-        initialize();
+        this(new Vault(sealedSalt, Objects.requireNonNull(name), Objects.requireNonNull(password)), true);
     }
 
     public CredentialManager(String sealedSalt, String hashedPassword, String name, String password) throws NullPointerException, DerivationException, NoSuchAlgorithmException, HashingException, DatabaseException {
+        this(new Vault(sealedSalt, hashedPassword, Objects.requireNonNull(name), Objects.requireNonNull(password)), true);
+    }
+
+    public CredentialManager(KeyMaterial material, String hashedPassword, String name) throws NullPointerException, DerivationException, DatabaseException {
+        this(new Vault(material, hashedPassword, name, false), false);
+    }
+
+    private CredentialManager(Vault vault, boolean isOwner) throws DerivationException, DatabaseException {
         database = new CredentialDatabase(
-                Objects.requireNonNull(name),
-                EncryptionUtility.deriveKey(
-                        Objects.requireNonNull(password),
-                        Base64.getDecoder().decode(Objects.requireNonNull(sealedSalt))
-                ).orElseThrow(DerivationException::new)
+                vault.getName(),
+                vault.getKeyMaterial().getSealedKey().orElseThrow(DerivationException::new)
         );
         generator = new PasswordGenerator();
-        vault = new Vault(sealedSalt, hashedPassword, name, password);
+        this.vault = vault;
+        this.isOwner = isOwner;
+        cache = new KeyCache();
+        index = new MetadataIndex();
         initialize();
     }
 
@@ -61,24 +74,17 @@ public class CredentialManager implements AutoCloseable {
         return Optional.of(vault);
     }
 
-    // TODO: make sure to also change SQLite's master key
     public boolean setVault(String sealedSalt, String hashedPassword, String password) {
+        return setVault(sealedSalt, hashedPassword, password, null);
+    }
+
+    public boolean setVault(String sealedSalt, String hashedPassword, String password, Consumer<Progress> listener) {
         try {
-            Vault vault = new Vault(sealedSalt, hashedPassword, this.vault.getName(), password);
-            Optional<List<String>> platforms = database.getAllCredentials();
-            if (platforms.isEmpty()) {
+            KeyMaterial material = new KeyMaterial(password, sealedSalt);
+            if (!setVault(material, hashedPassword, listener, true)) {
+                material.close();
                 return false;
             }
-            for (String platform : platforms.get()) {
-                Optional<Credential> credential = database.getCredential(platform, this.vault.getEncryptor());
-                if (credential.isEmpty()) {
-                    return false;
-                }
-                if (!database.saveCredential(credential.get(), vault.getEncryptor())) {
-                    return false;
-                }
-            }
-            this.vault = vault;
             return true;
         } catch (DerivationException e) {
             LOGGER.warning("Error setting vault: " + e.getMessage());
@@ -86,13 +92,44 @@ public class CredentialManager implements AutoCloseable {
         }
     }
 
-    // TODO: add a command to check expired credentials/tokens and do not allow them to be seen
+    public boolean setVault(KeyMaterial material, String hashedPassword, Consumer<Progress> listener) {
+        return setVault(material, hashedPassword, listener, false);
+    }
+
     public Optional<Credential> getCredential(String platform) {
-        return database.getCredential(platform, vault.getEncryptor());
+        Instant now = Instant.now();
+        if (!index.isActive(platform, now)) {
+            return Optional.empty();
+        }
+        return database.getCredential(platform, vault.getEncryptor(), cache).filter((credential) -> {
+            return credential.getExpiration().map(now::isBefore).orElse(true);
+        });
     }
 
     public Optional<List<String>> getAllCredentials() {
-        return database.getAllCredentials();
+        return Optional.of(index.getAll());
+    }
+
+    public Optional<List<String>> getActiveCredentials() {
+        return Optional.of(index.getActive(Instant.now()));
+    }
+
+    public Optional<List<String>> getExpiringWithin(Duration duration) {
+        if (duration == null || duration.isNegative()) {
+            return Optional.empty();
+        }
+        return Optional.of(index.getExpiringWithin(Instant.now(), duration));
+    }
+
+    public Optional<Stream<String>> streamAllCredentials() {
+        return Optional.of(index.stream());
+    }
+
+    public Optional<List<String>> listCredentials(String afterPlatform, int limit) {
+        if (limit < 1) {
+            return Optional.empty();
+        }
+        return Optional.of(index.list(afterPlatform, limit));
     }
 
     public boolean setCredential(String platform, String username, String password) {
@@ -109,7 +146,7 @@ public class CredentialManager implements AutoCloseable {
                     false
             );
             oldCredential.get().getExpiration().ifPresent(newCredential::setExpiration);
-            return database.saveCredential(newCredential, vault.getEncryptor());
+            return saveCredential(newCredential);
         } catch (EncryptionException e) {
             LOGGER.warning("Error updating credential: " + e.getMessage());
             return false;
@@ -130,7 +167,7 @@ public class CredentialManager implements AutoCloseable {
                     false
             );
             newCredential.setExpiration(expiration);
-            return database.saveCredential(newCredential, vault.getEncryptor());
+            return saveCredential(newCredential);
         } catch (EncryptionException e) {
             LOGGER.warning("Error updating credential: " + e.getMessage());
             return false;
@@ -138,14 +175,11 @@ public class CredentialManager implements AutoCloseable {
     }
 
     public boolean addCredential(String platform, String username, String password) {
-        if (getCredential(platform).isPresent()) {
+        if (index.isActive(platform, Instant.now())) {
             return false;
         }
         try {
-            return database.saveCredential(
-                    new Credential(platform, username, password),
-                    vault.getEncryptor()
-            );
+            return saveCredential(new Credential(platform, username, password));
         } catch (EncryptionException e) {
             LOGGER.warning("Error adding credential: " + e.getMessage());
             return false;
@@ -153,36 +187,92 @@ public class CredentialManager implements AutoCloseable {
     }
 
     public boolean addCredential(String platform, String username, String password, Instant expiration) {
-        if (getCredential(platform).isPresent()) {
+        if (index.isActive(platform, Instant.now())) {
             return false;
         }
         try {
             Credential credential = new Credential(platform, username, password);
             credential.setExpiration(expiration);
-            return database.saveCredential(credential, vault.getEncryptor());
+            return saveCredential(credential);
         } catch (EncryptionException e) {
             LOGGER.warning("Error adding credential: " + e.getMessage());
             return false;
         }
     }
 
+    public boolean saveCredentials(Collection<Credential> credentials) {
+        cache.invalidateAll();
+        if (!database.saveCredentials(credentials, vault.getEncryptor())) {
+            return false;
+        }
+        for (Credential credential : credentials) {
+            index.put(toMetadata(credential));
+        }
+        return true;
+    }
+
     public boolean removeCredential(String platform) {
-        return database.removeCredential(platform);
+        cache.invalidate(platform);
+        if (!database.removeCredential(platform)) {
+            return false;
+        }
+        index.remove(platform);
+        return true;
     }
 
     public boolean removeAllCredentials() {
-        return database.removeAllCredentials();
+        cache.invalidateAll();
+        if (!database.removeAllCredentials()) {
+            loadIndex();
+            return false;
+        }
+        index.clear();
+        return true;
+    }
+
+    public Optional<List<String>> getArchivedCredentials() {
+        return database.getAllArchivedCredentials();
+    }
+
+    public boolean restoreCredential(String platform) {
+        return restoreCredential(platform, null);
+    }
+
+    public boolean restoreCredential(String platform, Instant expiration) {
+        Instant now = Instant.now();
+        if (platform == null || (expiration != null && !expiration.isAfter(now))) {
+            return false;
+        }
+        cache.invalidate(platform);
+        if (!database.restoreCredential(platform, expiration, now)) {
+            return false;
+        }
+        index.put(EntryMetadata.of(platform, now, expiration));
+        return true;
+    }
+
+    public boolean removeArchivedCredential(String platform) {
+        return database.removeArchivedCredential(platform);
+    }
+
+    public boolean removeAllArchivedCredentials() {
+        return database.removeAllArchivedCredentials();
     }
 
     public boolean importVault(Path file, String password, byte[] salt, boolean shouldOverwrite) {
+        return importVault(file, password, salt, HashingConstants.KEY_ITERATION_COUNT, shouldOverwrite);
+    }
+
+    public boolean importVault(Path file, String password, byte[] salt, int iterationCount, boolean shouldOverwrite) {
+        cache.invalidateAll();
         if (shouldOverwrite) {
-            return database.restoreFrom(file);
+            return database.restoreFrom(file) && loadIndex();
         }
-        Optional<String> masterKey = EncryptionUtility.deriveKey(password, salt);
+        Optional<String> masterKey = EncryptionUtility.deriveKey(password, salt, iterationCount);
         if (masterKey.isEmpty()) {
             return false;
         }
-        return database.mergeWith(file, masterKey.get());
+        return database.mergeWith(file, masterKey.get()) && loadIndex();
     }
 
     public boolean exportVault(Path file) {
@@ -191,7 +281,8 @@ public class CredentialManager implements AutoCloseable {
         }
         return DatabaseUtility.constructExport(
                 file,
-                Base64.getDecoder().decode(vault.getEncryptor().getSealedSalt())
+                Base64.getDecoder().decode(vault.getEncryptor().getSealedSalt()),
+                vault.getKeyMaterial().getIterationCount()
         );
     }
 
@@ -216,8 +307,68 @@ public class CredentialManager implements AutoCloseable {
         return Optional.of(Pair.of(passwordTester.getStrengthGrade(), passwordTester.getSafetyAdvices()));
     }
     
+    public CacheStatistics getKeyCacheStatistics() {
+        return cache.getStatistics();
+    }
+
+    public boolean configureKeyCache(int maximumSize, Duration timeToLive) {
+        try {
+            KeyCache cache = new KeyCache(maximumSize, timeToLive);
+            this.cache.close();
+            this.cache = cache;
+            return true;
+        } catch (NullPointerException | IllegalArgumentException e) {
+            LOGGER.warning("Error configuring key cache: " + e.getMessage());
+            return false;
+        }
+    }
+
     public void close() {
         database.close();
+        cache.close();
+        index.clear();
+        if (isOwner) {
+            vault.getKeyMaterial().close();
+        }
+    }
+
+    private boolean setVault(KeyMaterial material, String hashedPassword, Consumer<Progress> listener, boolean isOwner) {
+        if (material == null || hashedPassword == null) {
+            return false;
+        }
+        try {
+            Optional<String> masterKey = material.getSealedKey();
+            if (masterKey.isEmpty()) {
+                return false;
+            }
+            Vault vault = new Vault(material, hashedPassword, this.vault.getName(), false);
+            if (!database.rekeyCredentials(this.vault.getEncryptor(), vault.getEncryptor(), masterKey.get(), listener)) {
+                return false;
+            }
+            if (this.isOwner) {
+                this.vault.getKeyMaterial().close();
+            }
+            this.vault = vault;
+            this.isOwner = isOwner;
+            cache.invalidateAll();
+            return true;
+        } catch (DerivationException e) {
+            LOGGER.warning("Error setting vault: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean saveCredential(Credential credential) {
+        cache.invalidate(credential.getPlatform());
+        if (!database.saveCredential(credential, vault.getEncryptor())) {
+            return false;
+        }
+        index.put(toMetadata(credential));
+        return true;
+    }
+
+    private boolean loadIndex() {
+        return index.load(database.getAllCredentialMetadata().orElse(null));
     }
 
     private void initialize() throws DatabaseException {
@@ -227,6 +378,16 @@ public class CredentialManager implements AutoCloseable {
         if (!database.createTable()) {
             throw new DatabaseException("Could not create table on credentials database");
         }
+        if (!loadIndex()) {
+            throw new DatabaseException("Could not load metadata of credentials database");
+        }
+        if (!database.startSweeper(PersistenceConstants.SWEEP_INTERVAL, index::removeExpired)) {
+            LOGGER.warning("Error starting the expiry sweeper of credentials database");
+        }
+    }
+
+    private static EntryMetadata toMetadata(Credential credential) {
+        return EntryMetadata.of(credential.getPlatform(), credential.getLastModification(), credential.getExpiration().orElse(null));
     }
 
 }
\ No newline at end of file
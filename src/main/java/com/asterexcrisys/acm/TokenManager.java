@@ -1,23 +1,40 @@
 package com.asterexcrisys.acm;
 
+import com.asterexcrisys.acm.constants.HashingConstants;
+import com.asterexcrisys.acm.constants.PersistenceConstants;
 import com.asterexcrisys.acm.exceptions.DatabaseException;
 import com.asterexcrisys.acm.exceptions.DerivationException;
 import com.asterexcrisys.acm.exceptions.EncryptionException;
 import com.asterexcrisys.acm.exceptions.HashingException;
+import com.asterexcrisys.acm.services.encryption.DirectoryEncryptor;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.encryption.KeyCache;
+import com.asterexcrisys.acm.services.encryption.KeyMaterial;
 import com.asterexcrisys.acm.services.persistence.TokenDatabase;
+import com.asterexcrisys.acm.services.persistence.MetadataIndex;
+import com.asterexcrisys.acm.types.encryption.BatchSummary;
 import com.asterexcrisys.acm.types.encryption.CipherMode;
 import com.asterexcrisys.acm.types.encryption.Token;
 import com.asterexcrisys.acm.types.encryption.Vault;
+import com.asterexcrisys.acm.types.persistence.EntryMetadata;
+import com.asterexcrisys.acm.types.utility.CacheStatistics;
+import com.asterexcrisys.acm.types.utility.Progress;
 import com.asterexcrisys.acm.utility.DatabaseUtility;
 import com.asterexcrisys.acm.utility.EncryptionUtility;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 @SuppressWarnings("unused")
 public class TokenManager implements AutoCloseable {
@@ -26,28 +43,31 @@ public class TokenManager implements AutoCloseable {
 
     private final TokenDatabase database;
     private Vault vault;
+    private boolean isOwner;
+    private KeyCache cache;
+    private final MetadataIndex index;
 
     public TokenManager(String sealedSalt, String name, String password) throws NullPointerException, DerivationException, NoSuchAlgorithmException, HashingException, DatabaseException {
-        database = new TokenDatabase(
-                Objects.requireNonNull(name),
-                EncryptionUtility.deriveKey(
-                        Objects.requireNonNull(password),
-                        Base64.getDecoder().decode(Objects.requireNonNull(sealedSalt))
-                ).orElseThrow(DerivationException::new)
-        );
-        vault = new Vault(sealedSalt, name, password);
-        initialize();
+        this(new Vault(sealedSalt, Objects.requireNonNull(name), Objects.requireNonNull(password)), true);
     }
 
     public TokenManager(String sealedSalt, String hashedPassword, String name, String password) throws NullPointerException, DerivationException, NoSuchAlgorithmException, HashingException, DatabaseException {
+        this(new Vault(sealedSalt, hashedPassword, Objects.requireNonNull(name), Objects.requireNonNull(password)), true);
+    }
+
+    public TokenManager(KeyMaterial material, String hashedPassword, String name) throws NullPointerException, DerivationException, DatabaseException {
+        this(new Vault(material, hashedPassword, name, false), false);
+    }
+
+    private TokenManager(Vault vault, boolean isOwner) throws DerivationException, DatabaseException {
         database = new TokenDatabase(
-                Objects.requireNonNull(name),
-                EncryptionUtility.deriveKey(
-                        Objects.requireNonNull(password),
-                        Base64.getDecoder().decode(Objects.requireNonNull(sealedSalt))
-                ).orElseThrow(DerivationException::new)
+                vault.getName(),
+                vault.getKeyMaterial().getSealedKey().orElseThrow(DerivationException::new)
         );
-        vault = new Vault(sealedSalt, hashedPassword, name, password);
+        this.vault = vault;
+        this.isOwner = isOwner;
+        cache = new KeyCache();
+        index = new MetadataIndex();
         initialize();
     }
 
@@ -58,24 +78,17 @@ public class TokenManager implements AutoCloseable {
         return Optional.of(vault);
     }
 
-    // TODO: make sure to also change SQLite's master key
     public boolean setVault(String sealedSalt, String hashedPassword, String password) {
+        return setVault(sealedSalt, hashedPassword, password, null);
+    }
+
+    public boolean setVault(String sealedSalt, String hashedPassword, String password, Consumer<Progress> listener) {
         try {
-            Vault vault = new Vault(sealedSalt, hashedPassword, this.vault.getName(), password);
-            Optional<List<String>> identifiers = database.getAllTokens();
-            if (identifiers.isEmpty()) {
+            KeyMaterial material = new KeyMaterial(password, sealedSalt);
+            if (!setVault(material, hashedPassword, listener, true)) {
+                material.close();
                 return false;
             }
-            for (String platform : identifiers.get()) {
-                Optional<Token> token = database.getToken(platform, this.vault.getEncryptor());
-                if (token.isEmpty()) {
-                    return false;
-                }
-                if (!database.saveToken(token.get(), vault.getEncryptor())) {
-                    return false;
-                }
-            }
-            this.vault = vault;
             return true;
         } catch (DerivationException e) {
             LOGGER.warning("Error setting vault: " + e.getMessage());
@@ -83,12 +96,51 @@ public class TokenManager implements AutoCloseable {
         }
     }
 
+    public boolean setVault(KeyMaterial material, String hashedPassword, Consumer<Progress> listener) {
+        return setVault(material, hashedPassword, listener, false);
+    }
+
     public Optional<Token> getToken(String identifier) {
-        return database.getToken(identifier, vault.getEncryptor());
+        Instant now = Instant.now();
+        if (!index.isActive(identifier, now)) {
+            return Optional.empty();
+        }
+        return database.getToken(identifier, vault.getEncryptor(), cache).filter((token) -> {
+            return token.getExpiration().map(now::isBefore).orElse(true);
+        });
+    }
+
+    public Optional<GenericEncryptor> getEncryptor(String identifier) {
+        if (!index.isActive(identifier, Instant.now())) {
+            return Optional.empty();
+        }
+        return cache.resolve(identifier, (key) -> getToken(key).map(Token::getEncryptor));
     }
 
     public Optional<List<String>> getAllTokens() {
-        return database.getAllTokens();
+        return Optional.of(index.getAll());
+    }
+
+    public Optional<List<String>> getActiveTokens() {
+        return Optional.of(index.getActive(Instant.now()));
+    }
+
+    public Optional<List<String>> getExpiringWithin(Duration duration) {
+        if (duration == null || duration.isNegative()) {
+            return Optional.empty();
+        }
+        return Optional.of(index.getExpiringWithin(Instant.now(), duration));
+    }
+
+    public Optional<Stream<String>> streamAllTokens() {
+        return Optional.of(index.stream());
+    }
+
+    public Optional<List<String>> listTokens(String afterIdentifier, int limit) {
+        if (limit < 1) {
+            return Optional.empty();
+        }
+        return Optional.of(index.list(afterIdentifier, limit));
     }
 
     public boolean setToken(String identifier) {
@@ -99,7 +151,7 @@ public class TokenManager implements AutoCloseable {
         try {
             Token newToken = new Token(oldToken.get().getIdentifier());
             oldToken.get().getExpiration().ifPresent(newToken::setExpiration);
-            return database.saveToken(newToken, vault.getEncryptor());
+            return saveToken(newToken);
         } catch (EncryptionException e) {
             LOGGER.warning("Error updating token: " + e.getMessage());
             return false;
@@ -114,7 +166,7 @@ public class TokenManager implements AutoCloseable {
         try {
             Token newToken = new Token(oldToken.get().getIdentifier());
             newToken.setExpiration(expiration);
-            return database.saveToken(newToken, vault.getEncryptor());
+            return saveToken(newToken);
         } catch (EncryptionException e) {
             LOGGER.warning("Error updating token: " + e.getMessage());
             return false;
@@ -122,11 +174,11 @@ public class TokenManager implements AutoCloseable {
     }
 
     public boolean addToken(String identifier) {
-        if (getToken(identifier).isPresent()) {
+        if (index.isActive(identifier, Instant.now())) {
             return false;
         }
         try {
-            return database.saveToken(new Token(identifier), vault.getEncryptor());
+            return saveToken(new Token(identifier));
         } catch (EncryptionException e) {
             LOGGER.warning("Error adding token: " + e.getMessage());
             return false;
@@ -134,68 +186,132 @@ public class TokenManager implements AutoCloseable {
     }
 
     public boolean addCredential(String identifier, Instant expiration) {
-        if (getToken(identifier).isPresent()) {
+        if (index.isActive(identifier, Instant.now())) {
             return false;
         }
         try {
             Token token = new Token(identifier);
             token.setExpiration(expiration);
-            return database.saveToken(token, vault.getEncryptor());
+            return saveToken(token);
         } catch (EncryptionException e) {
             LOGGER.warning("Error adding token: " + e.getMessage());
             return false;
         }
     }
 
+    public boolean saveTokens(Collection<Token> tokens) {
+        cache.invalidateAll();
+        if (!database.saveTokens(tokens, vault.getEncryptor())) {
+            return false;
+        }
+        for (Token token : tokens) {
+            index.put(toMetadata(token));
+        }
+        return true;
+    }
+
     public boolean removeToken(String identifier) {
-        return database.removeToken(identifier);
+        cache.invalidate(identifier);
+        if (!database.removeToken(identifier)) {
+            return false;
+        }
+        index.remove(identifier);
+        return true;
     }
 
     public boolean removeAllTokens() {
-        return database.removeAllTokens();
+        cache.invalidateAll();
+        if (!database.removeAllTokens()) {
+            loadIndex();
+            return false;
+        }
+        index.clear();
+        return true;
     }
 
-    public Optional<String> encryptText(String identifier, String text) {
-        Optional<Token> token = getToken(identifier);
-        if (token.isEmpty()) {
-            return Optional.empty();
+    public Optional<List<String>> getArchivedTokens() {
+        return database.getAllArchivedTokens();
+    }
+
+    public boolean restoreToken(String identifier) {
+        return restoreToken(identifier, null);
+    }
+
+    public boolean restoreToken(String identifier, Instant expiration) {
+        Instant now = Instant.now();
+        if (identifier == null || (expiration != null && !expiration.isAfter(now))) {
+            return false;
         }
-        return token.get().getEncryptor().encrypt(text);
+        cache.invalidate(identifier);
+        if (!database.restoreToken(identifier, expiration, now)) {
+            return false;
+        }
+        index.put(EntryMetadata.of(identifier, now, expiration));
+        return true;
+    }
+
+    public boolean removeArchivedToken(String identifier) {
+        return database.removeArchivedToken(identifier);
+    }
+
+    public boolean removeAllArchivedTokens() {
+        return database.removeAllArchivedTokens();
+    }
+
+    public Optional<String> encryptText(String identifier, String text) {
+        return getEncryptor(identifier).flatMap((encryptor) -> encryptor.encryptDerived(text));
+    }
+
+    public Optional<List<String>> encryptTexts(String identifier, List<String> texts) {
+        return transformTexts(identifier, texts, GenericEncryptor::encryptDerived);
     }
 
     public Optional<String> decryptText(String identifier, String text) {
-        Optional<Token> token = getToken(identifier);
-        if (token.isEmpty()) {
-            return Optional.empty();
-        }
-        return token.get().getEncryptor().decrypt(text);
+        return getEncryptor(identifier).flatMap((encryptor) -> encryptor.decryptDerived(text));
+    }
+
+    public Optional<List<String>> decryptTexts(String identifier, List<String> texts) {
+        return transformTexts(identifier, texts, GenericEncryptor::decryptDerived);
     }
 
     public boolean encryptFile(String identifier, Path file) {
-        Optional<Token> token = getToken(identifier);
-        if (token.isEmpty()) {
+        Optional<GenericEncryptor> encryptor = getEncryptor(identifier);
+        if (encryptor.isEmpty()) {
             return false;
         }
-        return EncryptionUtility.transformFile(token.get().getEncryptor(), CipherMode.ENCRYPT, file);
+        return EncryptionUtility.transformFile(encryptor.get(), CipherMode.ENCRYPT, file);
     }
 
     public boolean decryptFile(String identifier, Path file) {
-        Optional<Token> token = getToken(identifier);
-        if (token.isEmpty()) {
+        Optional<GenericEncryptor> encryptor = getEncryptor(identifier);
+        if (encryptor.isEmpty()) {
             return false;
         }
-        return EncryptionUtility.transformFile(token.get().getEncryptor(), CipherMode.DECRYPT, file);
+        return EncryptionUtility.transformFile(encryptor.get(), CipherMode.DECRYPT, file);
+    }
+
+    public Optional<BatchSummary> encryptDirectory(String identifier, Path directory, String glob) {
+        return getEncryptor(identifier).flatMap((encryptor) -> new DirectoryEncryptor(encryptor).encrypt(directory, glob));
+    }
+
+    public Optional<BatchSummary> decryptDirectory(String identifier, Path directory, String glob) {
+        return getEncryptor(identifier).flatMap((encryptor) -> new DirectoryEncryptor(encryptor).decrypt(directory, glob));
     }
 
     public boolean importVault(Path file, String password, byte[] salt, boolean shouldOverwrite) {
+        return importVault(file, password, salt, HashingConstants.KEY_ITERATION_COUNT, shouldOverwrite);
+    }
+
+    public boolean importVault(Path file, String password, byte[] salt, int iterationCount, boolean shouldOverwrite) {
+        cache.invalidateAll();
         if (shouldOverwrite) {
-            return database.restoreFrom(file);
+            return database.restoreFrom(file) && loadIndex();
         }
-        Optional<String> masterKey = EncryptionUtility.deriveKey(password, salt);
+        Optional<String> masterKey = EncryptionUtility.deriveKey(password, salt, iterationCount);
         if (masterKey.isEmpty()) {
             return false;
         }
-        return database.mergeWith(file, masterKey.get());
+        return database.mergeWith(file, masterKey.get()) && loadIndex();
     }
 
     public boolean exportVault(Path file) {
@@ -204,12 +320,96 @@ public class TokenManager implements AutoCloseable {
         }
         return DatabaseUtility.constructExport(
                 file,
-                Base64.getDecoder().decode(vault.getEncryptor().getSealedSalt())
+                Base64.getDecoder().decode(vault.getEncryptor().getSealedSalt()),
+                vault.getKeyMaterial().getIterationCount()
         );
     }
 
+    public CacheStatistics getKeyCacheStatistics() {
+        return cache.getStatistics();
+    }
+
+    public CacheStatistics getEncryptorCacheStatistics() {
+        return cache.getEncryptorStatistics();
+    }
+
+    public boolean configureKeyCache(int maximumSize, Duration timeToLive) {
+        try {
+            KeyCache cache = new KeyCache(maximumSize, timeToLive);
+            this.cache.close();
+            this.cache = cache;
+            return true;
+        } catch (NullPointerException | IllegalArgumentException e) {
+            LOGGER.warning("Error configuring key cache: " + e.getMessage());
+            return false;
+        }
+    }
+
     public void close() {
         database.close();
+        cache.close();
+        index.clear();
+        if (isOwner) {
+            vault.getKeyMaterial().close();
+        }
+    }
+
+    private boolean setVault(KeyMaterial material, String hashedPassword, Consumer<Progress> listener, boolean isOwner) {
+        if (material == null || hashedPassword == null) {
+            return false;
+        }
+        try {
+            Optional<String> masterKey = material.getSealedKey();
+            if (masterKey.isEmpty()) {
+                return false;
+            }
+            Vault vault = new Vault(material, hashedPassword, this.vault.getName(), false);
+            if (!database.rekeyTokens(this.vault.getEncryptor(), vault.getEncryptor(), masterKey.get(), listener)) {
+                return false;
+            }
+            if (this.isOwner) {
+                this.vault.getKeyMaterial().close();
+            }
+            this.vault = vault;
+            this.isOwner = isOwner;
+            cache.invalidateAll();
+            return true;
+        } catch (DerivationException e) {
+            LOGGER.warning("Error setting vault: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Optional<List<String>> transformTexts(String identifier, List<String> texts, BiFunction<GenericEncryptor, String, Optional<String>> transformer) {
+        if (texts == null || texts.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<GenericEncryptor> encryptor = getEncryptor(identifier);
+        if (encryptor.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> results = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            Optional<String> result = transformer.apply(encryptor.get(), text);
+            if (result.isEmpty()) {
+                return Optional.empty();
+            }
+            results.add(result.get());
+        }
+        return Optional.of(results);
+    }
+
+    private boolean saveToken(Token token) {
+        cache.invalidate(token.getIdentifier());
+        if (!database.saveToken(token, vault.getEncryptor())) {
+            return false;
+        }
+        index.put(toMetadata(token));
+        return true;
+    }
+
+    private boolean loadIndex() {
+        return index.load(database.getAllTokenMetadata().orElse(null));
     }
 
     private void initialize() throws DatabaseException {
@@ -219,6 +419,16 @@ public class TokenManager implements AutoCloseable {
         if (!database.createTable()) {
             throw new DatabaseException("Could not create table on tokens database");
         }
+        if (!loadIndex()) {
+            throw new DatabaseException("Could not load metadata of tokens database");
+        }
+        if (!database.startSweeper(PersistenceConstants.SWEEP_INTERVAL, index::removeExpired)) {
+            LOGGER.warning("Error starting the expiry sweeper of tokens database");
+        }
+    }
+
+    private static EntryMetadata toMetadata(Token token) {
+        return EntryMetadata.of(token.getIdentifier(), token.getLastModification(), token.getExpiration().orElse(null));
     }
 
 }
\ No newline at end of file
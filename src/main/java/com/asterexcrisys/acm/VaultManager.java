@@ -1,18 +1,26 @@
 package com.asterexcrisys.acm;
 
+import com.asterexcrisys.acm.constants.HashingConstants;
 import com.asterexcrisys.acm.exceptions.DatabaseException;
 import com.asterexcrisys.acm.exceptions.DerivationException;
 import com.asterexcrisys.acm.exceptions.HashingException;
 import com.asterexcrisys.acm.services.authentication.Authentication;
 import com.asterexcrisys.acm.services.authentication.filters.VerificationDatabaseFilter;
+import com.asterexcrisys.acm.services.encryption.KeyEncryptor;
+import com.asterexcrisys.acm.services.encryption.KeyMaterial;
+import com.asterexcrisys.acm.types.encryption.HashingPolicy;
 import com.asterexcrisys.acm.types.encryption.VaultType;
 import com.asterexcrisys.acm.utility.DatabaseUtility;
 import com.asterexcrisys.acm.utility.EncryptionUtility;
+import com.asterexcrisys.acm.utility.HashingUtility;
+import com.asterexcrisys.acm.services.persistence.CredentialDatabase;
+import com.asterexcrisys.acm.services.persistence.TokenDatabase;
 import com.asterexcrisys.acm.services.persistence.VaultDatabase;
 import com.asterexcrisys.acm.services.utility.PasswordTester;
 import com.asterexcrisys.acm.types.encryption.Vault;
 import com.asterexcrisys.acm.types.utility.Pair;
 import com.asterexcrisys.acm.types.utility.PasswordStrength;
+import com.asterexcrisys.acm.types.utility.Progress;
 import com.asterexcrisys.acm.utility.PathUtility;
 import javax.crypto.SecretKey;
 import java.io.IOException;
@@ -20,10 +28,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 @SuppressWarnings("unused")
@@ -32,11 +42,13 @@ public class VaultManager implements AutoCloseable {
     private static final Logger LOGGER = Logger.getLogger(VaultManager.class.getName());
 
     private final VaultDatabase database;
+    private KeyMaterial material;
     private CredentialManager credentialManager;
     private TokenManager tokenManager;
 
     public VaultManager(SecretKey masterKey) throws NullPointerException, DatabaseException {
         database = new VaultDatabase(Base64.getEncoder().encodeToString(masterKey.getEncoded()));
+        material = null;
         credentialManager = null;
         tokenManager = null;
         initialize();
@@ -47,6 +59,7 @@ public class VaultManager implements AutoCloseable {
                 Objects.requireNonNull(sealedKey),
                 Base64.getDecoder().decode(Objects.requireNonNull(sealedSalt))
         ).orElseThrow(DerivationException::new));
+        material = null;
         credentialManager = null;
         tokenManager = null;
         initialize();
@@ -82,21 +95,21 @@ public class VaultManager implements AutoCloseable {
             if (vault.isEmpty()) {
                 return false;
             }
-            credentialManager = new CredentialManager(
-                    vault.get().getEncryptor().getSealedSalt(),
-                    vault.get().getHashedPassword(),
-                    name,
-                    password
-            );
-            tokenManager = new TokenManager(
-                    vault.get().getEncryptor().getSealedSalt(),
-                    vault.get().getHashedPassword(),
-                    name,
-                    password
-            );
-            return true;
-        } catch (NoSuchAlgorithmException | DerivationException | HashingException | DatabaseException e) {
+            material = vault.get().getKeyMaterial();
+            if (!recoverVault(vault.get())) {
+                LOGGER.severe("Error recovering interrupted rekey of vault: " + name);
+                logout();
+                return false;
+            }
+            credentialManager = new CredentialManager(material, vault.get().getHashedPassword(), name);
+            tokenManager = new TokenManager(material, vault.get().getHashedPassword(), name);
+            if (!upgradeVault(vault.get(), password)) {
+                LOGGER.warning("Error upgrading vault to the current hashing policy: " + name);
+            }
+            return isAuthenticated();
+        } catch (DerivationException | DatabaseException e) {
             LOGGER.severe("Error authenticating user to vault: " + e.getMessage());
+            logout();
             return false;
         }
     }
@@ -109,8 +122,11 @@ public class VaultManager implements AutoCloseable {
         return database.getAllVaults(false);
     }
 
-    // TODO: make sure to also change SQLite's master key
     public boolean setVault(String name, String oldPassword, String newPassword) {
+        return setVault(name, oldPassword, newPassword, null);
+    }
+
+    public boolean setVault(String name, String oldPassword, String newPassword, Consumer<Progress> listener) {
         if (credentialManager != null) {
             return false;
         }
@@ -122,19 +138,8 @@ public class VaultManager implements AutoCloseable {
             if (oldVault.isEmpty()) {
                 return false;
             }
-            Vault newVault = new Vault(name, newPassword, oldVault.get().isLocked());
-            if (!database.saveVault(newVault)) {
-                return false;
-            }
-            return credentialManager.setVault(
-                    newVault.getEncryptor().getSealedSalt(),
-                    newVault.getHashedPassword(),
-                    newPassword
-            ) && tokenManager.setVault(
-                    newVault.getEncryptor().getSealedSalt(),
-                    newVault.getHashedPassword(),
-                    newPassword
-            );
+            String hashedPassword = HashingUtility.hashPassword(newPassword).orElseThrow(HashingException::new);
+            return replaceVault(oldVault.get(), new KeyMaterial(newPassword), hashedPassword, listener);
         } catch (DerivationException | NoSuchAlgorithmException | HashingException e) {
             LOGGER.warning("Error setting vault: " + e.getMessage());
             return false;
@@ -146,28 +151,25 @@ public class VaultManager implements AutoCloseable {
             return false;
         }
         try {
-            if (!database.saveVault(new Vault(name, password))) {
-                return false;
-            }
-            Files.createDirectories(Paths.get(String.format("./data/%s/", name)));
-            return true;
-        } catch (NoSuchAlgorithmException | IOException | HashingException | DerivationException e) {
+            return addVault(new Vault(name, password));
+        } catch (NoSuchAlgorithmException | HashingException | DerivationException e) {
             LOGGER.warning("Error adding vault: " + e.getMessage());
             return false;
         }
     }
 
     public boolean addVault(String sealedSalt, String name, String password) {
+        return addVault(sealedSalt, HashingConstants.KEY_ITERATION_COUNT, name, password);
+    }
+
+    public boolean addVault(String sealedSalt, int iterationCount, String name, String password) {
         if (getVault(name, password).isPresent()) {
             return false;
         }
         try {
-            if (!database.saveVault(new Vault(sealedSalt, name, password))) {
-                return false;
-            }
-            Files.createDirectories(Paths.get(String.format("./data/%s/", name)));
-            return true;
-        } catch (NoSuchAlgorithmException | IOException | HashingException | DerivationException e) {
+            String hashedPassword = HashingUtility.hashPassword(password).orElseThrow(HashingException::new);
+            return addVault(new Vault(new KeyMaterial(password, sealedSalt, iterationCount), hashedPassword, name, false));
+        } catch (NullPointerException | IllegalArgumentException | HashingException | DerivationException e) {
             LOGGER.warning("Error adding vault: " + e.getMessage());
             return false;
         }
@@ -203,28 +205,21 @@ public class VaultManager implements AutoCloseable {
         if (isAuthenticated()) {
             return false;
         }
-        Optional<byte[]> salt = getVault(name, password).or(() -> {
-            Optional<byte[]> decodedSalt = DatabaseUtility.deconstructImport(file);
-            if (decodedSalt.isEmpty()) {
-                return Optional.empty();
-            }
-            if (!addVault(Base64.getEncoder().encodeToString(decodedSalt.get()), name, password)) {
-                return Optional.empty();
-            }
-            return getVault(name, password);
-        }).map((vault) -> {
-            String encodedSalt = vault.getEncryptor().getSealedSalt();
-            return Base64.getDecoder().decode(encodedSalt);
-        });
-        if (salt.isEmpty()) {
+        Optional<Pair<byte[], Integer>> parameters = DatabaseUtility.deconstructImport(file);
+        if (parameters.isEmpty()) {
+            return false;
+        }
+        byte[] salt = parameters.get().first();
+        int iterationCount = parameters.get().second();
+        if (getVault(name, password).isEmpty() && !addVault(Base64.getEncoder().encodeToString(salt), iterationCount, name, password)) {
             return false;
         }
         if (!authenticate(name, password)) {
             return false;
         }
         return switch (type) {
-            case CREDENTIAL -> credentialManager.importVault(file, password, salt.get(), false);
-            case TOKEN -> tokenManager.importVault(file, password, salt.get(), false);
+            case CREDENTIAL -> credentialManager.importVault(file, password, salt, iterationCount, false);
+            case TOKEN -> tokenManager.importVault(file, password, salt, iterationCount, false);
         };
     }
 
@@ -253,8 +248,7 @@ public class VaultManager implements AutoCloseable {
         return Pair.of(passwordTester.getStrengthGrade(), passwordTester.getSafetyAdvices());
     }
     
-    public void close() {
-        database.close();
+    public void logout() {
         if (credentialManager != null) {
             credentialManager.close();
             credentialManager = null;
@@ -263,6 +257,124 @@ public class VaultManager implements AutoCloseable {
             tokenManager.close();
             tokenManager = null;
         }
+        if (material != null) {
+            material.close();
+            material = null;
+        }
+    }
+
+    public void close() {
+        database.close();
+        logout();
+    }
+
+    private boolean addVault(Vault vault) {
+        try {
+            if (!database.saveVault(vault)) {
+                return false;
+            }
+            Files.createDirectories(Paths.get(String.format("./data/%s/", vault.getName())));
+            return true;
+        } catch (IOException e) {
+            LOGGER.warning("Error adding vault: " + e.getMessage());
+            return false;
+        } finally {
+            vault.getKeyMaterial().close();
+        }
+    }
+
+    private boolean upgradeVault(Vault vault, String password) {
+        HashingPolicy policy = HashingUtility.getPolicy();
+        boolean isHashOutdated = HashingUtility.needsRehash(vault.getHashedPassword(), policy);
+        boolean isKeyOutdated = policy.isKeyOutdated(vault.getKeyMaterial().getIterationCount());
+        if (!isHashOutdated && !isKeyOutdated) {
+            return true;
+        }
+        try {
+            String hashedPassword = isHashOutdated? HashingUtility.hashPassword(password, policy).orElseThrow(HashingException::new):vault.getHashedPassword();
+            if (isKeyOutdated) {
+                return replaceVault(vault, new KeyMaterial(password, policy.keyIterationCount()), hashedPassword, null);
+            }
+            return database.saveVault(new Vault(material, hashedPassword, vault.getName(), vault.isLocked()));
+        } catch (DerivationException | NoSuchAlgorithmException | HashingException e) {
+            LOGGER.warning("Error upgrading vault: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean replaceVault(Vault oldVault, KeyMaterial newMaterial, String hashedPassword, Consumer<Progress> listener) throws DerivationException {
+        KeyMaterial oldMaterial = oldVault.getKeyMaterial();
+        Vault newVault = new Vault(newMaterial, hashedPassword, oldVault.getName(), oldVault.isLocked());
+        Optional<byte[]> pendingKey = wrapKey(oldVault.getEncryptor(), newMaterial);
+        if (pendingKey.isEmpty() || !database.setPendingKey(oldVault.getName(), pendingKey.get())) {
+            newMaterial.close();
+            return false;
+        }
+        if (credentialManager.setVault(newMaterial, hashedPassword, listener)
+                && tokenManager.setVault(newMaterial, hashedPassword, listener)
+                && database.replaceVault(newVault)) {
+            material = newMaterial;
+            oldMaterial.close();
+            return true;
+        }
+        boolean isRestored = true;
+        if (isUsing(credentialManager.getVault(), newMaterial)) {
+            isRestored = credentialManager.setVault(oldMaterial, oldVault.getHashedPassword(), null);
+        }
+        if (isUsing(tokenManager.getVault(), newMaterial)) {
+            isRestored = tokenManager.setVault(oldMaterial, oldVault.getHashedPassword(), null) && isRestored;
+        }
+        if (!isRestored || !database.removePendingKey(oldVault.getName())) {
+            LOGGER.severe("Error restoring vault, it will be recovered on the next login: " + oldVault.getName());
+            logout();
+        }
+        newMaterial.close();
+        return false;
+    }
+
+    private boolean recoverVault(Vault vault) throws DerivationException {
+        Optional<byte[]> pendingKey = database.getPendingKey(vault.getName());
+        if (pendingKey.isEmpty()) {
+            return true;
+        }
+        Optional<byte[]> encodedKey = vault.getEncryptor().decryptRaw(pendingKey.get());
+        if (encodedKey.isEmpty()) {
+            return false;
+        }
+        KeyMaterial oldMaterial = vault.getKeyMaterial();
+        try (KeyMaterial newMaterial = new KeyMaterial(encodedKey.get(), oldMaterial.getSealedSalt(), oldMaterial.getIterationCount())) {
+            KeyEncryptor newEncryptor = new KeyEncryptor(newMaterial);
+            String oldMasterKey = oldMaterial.getSealedKey().orElseThrow(DerivationException::new);
+            String newMasterKey = newMaterial.getSealedKey().orElseThrow(DerivationException::new);
+            try (CredentialDatabase credentials = new CredentialDatabase(vault.getName(), oldMasterKey); TokenDatabase tokens = new TokenDatabase(vault.getName(), oldMasterKey)) {
+                if (!credentials.connect() || !credentials.recoverCredentials(vault.getEncryptor(), newEncryptor, newMasterKey)) {
+                    return false;
+                }
+                if (!tokens.connect() || !tokens.recoverTokens(vault.getEncryptor(), newEncryptor, newMasterKey)) {
+                    return false;
+                }
+            }
+            return database.removePendingKey(vault.getName());
+        } finally {
+            Arrays.fill(encodedKey.get(), (byte) 0);
+        }
+    }
+
+    private static Optional<byte[]> wrapKey(KeyEncryptor encryptor, KeyMaterial material) {
+        Optional<SecretKey> key = material.getKey();
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] encodedKey = key.get().getEncoded();
+        try {
+            return encryptor.encryptRaw(encodedKey);
+        } finally {
+            Arrays.fill(encodedKey, (byte) 0);
+        }
+    }
+
+    private static boolean isUsing(Optional<Vault> vault, KeyMaterial material) {
+        return vault.isPresent() && vault.get().getKeyMaterial() == material;
     }
 
     private void initialize() throws DatabaseException {
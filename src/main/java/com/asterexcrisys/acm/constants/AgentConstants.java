@@ -0,0 +1,21 @@
+package com.asterexcrisys.acm.constants;
+
+import java.time.Duration;
+
+@SuppressWarnings("unused")
+public final class AgentConstants {
+
+    public static final String SOCKET_DIRECTORY = "./data/agent/";
+    public static final String SOCKET_FILE = "./data/agent/agent.sock";
+    public static final String DIRECTORY_PERMISSIONS = "rwx------";
+    public static final String SOCKET_PERMISSIONS = "rw-------";
+    public static final int MAXIMUM_FRAME_SIZE = 1 << 20;
+    public static final int MAXIMUM_FIELD_COUNT = 255;
+    public static final Duration IDLE_TIMEOUT = Duration.ofMinutes(15);
+    public static final Duration IDLE_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+    private AgentConstants() {
+        // This class should not be instantiable
+    }
+
+}
\ No newline at end of file
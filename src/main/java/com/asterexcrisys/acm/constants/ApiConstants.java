@@ -0,0 +1,30 @@
+package com.asterexcrisys.acm.constants;
+
+import java.time.Duration;
+
+@SuppressWarnings("unused")
+public final class ApiConstants {
+
+    public static final String BIND_ADDRESS = "127.0.0.1";
+    public static final int DEFAULT_PORT = 8765;
+    public static final int BACKLOG = 256;
+    public static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    public static final String MAXIMUM_REQUEST_TIME_PROPERTY = "sun.net.httpserver.maxReqTime";
+    public static final Duration MAXIMUM_REQUEST_TIME = Duration.ofSeconds(10);
+    public static final String BASE_PATH = "/v1/";
+    public static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    public static final String AUTHORIZATION_SCHEME = "Bearer ";
+    public static final int MAXIMUM_CONCURRENT_REQUESTS = 64;
+    public static final int MAXIMUM_BODY_SIZE = 1 << 16;
+    public static final int MAXIMUM_SESSIONS = 256;
+    public static final int SESSION_TOKEN_SIZE = 32;
+    public static final Duration SESSION_TIME_TO_LIVE = Duration.ofMinutes(10);
+    public static final Duration SESSION_CHECK_INTERVAL = Duration.ofSeconds(5);
+    public static final int LATENCY_BUCKET_COUNT = 40;
+    public static final int STOP_DELAY = 1;
+
+    private ApiConstants() {
+        // This class should not be instantiable
+    }
+
+}
\ No newline at end of file
@@ -5,6 +5,9 @@ public final class ConsoleConstants {
 
     public static final String EMPTY_CELL = "";
     public static final String NULL_CELL = "NULL";
+    public static final int SAMPLE_SIZE = 256;
+    public static final int MINIMUM_PAGE_SIZE = 2;
+    public static final String PAGER_PROMPT = "-- More -- (space: next page, enter: next line, q: quit)";
 
     private ConsoleConstants() {
         // This class should not be instantiable
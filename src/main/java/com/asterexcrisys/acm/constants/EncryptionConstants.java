@@ -1,5 +1,7 @@
 package com.asterexcrisys.acm.constants;
 
+import java.time.Duration;
+
 @SuppressWarnings("unused")
 public final class EncryptionConstants {
 
@@ -7,6 +9,32 @@ public final class EncryptionConstants {
     public static final int AUTHENTICATION_TAG_SIZE = 128;
     public static final int KEY_SIZE = 256;
     public static final int CHUNK_SIZE = 4096;
+    public static final int SEGMENT_MAGIC = 0x41434D53;
+    public static final int SEGMENT_VERSION = 2;
+    public static final int LEGACY_SEGMENT_VERSION = 1;
+    public static final int SEGMENT_PREAMBLE_SIZE = 9;
+    public static final int SEGMENT_HEADER_SIZE = 41;
+    public static final int LEGACY_SEGMENT_HEADER_SIZE = 16;
+    public static final int SEGMENT_NONCE_PREFIX_SIZE = 7;
+    public static final int SEGMENT_SIZE = 1 << 20;
+    public static final int MINIMUM_SEGMENT_SIZE = 1 << 12;
+    public static final int MAXIMUM_SEGMENT_SIZE = 1 << 26;
+    public static final long MAXIMUM_SEGMENT_COUNT = 1L << 32;
+    public static final int SEGMENT_BATCHES_PER_WORKER = 4;
+    public static final int FILE_CONCURRENCY = 16;
+    public static final int DERIVATION_CONTEXT_SIZE = 32;
+    public static final String DERIVATION_ALGORITHM = "HmacSHA256";
+    public static final String SEGMENT_DERIVATION_INFO = "acm-segment-key";
+    public static final String TEXT_DERIVATION_INFO = "acm-text-key";
+    public static final String DERIVED_TEXT_PREFIX = "v2.";
+    public static final int CIPHER_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    public static final int RANDOM_BUFFER_SIZE = 4096;
+    public static final int RANDOM_STRENGTH = 256;
+    public static final long RANDOM_RESEED_INTERVAL = 1L << 20;
+    public static final Duration RANDOM_RESEED_PERIOD = Duration.ofMinutes(10);
+    public static final String RANDOM_ALGORITHM = "DRBG";
+    public static final int KEY_CACHE_SIZE = 256;
+    public static final Duration KEY_CACHE_TIME_TO_LIVE = Duration.ofMinutes(5);
     public static final String KEY_GENERATION_ALGORITHM = "AES";
     public static final String ENCRYPTION_TRANSFORMATION = "AES/GCM/NoPadding";
 
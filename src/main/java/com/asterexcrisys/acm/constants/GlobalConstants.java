@@ -11,6 +11,9 @@ public final class GlobalConstants {
     public static final String ROOT_LOGGER = "";
     public static final String DEBUG_PROPERTY = "acm.debug";
     public static final String SHELL_PROMPT = String.format("%s@aegis> ", GlobalUtility.getSystemUser());
+    public static final String STANDARD_INPUT = "-";
+    public static final String COMMENT_PREFIX = "#";
+    public static final int MAXIMUM_JSON_DEPTH = 32;
     public static final String DATE_FORMAT = "yyyy-MM-dd";
     public static final String TERMINAL_TYPE = System.getenv().getOrDefault("TERM", "ANSI");
     public static final String UPCASE_BINDING = "upcase-word";
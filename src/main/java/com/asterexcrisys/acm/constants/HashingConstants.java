@@ -1,5 +1,7 @@
 package com.asterexcrisys.acm.constants;
 
+import java.time.Duration;
+
 @SuppressWarnings("unused")
 public final class HashingConstants {
 
@@ -8,8 +10,21 @@ public final class HashingConstants {
      public static final int ITERATION_COUNT = 4;
      public static final int MEMORY_USAGE = 65536;
      public static final int PARALLELISM_COUNT = 2;
+     public static final int MINIMUM_ITERATION_COUNT = 2;
+     public static final int MAXIMUM_ITERATION_COUNT = 16;
+     public static final int MINIMUM_MEMORY_USAGE = 19456;
+     public static final int MAXIMUM_MEMORY_USAGE = 1048576;
+     public static final int MAXIMUM_PARALLELISM_COUNT = 4;
      public static final int KEY_SIZE = 256;
      public static final int KEY_ITERATION_COUNT = 1000000;
+     public static final int MINIMUM_KEY_ITERATION_COUNT = 600000;
+     public static final int MAXIMUM_KEY_ITERATION_COUNT = 10000000;
+     public static final int CALIBRATION_ROUNDS = 3;
+     public static final Duration CALIBRATION_TARGET = Duration.ofSeconds(1);
+     public static final String ITERATION_COUNT_PROPERTY = "hashing-iterations";
+     public static final String MEMORY_USAGE_PROPERTY = "hashing-memory";
+     public static final String PARALLELISM_COUNT_PROPERTY = "hashing-parallelism";
+     public static final String KEY_ITERATION_COUNT_PROPERTY = "key-iterations";
      public static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
      public static final String HASHING_ALGORITHM = "SHA-512";
 
@@ -0,0 +1,21 @@
+package com.asterexcrisys.acm.constants;
+
+@SuppressWarnings("unused")
+public final class InjectionConstants {
+
+    public static final String PLACEHOLDER_PATTERN = "\\{\\{\\s*acm:([^{}]*?)\\s*}}";
+    public static final String PLACEHOLDER_START = "{{";
+    public static final String NAME_PATTERN = "[A-Za-z_][A-Za-z0-9_]*";
+    public static final String REFERENCE_SEPARATOR = "/";
+    public static final String BINDING_SEPARATOR = ",";
+    public static final String ASSIGNMENT_SEPARATOR = "=";
+    public static final String OUTPUT_PERMISSIONS = "rw-------";
+    public static final int MAXIMUM_PLACEHOLDER_SIZE = 1024;
+    public static final int BUFFER_SIZE = 8192;
+    public static final int RENDER_WINDOW = 256;
+
+    private InjectionConstants() {
+        // This class should not be instantiable
+    }
+
+}
\ No newline at end of file
@@ -1,8 +1,15 @@
 package com.asterexcrisys.acm.constants;
 
+import java.time.Duration;
+
 @SuppressWarnings("unused")
 public final class PersistenceConstants {
 
+    public static final int STATEMENT_CACHE_SIZE = 32;
+    public static final int BATCH_SIZE = 1000;
+    public static final int BUSY_TIMEOUT = 5000;
+    public static final int EXPORT_SIGNATURE = 0x41434D31;
+    public static final Duration SWEEP_INTERVAL = Duration.ofMinutes(5);
     public static final String JDBC_DRIVER = "org.sqlite.JDBC";
     public static final String VAULT_DATABASE = "vaults";
     public static final String CREDENTIAL_DATABASE = "credentials";
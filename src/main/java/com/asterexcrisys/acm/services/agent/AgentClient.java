@@ -0,0 +1,76 @@
+package com.asterexcrisys.acm.services.agent;
+
+import com.asterexcrisys.acm.constants.AgentConstants;
+import com.asterexcrisys.acm.types.agent.AgentOperation;
+import com.asterexcrisys.acm.types.agent.AgentStatus;
+import com.asterexcrisys.acm.types.utility.Pair;
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class AgentClient implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(AgentClient.class.getName());
+
+    private final SocketChannel channel;
+
+    public AgentClient() throws IOException {
+        this(Paths.get(AgentConstants.SOCKET_FILE));
+    }
+
+    public AgentClient(Path socketFile) throws NullPointerException, IOException {
+        channel = SocketChannel.open(UnixDomainSocketAddress.of(Objects.requireNonNull(socketFile)));
+    }
+
+    public Optional<Pair<AgentStatus, String[]>> send(AgentOperation operation, String... fields) {
+        if (operation == null || fields == null || fields.length != operation.fieldCount()) {
+            return Optional.empty();
+        }
+        try {
+            if (!AgentProtocol.write(channel, operation.value(), fields)) {
+                return Optional.empty();
+            }
+            Optional<Pair<Byte, String[]>> response = AgentProtocol.read(channel);
+            if (response.isEmpty()) {
+                return Optional.empty();
+            }
+            return AgentStatus.fromValue(response.get().first()).map((status) -> Pair.of(status, response.get().second()));
+        } catch (IOException e) {
+            LOGGER.warning("Error sending agent request: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<Pair<String, String>> getCredential(String platform) {
+        return send(AgentOperation.GET_CREDENTIAL, platform).filter((response) -> {
+            return response.first() == AgentStatus.SUCCESS;
+        }).map((response) -> Pair.of(response.second()[0], response.second()[1]));
+    }
+
+    public Optional<String> encryptText(String identifier, String text) {
+        return send(AgentOperation.ENCRYPT_TEXT, identifier, text).filter((response) -> {
+            return response.first() == AgentStatus.SUCCESS;
+        }).map((response) -> response.second()[0]);
+    }
+
+    public Optional<String> decryptText(String identifier, String text) {
+        return send(AgentOperation.DECRYPT_TEXT, identifier, text).filter((response) -> {
+            return response.first() == AgentStatus.SUCCESS;
+        }).map((response) -> response.second()[0]);
+    }
+
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warning("Error closing agent connection: " + e.getMessage());
+        }
+    }
+
+}
\ No newline at end of file
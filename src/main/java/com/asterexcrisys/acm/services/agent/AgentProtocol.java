@@ -0,0 +1,91 @@
+package com.asterexcrisys.acm.services.agent;
+
+import com.asterexcrisys.acm.constants.AgentConstants;
+import com.asterexcrisys.acm.types.utility.Pair;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+@SuppressWarnings("unused")
+public final class AgentProtocol {
+
+    private AgentProtocol() {
+        // This class should not be instantiable
+    }
+
+    public static boolean write(ByteChannel channel, byte code, String... fields) throws IOException {
+        if (channel == null || fields == null || fields.length > AgentConstants.MAXIMUM_FIELD_COUNT) {
+            return false;
+        }
+        byte[][] encodedFields = new byte[fields.length][];
+        int size = 2;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                return false;
+            }
+            encodedFields[i] = fields[i].getBytes(StandardCharsets.UTF_8);
+            size += Integer.BYTES + encodedFields[i].length;
+        }
+        if (size > AgentConstants.MAXIMUM_FRAME_SIZE) {
+            return false;
+        }
+        ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES + size);
+        frame.putInt(size).put(code).put((byte) fields.length);
+        for (byte[] field : encodedFields) {
+            frame.putInt(field.length).put(field);
+        }
+        frame.flip();
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+        return true;
+    }
+
+    public static Optional<Pair<Byte, String[]>> read(ByteChannel channel) throws IOException {
+        if (channel == null) {
+            return Optional.empty();
+        }
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        if (!readFully(channel, header)) {
+            return Optional.empty();
+        }
+        int size = header.flip().getInt();
+        if (size < 2 || size > AgentConstants.MAXIMUM_FRAME_SIZE) {
+            return Optional.empty();
+        }
+        ByteBuffer frame = ByteBuffer.allocate(size);
+        if (!readFully(channel, frame)) {
+            return Optional.empty();
+        }
+        frame.flip();
+        byte code = frame.get();
+        String[] fields = new String[Byte.toUnsignedInt(frame.get())];
+        for (int i = 0; i < fields.length; i++) {
+            if (frame.remaining() < Integer.BYTES) {
+                return Optional.empty();
+            }
+            int length = frame.getInt();
+            if (length < 0 || length > frame.remaining()) {
+                return Optional.empty();
+            }
+            fields[i] = new String(frame.array(), frame.position(), length, StandardCharsets.UTF_8);
+            frame.position(frame.position() + length);
+        }
+        if (frame.hasRemaining()) {
+            return Optional.empty();
+        }
+        return Optional.of(Pair.of(code, fields));
+    }
+
+    private static boolean readFully(ByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,272 @@
+package com.asterexcrisys.acm.services.agent;
+
+import com.asterexcrisys.acm.CredentialManager;
+import com.asterexcrisys.acm.TokenManager;
+import com.asterexcrisys.acm.VaultManager;
+import com.asterexcrisys.acm.constants.AgentConstants;
+import com.asterexcrisys.acm.types.agent.AgentOperation;
+import com.asterexcrisys.acm.types.agent.AgentStatus;
+import com.asterexcrisys.acm.types.encryption.Credential;
+import com.asterexcrisys.acm.types.utility.Pair;
+import jdk.net.ExtendedSocketOptions;
+import jdk.net.UnixDomainPrincipal;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class AgentServer implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(AgentServer.class.getName());
+
+    private final VaultManager manager;
+    private final Path socketFile;
+    private final Duration idleTimeout;
+    private final ReentrantLock lock;
+    private final AtomicLong lastActivity;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private ServerSocketChannel server;
+    private Thread acceptor;
+
+    public AgentServer(VaultManager manager) throws NullPointerException {
+        this(manager, Paths.get(AgentConstants.SOCKET_FILE), AgentConstants.IDLE_TIMEOUT);
+    }
+
+    public AgentServer(VaultManager manager, Path socketFile, Duration idleTimeout) throws NullPointerException, IllegalArgumentException {
+        this.manager = Objects.requireNonNull(manager);
+        this.socketFile = Objects.requireNonNull(socketFile);
+        if (Objects.requireNonNull(idleTimeout).isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("Idle timeout must be positive");
+        }
+        this.idleTimeout = idleTimeout;
+        lock = new ReentrantLock();
+        lastActivity = new AtomicLong(System.nanoTime());
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("agent-connection-", 0).factory());
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("agent-idle-lock").factory());
+        server = null;
+        acceptor = null;
+    }
+
+    public Path getSocketFile() {
+        return socketFile;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public synchronized boolean isRunning() {
+        return server != null && server.isOpen();
+    }
+
+    public synchronized boolean start() {
+        if (server != null) {
+            return false;
+        }
+        try {
+            Path directory = socketFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString(AgentConstants.DIRECTORY_PERMISSIONS));
+            Files.deleteIfExists(socketFile);
+            server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            server.bind(UnixDomainSocketAddress.of(socketFile));
+            Files.setPosixFilePermissions(socketFile, PosixFilePermissions.fromString(AgentConstants.SOCKET_PERMISSIONS));
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warning("Error starting agent: " + e.getMessage());
+            stop();
+            return false;
+        }
+        lastActivity.set(System.nanoTime());
+        long interval = Math.min(idleTimeout.toMillis(), AgentConstants.IDLE_CHECK_INTERVAL.toMillis());
+        scheduler.scheduleWithFixedDelay(this::checkIdle, interval, interval, TimeUnit.MILLISECONDS);
+        acceptor = Thread.ofVirtual().name("agent-acceptor").start(this::accept);
+        return true;
+    }
+
+    public void await() throws InterruptedException {
+        Thread thread;
+        synchronized (this) {
+            thread = acceptor;
+        }
+        if (thread != null) {
+            thread.join();
+        }
+    }
+
+    public void close() {
+        stop();
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(AgentConstants.IDLE_CHECK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("Error stopping the agent connections");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        try {
+            server.close();
+            Files.deleteIfExists(socketFile);
+        } catch (IOException e) {
+            LOGGER.warning("Error stopping agent: " + e.getMessage());
+        }
+    }
+
+    private void accept() {
+        ServerSocketChannel server;
+        synchronized (this) {
+            server = this.server;
+        }
+        while (server.isOpen()) {
+            try {
+                SocketChannel channel = server.accept();
+                try {
+                    executor.execute(() -> serve(channel));
+                } catch (RejectedExecutionException e) {
+                    channel.close();
+                    return;
+                }
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                LOGGER.warning("Error accepting agent connection: " + e.getMessage());
+            }
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        try (channel) {
+            if (!isAuthorized(channel)) {
+                LOGGER.warning("Rejected agent connection from an unverified user");
+                return;
+            }
+            while (true) {
+                Optional<Pair<Byte, String[]>> request = AgentProtocol.read(channel);
+                if (request.isEmpty()) {
+                    return;
+                }
+                Pair<AgentStatus, String[]> response = handle(request.get().first(), request.get().second());
+                if (!AgentProtocol.write(channel, response.first().value(), response.second())) {
+                    AgentProtocol.write(channel, AgentStatus.FAILURE.value());
+                }
+            }
+        } catch (ClosedChannelException e) {
+            // No operation needed
+        } catch (IOException e) {
+            LOGGER.warning("Error serving agent connection: " + e.getMessage());
+        }
+    }
+
+    private boolean isAuthorized(SocketChannel channel) throws IOException {
+        try {
+            UnixDomainPrincipal peer = channel.getOption(ExtendedSocketOptions.SO_PEERCRED);
+            return peer.user().equals(Files.getOwner(socketFile));
+        } catch (UnsupportedOperationException e) {
+            LOGGER.warning("Error verifying agent peer: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Pair<AgentStatus, String[]> handle(byte code, String[] fields) {
+        Optional<AgentOperation> operation = AgentOperation.fromValue(code);
+        if (operation.isEmpty() || fields.length != operation.get().fieldCount()) {
+            return respond(AgentStatus.INVALID);
+        }
+        lastActivity.set(System.nanoTime());
+        lock.lock();
+        try {
+            return switch (operation.get()) {
+                case PING -> respond(AgentStatus.SUCCESS, manager.isAuthenticated()? "unlocked":"locked");
+                case UNLOCK -> {
+                    manager.logout();
+                    yield respond(manager.authenticate(fields[0], fields[1])? AgentStatus.SUCCESS:AgentStatus.FAILURE);
+                }
+                case LOCK -> {
+                    manager.logout();
+                    yield respond(AgentStatus.SUCCESS);
+                }
+                case GET_CREDENTIAL -> getCredential(fields[0]);
+                case ENCRYPT_TEXT -> transformText(fields[0], fields[1], true);
+                case DECRYPT_TEXT -> transformText(fields[0], fields[1], false);
+            };
+        } catch (RuntimeException e) {
+            LOGGER.warning("Error handling agent request: " + e.getMessage());
+            return respond(AgentStatus.FAILURE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Pair<AgentStatus, String[]> getCredential(String platform) {
+        Optional<CredentialManager> credentialManager = manager.getCredentialManager();
+        if (credentialManager.isEmpty()) {
+            return respond(AgentStatus.LOCKED);
+        }
+        Optional<Credential> credential = credentialManager.get().getCredential(platform);
+        if (credential.isEmpty()) {
+            return respond(AgentStatus.NOT_FOUND);
+        }
+        Optional<String> username = credential.get().getDecryptedUsername();
+        Optional<String> password = credential.get().getDecryptedPassword();
+        if (username.isEmpty() || password.isEmpty()) {
+            return respond(AgentStatus.FAILURE);
+        }
+        return respond(AgentStatus.SUCCESS, username.get(), password.get());
+    }
+
+    private Pair<AgentStatus, String[]> transformText(String identifier, String text, boolean isEncryption) {
+        Optional<TokenManager> tokenManager = manager.getTokenManager();
+        if (tokenManager.isEmpty()) {
+            return respond(AgentStatus.LOCKED);
+        }
+        Optional<String> result = isEncryption? tokenManager.get().encryptText(identifier, text):tokenManager.get().decryptText(identifier, text);
+        if (result.isEmpty()) {
+            return respond(AgentStatus.FAILURE);
+        }
+        return respond(AgentStatus.SUCCESS, result.get());
+    }
+
+    private void checkIdle() {
+        if (System.nanoTime() - lastActivity.get() < idleTimeout.toNanos()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (manager.isAuthenticated() && System.nanoTime() - lastActivity.get() >= idleTimeout.toNanos()) {
+                manager.logout();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Pair<AgentStatus, String[]> respond(AgentStatus status, String... fields) {
+        return Pair.of(status, fields);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.asterexcrisys.acm.services.api;
+
+import com.asterexcrisys.acm.constants.ApiConstants;
+import com.asterexcrisys.acm.types.api.RouteStatistics;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("unused")
+public final class ApiMetrics {
+
+    private final Map<String, RouteMetrics> routes;
+    private final LongAdder rejections;
+
+    public ApiMetrics() {
+        routes = new ConcurrentHashMap<>();
+        rejections = new LongAdder();
+    }
+
+    public void record(String route, int status, long duration) {
+        Objects.requireNonNull(route);
+        routes.computeIfAbsent(route, (key) -> new RouteMetrics()).record(status >= 500, Math.max(0, duration));
+    }
+
+    public void reject() {
+        rejections.increment();
+    }
+
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    public List<RouteStatistics> getStatistics() {
+        List<RouteStatistics> statistics = new ArrayList<>(routes.size());
+        for (Map.Entry<String, RouteMetrics> entry : routes.entrySet()) {
+            statistics.add(entry.getValue().snapshot(entry.getKey()));
+        }
+        statistics.sort(Comparator.comparing(RouteStatistics::route));
+        return statistics;
+    }
+
+    public void reset() {
+        routes.clear();
+        rejections.reset();
+    }
+
+    private static final class RouteMetrics {
+
+        private final LongAdder requests;
+        private final LongAdder errors;
+        private final LongAdder totalLatency;
+        private final AtomicLong maximumLatency;
+        private final AtomicLongArray buckets;
+
+        public RouteMetrics() {
+            requests = new LongAdder();
+            errors = new LongAdder();
+            totalLatency = new LongAdder();
+            maximumLatency = new AtomicLong();
+            buckets = new AtomicLongArray(ApiConstants.LATENCY_BUCKET_COUNT);
+        }
+
+        public void record(boolean isError, long duration) {
+            long latency = TimeUnit.NANOSECONDS.toMicros(duration);
+            requests.increment();
+            if (isError) {
+                errors.increment();
+            }
+            totalLatency.add(latency);
+            maximumLatency.accumulateAndGet(latency, Math::max);
+            buckets.incrementAndGet(Math.min(Long.SIZE - Long.numberOfLeadingZeros(latency), buckets.length() - 1));
+        }
+
+        public RouteStatistics snapshot(String route) {
+            long[] counts = new long[buckets.length()];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            long maximum = maximumLatency.get();
+            return RouteStatistics.of(
+                    route,
+                    requests.sum(),
+                    errors.sum(),
+                    total == 0? 0.0:(double) totalLatency.sum() / total,
+                    Math.min(getPercentile(counts, total, 0.50), maximum),
+                    Math.min(getPercentile(counts, total, 0.99), maximum),
+                    maximum
+            );
+        }
+
+        private static long getPercentile(long[] counts, long total, double percentile) {
+            long target = (long) Math.ceil(total * percentile);
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target && cumulative > 0) {
+                    return i == 0? 0:(1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,513 @@
+package com.asterexcrisys.acm.services.api;
+
+import com.asterexcrisys.acm.CredentialManager;
+import com.asterexcrisys.acm.TokenManager;
+import com.asterexcrisys.acm.VaultManager;
+import com.asterexcrisys.acm.constants.ApiConstants;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.utility.ExpiringCache;
+import com.asterexcrisys.acm.types.api.ApiResponse;
+import com.asterexcrisys.acm.types.api.ApiRoute;
+import com.asterexcrisys.acm.types.api.RouteStatistics;
+import com.asterexcrisys.acm.types.encryption.Credential;
+import com.asterexcrisys.acm.types.encryption.Vault;
+import com.asterexcrisys.acm.utility.HashingUtility;
+import com.asterexcrisys.acm.utility.JsonUtility;
+import com.asterexcrisys.acm.utility.RandomnessUtility;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class ApiServer implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ApiServer.class.getName());
+
+    static {
+        if (System.getProperty(ApiConstants.NO_DELAY_PROPERTY) == null) {
+            System.setProperty(ApiConstants.NO_DELAY_PROPERTY, "true");
+        }
+        if (System.getProperty(ApiConstants.MAXIMUM_REQUEST_TIME_PROPERTY) == null) {
+            System.setProperty(ApiConstants.MAXIMUM_REQUEST_TIME_PROPERTY, String.valueOf(ApiConstants.MAXIMUM_REQUEST_TIME.toSeconds()));
+        }
+    }
+
+    private final VaultManager manager;
+    private final InetSocketAddress address;
+    private final int maximumConcurrency;
+    private final Duration sessionTimeToLive;
+    private final ReentrantLock lock;
+    private final Semaphore permits;
+    private final ApiMetrics metrics;
+    private final ExpiringCache<String, String> sessions;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final CountDownLatch latch;
+    private HttpServer server;
+
+    public ApiServer(VaultManager manager) throws NullPointerException {
+        this(manager, ApiConstants.DEFAULT_PORT, ApiConstants.MAXIMUM_CONCURRENT_REQUESTS, ApiConstants.SESSION_TIME_TO_LIVE);
+    }
+
+    public ApiServer(VaultManager manager, int port) throws NullPointerException {
+        this(manager, port, ApiConstants.MAXIMUM_CONCURRENT_REQUESTS, ApiConstants.SESSION_TIME_TO_LIVE);
+    }
+
+    public ApiServer(VaultManager manager, int port, int maximumConcurrency, Duration sessionTimeToLive) throws NullPointerException, IllegalArgumentException {
+        this.manager = Objects.requireNonNull(manager);
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535");
+        }
+        if (maximumConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive");
+        }
+        address = new InetSocketAddress(ApiConstants.BIND_ADDRESS, port);
+        this.maximumConcurrency = maximumConcurrency;
+        this.sessionTimeToLive = Objects.requireNonNull(sessionTimeToLive);
+        lock = new ReentrantLock();
+        permits = new Semaphore(maximumConcurrency);
+        metrics = new ApiMetrics();
+        sessions = new ExpiringCache<>(ApiConstants.MAXIMUM_SESSIONS, sessionTimeToLive);
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("api-request-", 0).factory());
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("api-session-lock").factory());
+        latch = new CountDownLatch(1);
+        server = null;
+    }
+
+    public synchronized InetSocketAddress getAddress() {
+        if (server == null) {
+            return address;
+        }
+        return server.getAddress();
+    }
+
+    public int getMaximumConcurrency() {
+        return maximumConcurrency;
+    }
+
+    public Duration getSessionTimeToLive() {
+        return sessionTimeToLive;
+    }
+
+    public ApiMetrics getMetrics() {
+        return metrics;
+    }
+
+    public synchronized boolean isRunning() {
+        return server != null && latch.getCount() > 0;
+    }
+
+    public synchronized boolean start() {
+        if (server != null) {
+            return false;
+        }
+        try {
+            server = HttpServer.create(address, ApiConstants.BACKLOG);
+        } catch (IOException e) {
+            LOGGER.warning("Error starting API server: " + e.getMessage());
+            return false;
+        }
+        server.createContext(ApiConstants.BASE_PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        long interval = Math.min(sessionTimeToLive.toMillis(), ApiConstants.SESSION_CHECK_INTERVAL.toMillis());
+        scheduler.scheduleWithFixedDelay(this::checkSessions, interval, interval, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    public void await() throws InterruptedException {
+        latch.await();
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (server != null && latch.getCount() > 0) {
+                server.stop(ApiConstants.STOP_DELAY);
+            }
+            latch.countDown();
+        }
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(ApiConstants.SESSION_CHECK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("Error stopping the API requests");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sessions.close();
+    }
+
+    private void handle(HttpExchange exchange) {
+        long start = System.nanoTime();
+        if (!permits.tryAcquire()) {
+            metrics.reject();
+            send(exchange, error(503, "Too many concurrent requests"));
+            exchange.close();
+            return;
+        }
+        try {
+            String[] segments = getSegments(exchange);
+            Optional<ApiRoute> route = ApiRoute.fromRequest(exchange.getRequestMethod(), segments);
+            if (route.isEmpty()) {
+                send(exchange, ApiRoute.has(segments)? error(405, "Method not allowed"):error(404, "Resource not found"));
+                return;
+            }
+            ApiResponse response;
+            try {
+                response = dispatch(exchange, route.get(), segments);
+            } catch (RuntimeException e) {
+                LOGGER.warning("Error handling API request: " + e.getMessage());
+                response = error(500, "Internal server error");
+            }
+            send(exchange, response);
+            metrics.record(route.get().label(), response.status(), System.nanoTime() - start);
+        } finally {
+            permits.release();
+            exchange.close();
+        }
+    }
+
+    private ApiResponse dispatch(HttpExchange exchange, ApiRoute route, String[] segments) {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            return error(403, "Cross-origin requests are not allowed");
+        }
+        if (route.requiresSession() && getSession(exchange).isEmpty()) {
+            return error(401, "Missing, invalid or expired session");
+        }
+        Optional<Map<String, Object>> body = readBody(exchange);
+        if (body.isEmpty()) {
+            return error(400, "Invalid request body");
+        }
+        return switch (route) {
+            case CREATE_SESSION -> createSession(body.get());
+            case REMOVE_SESSION -> removeSession(exchange);
+            case GET_METRICS -> getMetrics(metrics.getStatistics());
+            case GET_ALL_CREDENTIALS -> withCredentialManager((credentialManager) -> getNames(credentialManager.getActiveCredentials()));
+            case GET_CREDENTIAL -> getCredential(segments[1]);
+            case SET_CREDENTIAL -> setCredential(segments[1], body.get());
+            case REMOVE_CREDENTIAL -> withCredentialManager((credentialManager) -> {
+                return credentialManager.removeCredential(segments[1])? ApiResponse.of(204):error(404, "Credential not found");
+            });
+            case GET_ALL_TOKENS -> withTokenManager((tokenManager) -> getNames(tokenManager.getActiveTokens()));
+            case ADD_TOKEN -> addToken(segments[1], body.get());
+            case REMOVE_TOKEN -> withTokenManager((tokenManager) -> {
+                return tokenManager.removeToken(segments[1])? ApiResponse.of(204):error(404, "Token not found");
+            });
+            case ENCRYPT_TEXT -> transformTexts(segments[1], body.get(), GenericEncryptor::encryptDerived);
+            case DECRYPT_TEXT -> transformTexts(segments[1], body.get(), GenericEncryptor::decryptDerived);
+        };
+    }
+
+    private ApiResponse createSession(Map<String, Object> body) {
+        Optional<String> name = JsonUtility.getString(body, "vault");
+        Optional<String> password = JsonUtility.getString(body, "password");
+        if (name.isEmpty() || password.isEmpty()) {
+            return error(400, "Missing vault name or password");
+        }
+        Optional<byte[]> bytes = RandomnessUtility.generateBytes(ApiConstants.SESSION_TOKEN_SIZE);
+        if (bytes.isEmpty()) {
+            return error(500, "Failed to generate session");
+        }
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.get());
+        Optional<String> key = HashingUtility.hashMessage(token);
+        if (key.isEmpty()) {
+            return error(500, "Failed to generate session");
+        }
+        lock.lock();
+        try {
+            if (manager.isAuthenticated()) {
+                Optional<String> current = manager.getCredentialManager().flatMap(CredentialManager::getVault).map(Vault::getName);
+                if (current.isEmpty() || !current.get().equals(name.get())) {
+                    return error(409, "Another vault is currently unlocked");
+                }
+                if (manager.getVault(name.get(), password.get()).isEmpty()) {
+                    return error(401, "Authentication failed");
+                }
+            } else if (!manager.authenticate(name.get(), password.get())) {
+                return error(401, "Authentication failed");
+            }
+            sessions.put(key.get(), name.get());
+        } finally {
+            lock.unlock();
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("token", token);
+        response.put("expiresAt", Instant.now().plus(sessionTimeToLive).toString());
+        return ApiResponse.of(201, response);
+    }
+
+    private ApiResponse removeSession(HttpExchange exchange) {
+        Optional<String> key = getSessionKey(exchange);
+        if (key.isEmpty() || !sessions.invalidate(key.get())) {
+            return error(401, "Missing, invalid or expired session");
+        }
+        return ApiResponse.of(204);
+    }
+
+    private ApiResponse getCredential(String platform) {
+        lock.lock();
+        Optional<Credential> credential;
+        try {
+            Optional<CredentialManager> credentialManager = manager.getCredentialManager();
+            if (credentialManager.isEmpty()) {
+                return error(401, "Vault is locked");
+            }
+            credential = credentialManager.get().getCredential(platform);
+        } finally {
+            lock.unlock();
+        }
+        if (credential.isEmpty()) {
+            return error(404, "Credential not found");
+        }
+        Optional<String> username = credential.get().getDecryptedUsername();
+        Optional<String> password = credential.get().getDecryptedPassword();
+        if (username.isEmpty() || password.isEmpty()) {
+            return error(500, "Failed to decrypt credential");
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("platform", credential.get().getPlatform());
+        response.put("username", username.get());
+        response.put("password", password.get());
+        response.put("expiration", credential.get().getExpiration().map(Instant::toString).orElse(null));
+        return ApiResponse.of(200, response);
+    }
+
+    private ApiResponse setCredential(String platform, Map<String, Object> body) {
+        Optional<String> username = JsonUtility.getString(body, "username");
+        Optional<String> password = JsonUtility.getString(body, "password");
+        if (username.isEmpty() || password.isEmpty()) {
+            return error(400, "Missing username or password");
+        }
+        Optional<Optional<Instant>> expiration = getExpiration(body);
+        if (expiration.isEmpty()) {
+            return error(400, "Invalid expiration");
+        }
+        return withCredentialManager((credentialManager) -> {
+            boolean isSuccessful;
+            if (expiration.get().isPresent()) {
+                isSuccessful = credentialManager.setCredential(platform, username.get(), password.get(), expiration.get().get())
+                        || credentialManager.addCredential(platform, username.get(), password.get(), expiration.get().get());
+            } else {
+                isSuccessful = credentialManager.setCredential(platform, username.get(), password.get())
+                        || credentialManager.addCredential(platform, username.get(), password.get());
+            }
+            return isSuccessful? ApiResponse.of(204):error(500, "Failed to save credential");
+        });
+    }
+
+    private ApiResponse addToken(String identifier, Map<String, Object> body) {
+        Optional<Optional<Instant>> expiration = getExpiration(body);
+        if (expiration.isEmpty()) {
+            return error(400, "Invalid expiration");
+        }
+        return withTokenManager((tokenManager) -> {
+            boolean isSuccessful = expiration.get().isPresent()? tokenManager.addCredential(identifier, expiration.get().get()):tokenManager.addToken(identifier);
+            return isSuccessful? ApiResponse.of(201, Map.of("identifier", identifier)):error(409, "Failed to add token");
+        });
+    }
+
+    private ApiResponse transformTexts(String identifier, Map<String, Object> body, BiFunction<GenericEncryptor, String, Optional<String>> transformer) {
+        Optional<String> text = JsonUtility.getString(body, "text");
+        Optional<List<String>> texts = JsonUtility.getStrings(body, "texts");
+        if (text.isEmpty() && (texts.isEmpty() || texts.get().isEmpty())) {
+            return error(400, "Missing text or texts");
+        }
+        lock.lock();
+        Optional<GenericEncryptor> encryptor;
+        try {
+            Optional<TokenManager> tokenManager = manager.getTokenManager();
+            if (tokenManager.isEmpty()) {
+                return error(401, "Vault is locked");
+            }
+            encryptor = tokenManager.get().getEncryptor(identifier);
+        } finally {
+            lock.unlock();
+        }
+        if (encryptor.isEmpty()) {
+            return error(404, "Token not found");
+        }
+        if (text.isPresent()) {
+            return transformer.apply(encryptor.get(), text.get())
+                    .map((result) -> ApiResponse.of(200, Map.of("text", result)))
+                    .orElseGet(() -> error(422, "Failed to transform text"));
+        }
+        List<String> results = new ArrayList<>(texts.get().size());
+        for (String element : texts.get()) {
+            Optional<String> result = transformer.apply(encryptor.get(), element);
+            if (result.isEmpty()) {
+                return error(422, "Failed to transform texts");
+            }
+            results.add(result.get());
+        }
+        return ApiResponse.of(200, Map.of("texts", results));
+    }
+
+    private ApiResponse getMetrics(List<RouteStatistics> statistics) {
+        List<Map<String, Object>> routes = new ArrayList<>(statistics.size());
+        for (RouteStatistics route : statistics) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("route", route.route());
+            entry.put("requests", route.requests());
+            entry.put("errors", route.errors());
+            entry.put("meanMicros", route.meanLatency());
+            entry.put("medianMicros", route.medianLatency());
+            entry.put("p99Micros", route.tailLatency());
+            entry.put("maximumMicros", route.maximumLatency());
+            routes.add(entry);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("inFlight", maximumConcurrency - permits.availablePermits());
+        response.put("rejected", metrics.getRejections());
+        response.put("routes", routes);
+        return ApiResponse.of(200, response);
+    }
+
+    private ApiResponse getNames(Optional<List<String>> names) {
+        return names.map((values) -> ApiResponse.of(200, Map.of("names", values))).orElseGet(() -> error(500, "Failed to list entries"));
+    }
+
+    private ApiResponse withCredentialManager(Function<CredentialManager, ApiResponse> action) {
+        lock.lock();
+        try {
+            Optional<CredentialManager> credentialManager = manager.getCredentialManager();
+            if (credentialManager.isEmpty()) {
+                return error(401, "Vault is locked");
+            }
+            return action.apply(credentialManager.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ApiResponse withTokenManager(Function<TokenManager, ApiResponse> action) {
+        lock.lock();
+        try {
+            Optional<TokenManager> tokenManager = manager.getTokenManager();
+            if (tokenManager.isEmpty()) {
+                return error(401, "Vault is locked");
+            }
+            return action.apply(tokenManager.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Optional<String> getSession(HttpExchange exchange) {
+        return getSessionKey(exchange).flatMap(sessions::get);
+    }
+
+    private void checkSessions() {
+        sessions.purge();
+        if (sessions.size() > 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (manager.isAuthenticated() && sessions.size() == 0) {
+                manager.logout();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Optional<String> getSessionKey(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith(ApiConstants.AUTHORIZATION_SCHEME)) {
+            return Optional.empty();
+        }
+        String token = header.substring(ApiConstants.AUTHORIZATION_SCHEME.length()).trim();
+        if (token.isEmpty()) {
+            return Optional.empty();
+        }
+        return HashingUtility.hashMessage(token);
+    }
+
+    private static Optional<Optional<Instant>> getExpiration(Map<String, Object> body) {
+        if (body.get("expiration") == null) {
+            return Optional.of(Optional.empty());
+        }
+        Optional<String> expiration = JsonUtility.getString(body, "expiration");
+        if (expiration.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Optional.of(Instant.parse(expiration.get())));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String[] getSegments(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        if (path.length() <= ApiConstants.BASE_PATH.length()) {
+            return new String[0];
+        }
+        return path.substring(ApiConstants.BASE_PATH.length()).split("/", -1);
+    }
+
+    private static Optional<Map<String, Object>> readBody(HttpExchange exchange) {
+        try (InputStream input = exchange.getRequestBody()) {
+            byte[] body = input.readNBytes(ApiConstants.MAXIMUM_BODY_SIZE + 1);
+            if (body.length > ApiConstants.MAXIMUM_BODY_SIZE) {
+                return Optional.empty();
+            }
+            String content = new String(body, StandardCharsets.UTF_8);
+            if (content.isBlank()) {
+                return Optional.of(Map.of());
+            }
+            return JsonUtility.parseObject(content);
+        } catch (IOException e) {
+            LOGGER.warning("Error reading API request: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void send(HttpExchange exchange, ApiResponse response) {
+        try {
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            if (!response.hasBody()) {
+                exchange.sendResponseHeaders(response.status(), -1);
+                return;
+            }
+            byte[] body = JsonUtility.toJson(response.body()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", ApiConstants.CONTENT_TYPE);
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Error sending API response: " + e.getMessage());
+        }
+    }
+
+    private static ApiResponse error(int status, String message) {
+        return ApiResponse.of(status, Map.of("error", message));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.asterexcrisys.acm.services.console;
+
+import com.asterexcrisys.acm.constants.ConsoleConstants;
+import org.jline.terminal.Attributes;
+import org.jline.terminal.Terminal;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Objects;
+
+@SuppressWarnings("unused")
+public final class PagedWriter extends Writer {
+
+    private final Terminal terminal;
+    private final PrintWriter writer;
+    private final int pageSize;
+    private int lines;
+    private boolean isStopped;
+
+    public PagedWriter(Terminal terminal) throws NullPointerException {
+        this(terminal, Objects.requireNonNull(terminal).getHeight() - 1);
+    }
+
+    public PagedWriter(Terminal terminal, int pageSize) throws NullPointerException {
+        this.terminal = Objects.requireNonNull(terminal);
+        writer = terminal.writer();
+        this.pageSize = pageSize < ConsoleConstants.MINIMUM_PAGE_SIZE? Integer.MAX_VALUE:pageSize;
+        lines = 0;
+        isStopped = false;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean isStopped() {
+        return isStopped;
+    }
+
+    public void write(char[] buffer, int offset, int length) throws IOException {
+        checkStopped();
+        int start = offset;
+        for (int i = offset; i < offset + length; i++) {
+            if (buffer[i] == '\n') {
+                writer.write(buffer, start, i + 1 - start);
+                start = i + 1;
+                advance();
+            }
+        }
+        writer.write(buffer, start, offset + length - start);
+    }
+
+    public void write(String text, int offset, int length) throws IOException {
+        checkStopped();
+        int start = offset;
+        int index;
+        while ((index = text.indexOf('\n', start)) >= 0 && index < offset + length) {
+            writer.write(text, start, index + 1 - start);
+            start = index + 1;
+            advance();
+        }
+        writer.write(text, start, offset + length - start);
+    }
+
+    public void flush() {
+        writer.flush();
+    }
+
+    public void close() {
+        flush();
+    }
+
+    private void checkStopped() throws InterruptedIOException {
+        if (isStopped) {
+            throw new InterruptedIOException("Paging stopped");
+        }
+    }
+
+    private void advance() throws IOException {
+        if (++lines >= pageSize && !prompt()) {
+            isStopped = true;
+            throw new InterruptedIOException("Paging stopped");
+        }
+    }
+
+    private boolean prompt() throws IOException {
+        writer.write(ConsoleConstants.PAGER_PROMPT);
+        writer.flush();
+        Attributes attributes = terminal.enterRawMode();
+        int key;
+        try {
+            key = terminal.reader().read();
+        } finally {
+            terminal.setAttributes(attributes);
+            writer.write('\r');
+            writer.write(" ".repeat(ConsoleConstants.PAGER_PROMPT.length()));
+            writer.write('\r');
+        }
+        switch (key) {
+            case -1, 'q', 'Q', 3 -> {
+                writer.flush();
+                return false;
+            }
+            case '\r', '\n' -> lines = pageSize - 1;
+            default -> lines = 0;
+        }
+        return true;
+    }
+
+}
\ No newline at end of file
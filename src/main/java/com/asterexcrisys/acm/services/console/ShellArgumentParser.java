@@ -24,13 +24,13 @@ public class ShellArgumentParser {
         if (type.isEmpty()) {
             return Result.failure("Unknown command: " + arguments[0]);
         }
-        if (arguments.length != type.get().argumentCount() + 1) {
+        if (!hasArgumentCount(type.get(), arguments.length - 1)) {
             return Result.failure("Invalid number of arguments for command: " + type.get().longName());
         }
         Validator[] validators = type.get().argumentValidators();
-        for (int i = 0; i < validators.length; i++) {
-            if (!validators[i].validate(arguments[i + 1])) {
-                return Result.failure("Invalid argument: " + arguments[i + 1]);
+        for (int i = 1; i < arguments.length; i++) {
+            if (!validators[Math.min(i, validators.length) - 1].validate(arguments[i])) {
+                return Result.failure("Invalid argument: " + arguments[i]);
             }
         }
         return Result.success(type.get());
@@ -44,16 +44,23 @@ public class ShellArgumentParser {
         if (type.isEmpty()) {
             return Outcome.ofError("Unknown command: " + arguments[0]);
         }
-        if (arguments.length != type.get().argumentCount() + 1) {
+        if (!hasArgumentCount(type.get(), arguments.length - 1)) {
             return Outcome.ofError("Invalid number of arguments for command: " + type.get().longName());
         }
         Validator[] validators = type.get().argumentValidators();
-        for (int i = 0; i < validators.length; i++) {
-            if (!validators[i].validate(arguments[i + 1])) {
-                return Outcome.ofError("Invalid argument: " + arguments[i + 1]);
+        for (int i = 1; i < arguments.length; i++) {
+            if (!validators[Math.min(i, validators.length) - 1].validate(arguments[i])) {
+                return Outcome.ofError("Invalid argument: " + arguments[i]);
             }
         }
         return Outcome.ofValue(type.get());
     }
 
+    private static boolean hasArgumentCount(CommandType type, int count) {
+        if (type.isVariadic()) {
+            return count >= type.argumentCount();
+        }
+        return count == type.argumentCount();
+    }
+
 }
\ No newline at end of file
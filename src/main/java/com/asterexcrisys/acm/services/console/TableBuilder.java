@@ -1,13 +1,10 @@
 package com.asterexcrisys.acm.services.console;
 
-import com.asterexcrisys.acm.constants.ConsoleConstants;
 import com.asterexcrisys.acm.types.console.CellSize;
-import com.asterexcrisys.acm.utility.ConsoleUtility;
-import com.asterexcrisys.acm.utility.GlobalUtility;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 @SuppressWarnings("unused")
 public class TableBuilder implements AutoCloseable {
@@ -103,15 +100,17 @@ public class TableBuilder implements AutoCloseable {
     }
 
     public String build() throws IllegalStateException {
-        Optional<String> tableHead = createTableHead(attributes, cellSize);
-        if (tableHead.isEmpty()) {
+        if (attributes.isEmpty()) {
             throw new IllegalStateException();
         }
-        Optional<String> tableBody = createTableBody(records, attributes.size(), cellSize);
-        if (tableBody.isEmpty()) {
+        if (records.stream().anyMatch((record) -> record.size() < attributes.size() || record.stream().anyMatch(Objects::isNull))) {
             throw new IllegalStateException();
         }
-        return tableHead.get().concat(tableBody.get());
+        StringWriter writer = new StringWriter();
+        if (!new TableRenderer(attributes, cellSize, 0).render(records.iterator(), writer)) {
+            throw new IllegalStateException();
+        }
+        return writer.toString();
     }
 
     public void clear() {
@@ -123,79 +122,4 @@ public class TableBuilder implements AutoCloseable {
         clear();
     }
 
-    private static Optional<String> createTableHead(List<String> attributes, CellSize cellSize) {
-        StringBuilder tableHead = new StringBuilder();
-        Optional<String> tableRow = createTableRow(attributes, cellSize);
-        if (tableRow.isEmpty()) {
-            return Optional.empty();
-        }
-        tableHead.append(tableRow.get());
-        tableHead.append(createTableSeparator(attributes.size(), cellSize.width()));
-        tableHead.append('\n');
-        return Optional.of(tableHead.toString());
-    }
-
-    private static Optional<String> createTableBody(List<List<String>> records, int attributesCount, CellSize cellSize) {
-        StringBuilder tableBody = new StringBuilder();
-        for (List<String> record : records) {
-            GlobalUtility.resizeList(record, attributesCount);
-            Optional<String> tableRow = createTableRow(record, cellSize);
-            if (tableRow.isEmpty()) {
-                return Optional.empty();
-            }
-            tableBody.append(tableRow.get());
-        }
-        tableBody.append(createTableSeparator(attributesCount, cellSize.width()));
-        tableBody.append('\n');
-        return Optional.of(tableBody.toString());
-    }
-
-    private static Optional<String> createTableRow(List<String> values, CellSize cellSize) {
-        if (values == null || values.isEmpty() || cellSize == null) {
-            return Optional.empty();
-        }
-        if (values.stream().anyMatch(Objects::isNull)) {
-            return Optional.empty();
-        }
-        StringBuilder tableRow = new StringBuilder();
-        tableRow.append(createTableSeparator(values.size(), cellSize.width()));
-        tableRow.append('\n');
-        List<String[]> justifiedValues = new ArrayList<>();
-        int maxHeight = Integer.MIN_VALUE;
-        int maxWidth = cellSize.width() - 2;
-        for (String value : values) {
-            justifiedValues.add(ConsoleUtility.InteractiveShell.justifyText(value, maxWidth));
-            if (justifiedValues.getLast().length > maxHeight) {
-                maxHeight = justifiedValues.getLast().length;
-            }
-        }
-        for (int i = 0; i < Math.max(maxHeight, cellSize.height()); i++) {
-            tableRow.append("| ");
-            for (String[] justifiedValue : justifiedValues) {
-                if (justifiedValue.length > i) {
-                    if (justifiedValue[i] == null) {
-                        tableRow.append(String.format("%-" + maxWidth + "s", ConsoleConstants.NULL_CELL));
-                        break;
-                    }
-                    tableRow.append(String.format("%-" + maxWidth + "s", justifiedValue[i]));
-                } else {
-                    tableRow.append(String.format("%-" + maxWidth + "s", ConsoleConstants.EMPTY_CELL));
-                }
-                tableRow.append(" | ");
-            }
-            tableRow.append('\n');
-        }
-        return Optional.of(tableRow.toString());
-    }
-
-    private static String createTableSeparator(int attributesCount, int attributesWidth) {
-        StringBuilder tableSeparator = new StringBuilder();
-        for (int i = 0; i < attributesCount; i++) {
-            tableSeparator.append('+');
-            tableSeparator.append("-".repeat(attributesWidth));
-        }
-        tableSeparator.append('+');
-        return tableSeparator.toString();
-    }
-
 }
\ No newline at end of file
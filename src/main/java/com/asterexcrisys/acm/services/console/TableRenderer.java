@@ -0,0 +1,140 @@
+package com.asterexcrisys.acm.services.console;
+
+import com.asterexcrisys.acm.constants.ConsoleConstants;
+import com.asterexcrisys.acm.types.console.CellSize;
+import com.asterexcrisys.acm.utility.ConsoleUtility;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class TableRenderer {
+
+    private static final Logger LOGGER = Logger.getLogger(TableRenderer.class.getName());
+
+    private final List<String> attributes;
+    private final CellSize cellSize;
+    private final int sampleSize;
+
+    public TableRenderer(List<String> attributes, CellSize cellSize) throws NullPointerException, IllegalArgumentException {
+        this(attributes, cellSize, ConsoleConstants.SAMPLE_SIZE);
+    }
+
+    public TableRenderer(List<String> attributes, CellSize cellSize, int sampleSize) throws NullPointerException, IllegalArgumentException {
+        this.attributes = List.copyOf(Objects.requireNonNull(attributes));
+        if (this.attributes.isEmpty()) {
+            throw new IllegalArgumentException("Attributes must not be empty");
+        }
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("Sample size must not be negative");
+        }
+        this.cellSize = Objects.requireNonNull(cellSize);
+        this.sampleSize = sampleSize;
+    }
+
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    public CellSize getCellSize() {
+        return cellSize;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public boolean render(Iterator<? extends List<String>> records, Writer writer) {
+        if (records == null || writer == null) {
+            return false;
+        }
+        List<List<String>> sample = new ArrayList<>();
+        while (sample.size() < sampleSize && records.hasNext()) {
+            sample.add(records.next());
+        }
+        int[] widths = getWidths(sample);
+        int maximumWidth = 0;
+        for (int width : widths) {
+            maximumWidth = Math.max(maximumWidth, width);
+        }
+        String separator = createSeparator(widths);
+        String padding = " ".repeat(maximumWidth);
+        try {
+            writeRow(writer, attributes, widths, separator, padding);
+            writer.write(separator);
+            writer.write('\n');
+            for (List<String> record : sample) {
+                writeRow(writer, record, widths, separator, padding);
+            }
+            sample.clear();
+            while (records.hasNext()) {
+                writeRow(writer, records.next(), widths, separator, padding);
+            }
+            writer.write(separator);
+            writer.write('\n');
+            writer.flush();
+            return true;
+        } catch (InterruptedIOException e) {
+            return false;
+        } catch (IOException e) {
+            LOGGER.warning("Error rendering table: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private int[] getWidths(List<List<String>> sample) {
+        int[] widths = new int[attributes.size()];
+        for (int i = 0; i < widths.length; i++) {
+            if (sampleSize == 0) {
+                widths[i] = cellSize.width() - 2;
+                continue;
+            }
+            int width = attributes.get(i).length();
+            for (List<String> record : sample) {
+                if (i < record.size() && record.get(i) != null) {
+                    width = Math.max(width, record.get(i).length());
+                }
+            }
+            widths[i] = Math.clamp(width, 1, cellSize.width() - 2);
+        }
+        return widths;
+    }
+
+    private void writeRow(Writer writer, List<String> values, int[] widths, String separator, String padding) throws IOException {
+        writer.write(separator);
+        writer.write('\n');
+        String[][] lines = new String[widths.length][];
+        int height = cellSize.height();
+        for (int i = 0; i < widths.length; i++) {
+            String value = i < values.size()? values.get(i):ConsoleConstants.EMPTY_CELL;
+            lines[i] = ConsoleUtility.InteractiveShell.justifyText(value == null? ConsoleConstants.NULL_CELL:value, widths[i]);
+            height = Math.max(height, lines[i].length);
+        }
+        for (int line = 0; line < height; line++) {
+            writer.write("| ");
+            for (int i = 0; i < widths.length; i++) {
+                String text = line < lines[i].length? lines[i][line]:ConsoleConstants.EMPTY_CELL;
+                writer.write(text);
+                writer.write(padding, 0, widths[i] - text.length());
+                writer.write(" | ");
+            }
+            writer.write('\n');
+        }
+    }
+
+    private static String createSeparator(int[] widths) {
+        StringBuilder separator = new StringBuilder();
+        for (int width : widths) {
+            separator.append('+');
+            separator.append("-".repeat(width + 2));
+        }
+        separator.append('+');
+        return separator.toString();
+    }
+
+}
\ No newline at end of file
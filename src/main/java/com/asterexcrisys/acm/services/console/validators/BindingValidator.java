@@ -0,0 +1,15 @@
+package com.asterexcrisys.acm.services.console.validators;
+
+import com.asterexcrisys.acm.types.injection.SecretReference;
+
+@SuppressWarnings("unused")
+public final class BindingValidator implements Validator {
+
+    public boolean validate(String data) {
+        if (data == null || data.isBlank()) {
+            return false;
+        }
+        return SecretReference.parseBindings(data).isPresent();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.asterexcrisys.acm.services.console.validators;
+
+@SuppressWarnings("unused")
+public final class CommandValidator implements Validator {
+
+    public boolean validate(String data) {
+        if (data == null || data.isBlank()) {
+            return false;
+        }
+        return data.indexOf('\0') < 0;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.asterexcrisys.acm.services.console.validators;
+
+import java.nio.file.FileSystems;
+
+@SuppressWarnings("unused")
+public final class GlobValidator implements Validator {
+
+    public boolean validate(String data) {
+        if (data == null || data.isBlank()) {
+            return false;
+        }
+        try {
+            FileSystems.getDefault().getPathMatcher("glob:" + data);
+            return true;
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+}
\ No newline at end of file
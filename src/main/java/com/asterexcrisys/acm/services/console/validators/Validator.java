@@ -1,7 +1,7 @@
 package com.asterexcrisys.acm.services.console.validators;
 
 @SuppressWarnings("unused")
-public sealed interface Validator permits GenericValidator, PasswordValidator, IntegerNumberValidator, FloatNumberValidator, EnumerationValidator, DateValidator, PathValidator {
+public sealed interface Validator permits GenericValidator, PasswordValidator, IntegerNumberValidator, FloatNumberValidator, EnumerationValidator, DateValidator, PathValidator, GlobValidator, BindingValidator, CommandValidator {
 
     boolean validate(String data);
 
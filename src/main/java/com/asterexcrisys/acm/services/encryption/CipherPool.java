@@ -0,0 +1,76 @@
+package com.asterexcrisys.acm.services.encryption;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class CipherPool {
+
+    private static final Logger LOGGER = Logger.getLogger(CipherPool.class.getName());
+
+    private final String transformation;
+    private final int capacity;
+    private final Queue<Cipher> ciphers;
+    private final AtomicInteger size;
+
+    public CipherPool(String transformation, int capacity) throws NullPointerException, IllegalArgumentException {
+        this.transformation = Objects.requireNonNull(transformation);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Pool capacity must be positive");
+        }
+        this.capacity = capacity;
+        ciphers = new ConcurrentLinkedQueue<>();
+        size = new AtomicInteger(0);
+    }
+
+    public String getTransformation() {
+        return transformation;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getSize() {
+        return size.get();
+    }
+
+    public Optional<Cipher> acquire() {
+        Cipher cipher = ciphers.poll();
+        if (cipher != null) {
+            size.decrementAndGet();
+            return Optional.of(cipher);
+        }
+        try {
+            return Optional.of(Cipher.getInstance(transformation));
+        } catch (NoSuchPaddingException | NoSuchAlgorithmException e) {
+            LOGGER.warning("Error creating cipher: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void release(Cipher cipher) {
+        if (cipher == null || !transformation.equals(cipher.getAlgorithm())) {
+            return;
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return;
+        }
+        ciphers.offer(cipher);
+    }
+
+    public void clear() {
+        while (ciphers.poll() != null) {
+            size.decrementAndGet();
+        }
+    }
+
+}
\ No newline at end of file
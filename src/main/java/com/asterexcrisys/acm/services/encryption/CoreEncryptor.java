@@ -2,15 +2,13 @@ package com.asterexcrisys.acm.services.encryption;
 
 import com.asterexcrisys.acm.constants.EncryptionConstants;
 import com.asterexcrisys.acm.types.encryption.CipherMode;
-import com.asterexcrisys.acm.types.utility.Pair;
+import com.asterexcrisys.acm.utility.RandomnessUtility;
 import javax.crypto.*;
 import javax.crypto.spec.GCMParameterSpec;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.Objects;
 import java.util.Optional;
@@ -20,6 +18,7 @@ import java.util.logging.Logger;
 public final class CoreEncryptor implements Encryptor {
 
     private static final Logger LOGGER = Logger.getLogger(CoreEncryptor.class.getName());
+    private static final CipherPool CIPHERS = new CipherPool(EncryptionConstants.ENCRYPTION_TRANSFORMATION, EncryptionConstants.CIPHER_POOL_SIZE);
 
     private final SecretKey key;
 
@@ -34,6 +33,13 @@ public final class CoreEncryptor implements Encryptor {
         return encryptor.encrypt(Base64.getEncoder().encodeToString(key.getEncoded()));
     }
 
+    public Optional<byte[]> getRawEncryptedKey(Encryptor encryptor) {
+        if (encryptor == null) {
+            return Optional.empty();
+        }
+        return encryptor.encryptRaw(Base64.getEncoder().encode(key.getEncoded()));
+    }
+
     public String getDecryptedKey() {
         return Base64.getEncoder().encodeToString(key.getEncoded());
     }
@@ -42,6 +48,10 @@ public final class CoreEncryptor implements Encryptor {
         return key.getAlgorithm();
     }
 
+    SecretKey getKey() {
+        return key;
+    }
+
     public Optional<String> encrypt(String data) {
         if (data == null || data.isBlank()) {
             return Optional.empty();
@@ -50,22 +60,47 @@ public final class CoreEncryptor implements Encryptor {
     }
 
     public Optional<String> encrypt(byte[] data) {
+        return encryptRaw(data).map(Base64.getEncoder()::encodeToString);
+    }
+
+    public Optional<byte[]> encryptRaw(byte[] data) {
         if (data == null || data.length == 0) {
             return Optional.empty();
         }
+        byte[] result = new byte[getEncryptedSize(data.length)];
+        if (!encrypt(ByteBuffer.wrap(data), ByteBuffer.wrap(result))) {
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+
+    public boolean encrypt(ByteBuffer source, ByteBuffer destination) {
+        if (source == null || destination == null || !source.hasRemaining() || destination.isReadOnly()) {
+            return false;
+        }
+        if (destination.remaining() < getEncryptedSize(source.remaining())) {
+            return false;
+        }
+        int sourcePosition = source.position();
+        int destinationPosition = destination.position();
+        Optional<Cipher> cipher = CIPHERS.acquire();
+        if (cipher.isEmpty()) {
+            return false;
+        }
         try {
             byte[] vector = new byte[EncryptionConstants.INITIALIZATION_VECTOR_SIZE];
-            SecureRandom.getInstanceStrong().nextBytes(vector);
-            Cipher cipher = Cipher.getInstance(EncryptionConstants.ENCRYPTION_TRANSFORMATION);
-            cipher.init(CipherMode.ENCRYPT.getValue(), key, new GCMParameterSpec(EncryptionConstants.AUTHENTICATION_TAG_SIZE, vector));
-            Optional<byte[]> result = construct(vector, cipher.doFinal(data));
-            if (result.isEmpty()) {
-                return Optional.empty();
-            }
-            return Optional.ofNullable(Base64.getEncoder().encodeToString(result.get()));
-        } catch (NoSuchPaddingException | NoSuchAlgorithmException | InvalidAlgorithmParameterException | IllegalBlockSizeException | InvalidKeyException | BadPaddingException e) {
+            RandomnessUtility.nextBytes(vector);
+            cipher.get().init(CipherMode.ENCRYPT.getValue(), key, new GCMParameterSpec(EncryptionConstants.AUTHENTICATION_TAG_SIZE, vector));
+            destination.put(vector);
+            cipher.get().doFinal(source, destination);
+            return true;
+        } catch (InvalidAlgorithmParameterException | IllegalBlockSizeException | InvalidKeyException | BadPaddingException | ShortBufferException e) {
             LOGGER.warning("Error encrypting data: " + e.getMessage());
-            return Optional.empty();
+            source.position(sourcePosition);
+            destination.position(destinationPosition);
+            return false;
+        } finally {
+            CIPHERS.release(cipher.get());
         }
     }
 
@@ -80,44 +115,94 @@ public final class CoreEncryptor implements Encryptor {
         if (data == null || data.length == 0) {
             return Optional.empty();
         }
+        byte[] bytes;
         try {
-            Optional<Pair<byte[], byte[]>> pair = deconstruct(Base64.getDecoder().decode(data));
-            if (pair.isEmpty()) {
-                return Optional.empty();
-            }
-            Cipher cipher = Cipher.getInstance(EncryptionConstants.ENCRYPTION_TRANSFORMATION);
-            cipher.init(CipherMode.DECRYPT.getValue(), key, new GCMParameterSpec(EncryptionConstants.AUTHENTICATION_TAG_SIZE, pair.get().first()));
-            byte[] result = cipher.doFinal(pair.get().second());
-            return Optional.of(new String(result, StandardCharsets.UTF_8));
-        } catch (NoSuchPaddingException | IllegalBlockSizeException | NoSuchAlgorithmException | InvalidAlgorithmParameterException | BadPaddingException | InvalidKeyException e) {
-            LOGGER.warning("Error decrypting data: " + e.getMessage());
+            bytes = Base64.getDecoder().decode(data);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Error decoding data: " + e.getMessage());
             return Optional.empty();
         }
+        return decryptRaw(bytes).map((result) -> new String(result, StandardCharsets.UTF_8));
     }
 
-    private static Optional<byte[]> construct(byte[] vector, byte[] encryptedData) {
-        if (vector == null || vector.length != EncryptionConstants.INITIALIZATION_VECTOR_SIZE) {
+    public Optional<byte[]> decryptRaw(byte[] data) {
+        if (data == null || data.length <= getEncryptedSize(0)) {
             return Optional.empty();
         }
-        if (encryptedData == null || encryptedData.length < 1) {
+        byte[] result = new byte[getDecryptedSize(data.length)];
+        if (!decrypt(ByteBuffer.wrap(data), ByteBuffer.wrap(result))) {
             return Optional.empty();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(vector.length + encryptedData.length);
-        buffer.put(vector);
-        buffer.put(encryptedData);
-        return Optional.of(buffer.array());
+        return Optional.of(result);
     }
 
-    private static Optional<Pair<byte[], byte[]>> deconstruct(byte[] result) {
-        if (result == null || result.length <= EncryptionConstants.INITIALIZATION_VECTOR_SIZE) {
-            return Optional.empty();
+    public boolean decrypt(ByteBuffer source, ByteBuffer destination) {
+        if (source == null || destination == null || destination.isReadOnly()) {
+            return false;
+        }
+        if (source.remaining() <= getEncryptedSize(0) || destination.remaining() < getDecryptedSize(source.remaining())) {
+            return false;
+        }
+        int sourcePosition = source.position();
+        int destinationPosition = destination.position();
+        Optional<Cipher> cipher = CIPHERS.acquire();
+        if (cipher.isEmpty()) {
+            return false;
+        }
+        try {
+            byte[] vector = new byte[EncryptionConstants.INITIALIZATION_VECTOR_SIZE];
+            source.get(vector);
+            cipher.get().init(CipherMode.DECRYPT.getValue(), key, new GCMParameterSpec(EncryptionConstants.AUTHENTICATION_TAG_SIZE, vector));
+            cipher.get().doFinal(source, destination);
+            return true;
+        } catch (IllegalBlockSizeException | InvalidAlgorithmParameterException | BadPaddingException | InvalidKeyException | ShortBufferException e) {
+            LOGGER.warning("Error decrypting data: " + e.getMessage());
+            source.position(sourcePosition);
+            destination.position(destinationPosition);
+            return false;
+        } finally {
+            CIPHERS.release(cipher.get());
+        }
+    }
+
+    static boolean encrypt(SecretKey key, byte[] vector, ByteBuffer source, ByteBuffer destination) {
+        return transform(CipherMode.ENCRYPT, key, vector, source, destination);
+    }
+
+    static boolean decrypt(SecretKey key, byte[] vector, ByteBuffer source, ByteBuffer destination) {
+        return transform(CipherMode.DECRYPT, key, vector, source, destination);
+    }
+
+    public static int getEncryptedSize(int length) {
+        return EncryptionConstants.INITIALIZATION_VECTOR_SIZE + length + EncryptionConstants.AUTHENTICATION_TAG_SIZE / Byte.SIZE;
+    }
+
+    public static int getDecryptedSize(int length) {
+        return Math.max(0, length - getEncryptedSize(0));
+    }
+
+    private static boolean transform(CipherMode mode, SecretKey key, byte[] vector, ByteBuffer source, ByteBuffer destination) {
+        if (key == null || vector == null || source == null || destination == null || destination.isReadOnly()) {
+            return false;
+        }
+        int sourcePosition = source.position();
+        int destinationPosition = destination.position();
+        Optional<Cipher> cipher = CIPHERS.acquire();
+        if (cipher.isEmpty()) {
+            return false;
+        }
+        try {
+            cipher.get().init(mode.getValue(), key, new GCMParameterSpec(EncryptionConstants.AUTHENTICATION_TAG_SIZE, vector));
+            cipher.get().doFinal(source, destination);
+            return true;
+        } catch (InvalidAlgorithmParameterException | IllegalBlockSizeException | InvalidKeyException | BadPaddingException | ShortBufferException e) {
+            LOGGER.warning("Error transforming data: " + e.getMessage());
+            source.position(sourcePosition);
+            destination.position(destinationPosition);
+            return false;
+        } finally {
+            CIPHERS.release(cipher.get());
         }
-        ByteBuffer buffer = ByteBuffer.wrap(result).asReadOnlyBuffer();
-        byte[] vector = new byte[EncryptionConstants.INITIALIZATION_VECTOR_SIZE];
-        byte[] encryptedData = new byte[result.length - EncryptionConstants.INITIALIZATION_VECTOR_SIZE];
-        buffer.get(vector);
-        buffer.get(encryptedData);
-        return Optional.of(new Pair<>(vector, encryptedData));
     }
 
 }
\ No newline at end of file
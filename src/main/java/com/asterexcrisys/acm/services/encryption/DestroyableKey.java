@@ -0,0 +1,45 @@
+package com.asterexcrisys.acm.services.encryption;
+
+import com.asterexcrisys.acm.constants.EncryptionConstants;
+import javax.crypto.SecretKey;
+import java.util.Arrays;
+import java.util.Objects;
+
+@SuppressWarnings("unused")
+final class DestroyableKey implements SecretKey {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] encodedKey;
+    private volatile boolean isDestroyed;
+
+    DestroyableKey(byte[] encodedKey) throws NullPointerException {
+        this.encodedKey = Objects.requireNonNull(encodedKey);
+        isDestroyed = false;
+    }
+
+    public String getAlgorithm() {
+        return EncryptionConstants.KEY_GENERATION_ALGORITHM;
+    }
+
+    public String getFormat() {
+        return "RAW";
+    }
+
+    public byte[] getEncoded() {
+        if (isDestroyed) {
+            return null;
+        }
+        return encodedKey.clone();
+    }
+
+    public boolean isDestroyed() {
+        return isDestroyed;
+    }
+
+    public void destroy() {
+        isDestroyed = true;
+        Arrays.fill(encodedKey, (byte) 0);
+    }
+
+}
\ No newline at end of file
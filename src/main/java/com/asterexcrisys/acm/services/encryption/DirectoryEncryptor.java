@@ -0,0 +1,123 @@
+package com.asterexcrisys.acm.services.encryption;
+
+import com.asterexcrisys.acm.constants.EncryptionConstants;
+import com.asterexcrisys.acm.services.utility.MatchPathVisitor;
+import com.asterexcrisys.acm.types.encryption.BatchSummary;
+import com.asterexcrisys.acm.types.encryption.CipherMode;
+import com.asterexcrisys.acm.utility.EncryptionUtility;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class DirectoryEncryptor {
+
+    private static final Logger LOGGER = Logger.getLogger(DirectoryEncryptor.class.getName());
+
+    private final GenericEncryptor encryptor;
+    private final int concurrency;
+
+    public DirectoryEncryptor(GenericEncryptor encryptor) throws NullPointerException {
+        this(encryptor, EncryptionConstants.FILE_CONCURRENCY);
+    }
+
+    public DirectoryEncryptor(GenericEncryptor encryptor, int concurrency) throws NullPointerException, IllegalArgumentException {
+        this.encryptor = Objects.requireNonNull(encryptor);
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Optional<BatchSummary> encrypt(Path directory, String glob) {
+        return transform(CipherMode.ENCRYPT, directory, glob);
+    }
+
+    public Optional<BatchSummary> decrypt(Path directory, String glob) {
+        return transform(CipherMode.DECRYPT, directory, glob);
+    }
+
+    private Optional<BatchSummary> transform(CipherMode mode, Path directory, String glob) {
+        if (mode == null || directory == null || glob == null || glob.isBlank() || !Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        Queue<Path> failures = new ConcurrentLinkedQueue<>();
+        Optional<List<Path>> files = listFiles(directory, glob, failures);
+        if (files.isEmpty()) {
+            return Optional.empty();
+        }
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicInteger processed = new AtomicInteger(0);
+        AtomicInteger skipped = new AtomicInteger(0);
+        LongAdder bytes = new LongAdder();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Path file : files.get()) {
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        if (mode == CipherMode.ENCRYPT && SegmentedEncryptor.isSegmented(file)) {
+                            skipped.incrementAndGet();
+                            return;
+                        }
+                        long size = Files.size(file);
+                        if (!EncryptionUtility.transformFile(encryptor, mode, file)) {
+                            failures.add(file);
+                            return;
+                        }
+                        processed.incrementAndGet();
+                        bytes.add(size);
+                    } catch (IOException e) {
+                        LOGGER.warning("Error transforming file: " + e.getMessage());
+                        failures.add(file);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        List<Path> failedFiles = new ArrayList<>(failures);
+        failedFiles.sort(null);
+        return Optional.of(BatchSummary.of(
+                processed.get(),
+                skipped.get(),
+                bytes.sum(),
+                Duration.ofNanos(System.nanoTime() - start),
+                failedFiles
+        ));
+    }
+
+    private static Optional<List<Path>> listFiles(Path directory, String glob, Queue<Path> failures) {
+        try {
+            MatchPathVisitor visitor = new MatchPathVisitor(directory, FileSystems.getDefault().getPathMatcher("glob:" + glob));
+            Files.walkFileTree(directory, visitor);
+            failures.addAll(visitor.getFailures());
+            return Optional.of(visitor.getMatches());
+        } catch (IOException | IllegalArgumentException | UnsupportedOperationException e) {
+            LOGGER.warning("Error listing files: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.asterexcrisys.acm.services.encryption;
 
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
 @SuppressWarnings("unused")
@@ -9,8 +10,16 @@ public sealed interface Encryptor permits CoreEncryptor, KeyEncryptor, GenericEn
 
     Optional<String> encrypt(byte[] data);
 
+    Optional<byte[]> encryptRaw(byte[] data);
+
+    boolean encrypt(ByteBuffer source, ByteBuffer destination);
+
     Optional<String> decrypt(String data);
 
     Optional<String> decrypt(byte[] data);
 
+    Optional<byte[]> decryptRaw(byte[] data);
+
+    boolean decrypt(ByteBuffer source, ByteBuffer destination);
+
 }
\ No newline at end of file
@@ -2,9 +2,13 @@ package com.asterexcrisys.acm.services.encryption;
 
 import com.asterexcrisys.acm.constants.EncryptionConstants;
 import com.asterexcrisys.acm.exceptions.EncryptionException;
+import com.asterexcrisys.acm.utility.RandomnessUtility;
 import javax.crypto.*;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.*;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,10 +29,18 @@ public final class GenericEncryptor implements Encryptor {
         encryptor = new CoreEncryptor(generateKey(Objects.requireNonNull(sealedKey)).orElseThrow(EncryptionException::new));
     }
 
+    public GenericEncryptor(SecretKey key) throws NullPointerException {
+        encryptor = new CoreEncryptor(Objects.requireNonNull(key));
+    }
+
     public Optional<String> getEncryptedKey(KeyEncryptor encryptor) {
         return this.encryptor.getEncryptedKey(encryptor);
     }
 
+    public Optional<byte[]> getRawEncryptedKey(KeyEncryptor encryptor) {
+        return this.encryptor.getRawEncryptedKey(encryptor);
+    }
+
     public String getDecryptedKey() {
         return encryptor.getDecryptedKey();
     }
@@ -37,6 +49,85 @@ public final class GenericEncryptor implements Encryptor {
         return encryptor.getAlgorithm();
     }
 
+    SecretKey getKey() {
+        return encryptor.getKey();
+    }
+
+    public Optional<SecretKey> deriveKey(byte[] context, String purpose) {
+        if (context == null || context.length == 0 || purpose == null || purpose.isBlank()) {
+            return Optional.empty();
+        }
+        byte[] material = getKey().getEncoded();
+        byte[] pseudorandomKey = new byte[0];
+        byte[] derivedKey = new byte[0];
+        try {
+            Mac mac = Mac.getInstance(EncryptionConstants.DERIVATION_ALGORITHM);
+            mac.init(new SecretKeySpec(context, EncryptionConstants.DERIVATION_ALGORITHM));
+            pseudorandomKey = mac.doFinal(material);
+            mac.init(new SecretKeySpec(pseudorandomKey, EncryptionConstants.DERIVATION_ALGORITHM));
+            mac.update(purpose.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 1);
+            derivedKey = mac.doFinal();
+            return Optional.of(new SecretKeySpec(derivedKey, 0, EncryptionConstants.KEY_SIZE / Byte.SIZE, EncryptionConstants.KEY_GENERATION_ALGORITHM));
+        } catch (NoSuchAlgorithmException | InvalidKeyException | IllegalArgumentException e) {
+            LOGGER.warning("Error deriving key: " + e.getMessage());
+            return Optional.empty();
+        } finally {
+            Arrays.fill(material, (byte) 0);
+            Arrays.fill(pseudorandomKey, (byte) 0);
+            Arrays.fill(derivedKey, (byte) 0);
+        }
+    }
+
+    public Optional<String> encryptDerived(String data) {
+        if (data == null || data.isBlank()) {
+            return Optional.empty();
+        }
+        byte[] context = new byte[EncryptionConstants.DERIVATION_CONTEXT_SIZE];
+        RandomnessUtility.nextBytes(context);
+        Optional<SecretKey> key = deriveKey(context, EncryptionConstants.TEXT_DERIVATION_INFO);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer result = ByteBuffer.allocate(context.length + bytes.length + EncryptionConstants.AUTHENTICATION_TAG_SIZE / Byte.SIZE);
+        result.put(context);
+        if (!CoreEncryptor.encrypt(key.get(), new byte[EncryptionConstants.INITIALIZATION_VECTOR_SIZE], ByteBuffer.wrap(bytes), result)) {
+            return Optional.empty();
+        }
+        return Optional.of(EncryptionConstants.DERIVED_TEXT_PREFIX + Base64.getEncoder().encodeToString(result.array()));
+    }
+
+    public Optional<String> decryptDerived(String data) {
+        if (data == null || data.isBlank()) {
+            return Optional.empty();
+        }
+        if (!data.startsWith(EncryptionConstants.DERIVED_TEXT_PREFIX)) {
+            return decrypt(data);
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(data.substring(EncryptionConstants.DERIVED_TEXT_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Error decoding data: " + e.getMessage());
+            return Optional.empty();
+        }
+        int overhead = EncryptionConstants.DERIVATION_CONTEXT_SIZE + EncryptionConstants.AUTHENTICATION_TAG_SIZE / Byte.SIZE;
+        if (bytes.length <= overhead) {
+            return Optional.empty();
+        }
+        Optional<SecretKey> key = deriveKey(Arrays.copyOf(bytes, EncryptionConstants.DERIVATION_CONTEXT_SIZE), EncryptionConstants.TEXT_DERIVATION_INFO);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] result = new byte[bytes.length - overhead];
+        ByteBuffer source = ByteBuffer.wrap(bytes, EncryptionConstants.DERIVATION_CONTEXT_SIZE, bytes.length - EncryptionConstants.DERIVATION_CONTEXT_SIZE);
+        if (!CoreEncryptor.decrypt(key.get(), new byte[EncryptionConstants.INITIALIZATION_VECTOR_SIZE], source, ByteBuffer.wrap(result))) {
+            return Optional.empty();
+        }
+        return Optional.of(new String(result, StandardCharsets.UTF_8));
+    }
+
     public Optional<String> encrypt(String data) {
         return encryptor.encrypt(data);
     }
@@ -45,6 +136,14 @@ public final class GenericEncryptor implements Encryptor {
         return encryptor.encrypt(data);
     }
 
+    public Optional<byte[]> encryptRaw(byte[] data) {
+        return encryptor.encryptRaw(data);
+    }
+
+    public boolean encrypt(ByteBuffer source, ByteBuffer destination) {
+        return encryptor.encrypt(source, destination);
+    }
+
     public Optional<String> decrypt(String data) {
         return encryptor.decrypt(data);
     }
@@ -53,10 +152,18 @@ public final class GenericEncryptor implements Encryptor {
         return encryptor.decrypt(data);
     }
 
+    public Optional<byte[]> decryptRaw(byte[] data) {
+        return encryptor.decryptRaw(data);
+    }
+
+    public boolean decrypt(ByteBuffer source, ByteBuffer destination) {
+        return encryptor.decrypt(source, destination);
+    }
+
     public static Optional<SecretKey> generateKey() {
         try {
             KeyGenerator generator = KeyGenerator.getInstance(EncryptionConstants.KEY_GENERATION_ALGORITHM);
-            generator.init(EncryptionConstants.KEY_SIZE);
+            generator.init(EncryptionConstants.KEY_SIZE, RandomnessUtility.getSecureRandom());
             return Optional.ofNullable(generator.generateKey());
         } catch (NoSuchAlgorithmException | InvalidParameterException e) {
             LOGGER.warning("Error generating key: " + e.getMessage());
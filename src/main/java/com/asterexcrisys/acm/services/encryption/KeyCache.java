@@ -0,0 +1,163 @@
+package com.asterexcrisys.acm.services.encryption;
+
+import com.asterexcrisys.acm.constants.EncryptionConstants;
+import com.asterexcrisys.acm.services.utility.ExpiringCache;
+import com.asterexcrisys.acm.types.utility.CacheStatistics;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class KeyCache implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(KeyCache.class.getName());
+
+    private final ExpiringCache<String, CachedKey> keys;
+    private final ExpiringCache<String, DestroyableKey> encryptors;
+    private long generation;
+
+    public KeyCache() {
+        this(EncryptionConstants.KEY_CACHE_SIZE, EncryptionConstants.KEY_CACHE_TIME_TO_LIVE);
+    }
+
+    public KeyCache(int maximumSize, Duration timeToLive) throws NullPointerException, IllegalArgumentException {
+        keys = new ExpiringCache<>(maximumSize, timeToLive, CachedKey::destroy);
+        encryptors = new ExpiringCache<>(maximumSize, timeToLive, DestroyableKey::destroy);
+        generation = 0;
+    }
+
+    public int getMaximumSize() {
+        return keys.getMaximumSize();
+    }
+
+    public Duration getTimeToLive() {
+        return keys.getTimeToLive();
+    }
+
+    public Optional<GenericEncryptor> unwrap(String identifier, byte[] wrappedKey, KeyEncryptor encryptor) {
+        if (identifier == null || wrappedKey == null || encryptor == null) {
+            return Optional.empty();
+        }
+        Optional<SecretKey> key = keys.get(identifier, (cachedKey) -> cachedKey.matches(wrappedKey)).flatMap(CachedKey::copy);
+        if (key.isPresent()) {
+            return Optional.of(new GenericEncryptor(key.get()));
+        }
+        key = unwrapKey(wrappedKey, encryptor);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        keys.put(identifier, new CachedKey(wrappedKey.clone(), new DestroyableKey(key.get().getEncoded())));
+        return Optional.of(new GenericEncryptor(key.get()));
+    }
+
+    public Optional<GenericEncryptor> resolve(String identifier, Function<String, Optional<GenericEncryptor>> loader) {
+        if (identifier == null || loader == null) {
+            return Optional.empty();
+        }
+        Optional<SecretKey> key = encryptors.get(identifier).flatMap(KeyCache::copyKey);
+        if (key.isPresent()) {
+            return Optional.of(new GenericEncryptor(key.get()));
+        }
+        long expectedGeneration;
+        synchronized (this) {
+            expectedGeneration = generation;
+        }
+        Optional<GenericEncryptor> encryptor = loader.apply(identifier);
+        if (encryptor.isEmpty()) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            if (generation == expectedGeneration) {
+                encryptors.put(identifier, new DestroyableKey(encryptor.get().getKey().getEncoded()));
+            }
+        }
+        return encryptor;
+    }
+
+    public synchronized boolean invalidate(String identifier) {
+        if (identifier == null) {
+            return false;
+        }
+        generation++;
+        encryptors.invalidate(identifier);
+        return keys.invalidate(identifier);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        encryptors.invalidateAll();
+        keys.invalidateAll();
+    }
+
+    public CacheStatistics getStatistics() {
+        return keys.getStatistics();
+    }
+
+    public CacheStatistics getEncryptorStatistics() {
+        return encryptors.getStatistics();
+    }
+
+    public void close() {
+        encryptors.close();
+        keys.close();
+    }
+
+    public static Optional<SecretKey> unwrapKey(byte[] wrappedKey, KeyEncryptor encryptor) {
+        if (wrappedKey == null || encryptor == null) {
+            return Optional.empty();
+        }
+        Optional<byte[]> sealedKey = encryptor.decryptRaw(wrappedKey);
+        if (sealedKey.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            byte[] unsealedKey = Base64.getDecoder().decode(sealedKey.get());
+            try {
+                return Optional.of(new SecretKeySpec(unsealedKey, EncryptionConstants.KEY_GENERATION_ALGORITHM));
+            } finally {
+                Arrays.fill(unsealedKey, (byte) 0);
+            }
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Error unwrapping key: " + e.getMessage());
+            return Optional.empty();
+        } finally {
+            Arrays.fill(sealedKey.get(), (byte) 0);
+        }
+    }
+
+    private static Optional<SecretKey> copyKey(DestroyableKey key) {
+        byte[] encodedKey = key.getEncoded();
+        if (encodedKey == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new SecretKeySpec(encodedKey, EncryptionConstants.KEY_GENERATION_ALGORITHM));
+        } finally {
+            Arrays.fill(encodedKey, (byte) 0);
+        }
+    }
+
+    private record CachedKey(byte[] wrappedKey, DestroyableKey key) {
+
+        // All necessary methods are generated by default
+
+        public boolean matches(byte[] wrappedKey) {
+            return Arrays.equals(this.wrappedKey, wrappedKey);
+        }
+
+        public Optional<SecretKey> copy() {
+            return copyKey(key);
+        }
+
+        public void destroy() {
+            key.destroy();
+        }
+
+    }
+
+}
\ No newline at end of file
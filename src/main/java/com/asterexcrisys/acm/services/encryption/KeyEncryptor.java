@@ -7,6 +7,7 @@ import com.asterexcrisys.acm.utility.HashingUtility;
 import javax.crypto.*;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Base64;
@@ -32,6 +33,11 @@ public final class KeyEncryptor implements Encryptor {
         encryptor = new CoreEncryptor(deriveKey(Objects.requireNonNull(password), this.salt).orElseThrow(DerivationException::new));
     }
 
+    public KeyEncryptor(KeyMaterial material) throws NullPointerException, DerivationException {
+        salt = Objects.requireNonNull(material).getSalt();
+        encryptor = new CoreEncryptor(material.getKey().orElseThrow(DerivationException::new));
+    }
+
     public String getSealedSalt() {
         return Base64.getEncoder().encodeToString(salt);
     }
@@ -48,6 +54,14 @@ public final class KeyEncryptor implements Encryptor {
         return encryptor.encrypt(data);
     }
 
+    public Optional<byte[]> encryptRaw(byte[] data) {
+        return encryptor.encryptRaw(data);
+    }
+
+    public boolean encrypt(ByteBuffer source, ByteBuffer destination) {
+        return encryptor.encrypt(source, destination);
+    }
+
     public Optional<String> decrypt(String data) {
         return encryptor.decrypt(data);
     }
@@ -56,14 +70,26 @@ public final class KeyEncryptor implements Encryptor {
         return encryptor.decrypt(data);
     }
 
+    public Optional<byte[]> decryptRaw(byte[] data) {
+        return encryptor.decryptRaw(data);
+    }
+
+    public boolean decrypt(ByteBuffer source, ByteBuffer destination) {
+        return encryptor.decrypt(source, destination);
+    }
+
     public static Optional<SecretKey> deriveKey(String password, byte[] salt) {
+        return deriveKey(password, salt, HashingConstants.KEY_ITERATION_COUNT);
+    }
+
+    public static Optional<SecretKey> deriveKey(String password, byte[] salt, int iterationCount) {
         if (password == null || password.isBlank()) {
             return Optional.empty();
         }
-        if (salt == null || salt.length != HashingConstants.SALT_SIZE) {
+        if (salt == null || salt.length != HashingConstants.SALT_SIZE || iterationCount < 1) {
             return Optional.empty();
         }
-        PBEKeySpec pbeKeySpec = new PBEKeySpec(password.toCharArray(), salt, HashingConstants.KEY_ITERATION_COUNT, HashingConstants.KEY_SIZE);
+        PBEKeySpec pbeKeySpec = new PBEKeySpec(password.toCharArray(), salt, iterationCount, HashingConstants.KEY_SIZE);
         try {
             SecretKeyFactory secretKeyFactory = SecretKeyFactory.getInstance(HashingConstants.KEY_DERIVATION_ALGORITHM);
             return Optional.of(new SecretKeySpec(
@@ -0,0 +1,88 @@
+package com.asterexcrisys.acm.services.encryption;
+
+import com.asterexcrisys.acm.constants.HashingConstants;
+import com.asterexcrisys.acm.exceptions.DerivationException;
+import com.asterexcrisys.acm.utility.HashingUtility;
+import javax.crypto.SecretKey;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+@SuppressWarnings("unused")
+public final class KeyMaterial implements AutoCloseable {
+
+    private final byte[] salt;
+    private final int iterationCount;
+    private final DestroyableKey key;
+
+    public KeyMaterial(String password) throws NullPointerException, DerivationException, NoSuchAlgorithmException {
+        this(password, HashingUtility.getPolicy().keyIterationCount());
+    }
+
+    public KeyMaterial(String password, int iterationCount) throws NullPointerException, DerivationException, NoSuchAlgorithmException {
+        this(Objects.requireNonNull(password), HashingUtility.generateSalt().orElseThrow(NoSuchAlgorithmException::new), iterationCount);
+    }
+
+    public KeyMaterial(String password, String sealedSalt) throws NullPointerException, DerivationException {
+        this(password, sealedSalt, HashingConstants.KEY_ITERATION_COUNT);
+    }
+
+    public KeyMaterial(String password, String sealedSalt, int iterationCount) throws NullPointerException, DerivationException {
+        this(Objects.requireNonNull(password), Base64.getDecoder().decode(Objects.requireNonNull(sealedSalt)), iterationCount);
+    }
+
+    public KeyMaterial(byte[] encodedKey, String sealedSalt, int iterationCount) throws NullPointerException {
+        salt = Base64.getDecoder().decode(Objects.requireNonNull(sealedSalt));
+        this.iterationCount = iterationCount;
+        key = new DestroyableKey(Objects.requireNonNull(encodedKey).clone());
+    }
+
+    private KeyMaterial(String password, byte[] salt, int iterationCount) throws DerivationException {
+        this.salt = salt;
+        this.iterationCount = iterationCount;
+        SecretKey derivedKey = KeyEncryptor.deriveKey(password, salt, iterationCount).orElseThrow(DerivationException::new);
+        key = new DestroyableKey(derivedKey.getEncoded());
+    }
+
+    public byte[] getSalt() {
+        return salt.clone();
+    }
+
+    public String getSealedSalt() {
+        return Base64.getEncoder().encodeToString(salt);
+    }
+
+    public int getIterationCount() {
+        return iterationCount;
+    }
+
+    public Optional<SecretKey> getKey() {
+        if (key.isDestroyed()) {
+            return Optional.empty();
+        }
+        return Optional.of(key);
+    }
+
+    public Optional<String> getSealedKey() {
+        byte[] encodedKey = key.getEncoded();
+        if (encodedKey == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Base64.getEncoder().encodeToString(encodedKey));
+        } finally {
+            Arrays.fill(encodedKey, (byte) 0);
+        }
+    }
+
+    public boolean isClosed() {
+        return key.isDestroyed();
+    }
+
+    public void close() {
+        key.destroy();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,313 @@
+package com.asterexcrisys.acm.services.encryption;
+
+import com.asterexcrisys.acm.constants.EncryptionConstants;
+import com.asterexcrisys.acm.types.encryption.CipherMode;
+import com.asterexcrisys.acm.types.encryption.SegmentHeader;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class SegmentedEncryptor {
+
+    private static final Logger LOGGER = Logger.getLogger(SegmentedEncryptor.class.getName());
+    private static final CipherPool CIPHERS = new CipherPool(EncryptionConstants.ENCRYPTION_TRANSFORMATION, EncryptionConstants.CIPHER_POOL_SIZE);
+    private static final int TAG_SIZE = EncryptionConstants.AUTHENTICATION_TAG_SIZE / Byte.SIZE;
+    private static final int LEGACY_CHUNK_SIZE = 4 * Math.ceilDiv(CoreEncryptor.getEncryptedSize(EncryptionConstants.CHUNK_SIZE), 3);
+
+    private final GenericEncryptor encryptor;
+    private final int segmentSize;
+
+    public SegmentedEncryptor(GenericEncryptor encryptor) throws NullPointerException {
+        this(encryptor, EncryptionConstants.SEGMENT_SIZE);
+    }
+
+    public SegmentedEncryptor(GenericEncryptor encryptor, int segmentSize) throws NullPointerException, IllegalArgumentException {
+        this.encryptor = Objects.requireNonNull(encryptor);
+        if (segmentSize < EncryptionConstants.MINIMUM_SEGMENT_SIZE || segmentSize > EncryptionConstants.MAXIMUM_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size out of range: " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public boolean encrypt(Path source, Path destination) {
+        if (source == null || destination == null) {
+            return false;
+        }
+        try (
+                FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel output = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+        ) {
+            SegmentHeader header = SegmentHeader.of(segmentSize);
+            byte[] associatedData = header.toBytes();
+            Optional<SecretKey> key = getKey(header);
+            if (key.isEmpty()) {
+                return false;
+            }
+            long size = input.size();
+            long segmentCount = Math.max(1, Math.ceilDiv(size, segmentSize));
+            if (segmentCount > EncryptionConstants.MAXIMUM_SEGMENT_COUNT) {
+                return false;
+            }
+            writeFully(output, ByteBuffer.wrap(associatedData), 0);
+            boolean isEncrypted = processSegments(segmentCount, (first, last, cipher) -> {
+                int bufferSize = (int) Math.min(segmentSize, size);
+                ByteBuffer plainSegment = ByteBuffer.allocateDirect(bufferSize);
+                ByteBuffer encryptedSegment = ByteBuffer.allocateDirect(Integer.BYTES + bufferSize + TAG_SIZE);
+                for (long index = first; index < last; index++) {
+                    long offset = index * segmentSize;
+                    int length = (int) Math.min(segmentSize, size - offset);
+                    plainSegment.clear().limit(length);
+                    if (readFully(input, plainSegment, offset) != length) {
+                        return false;
+                    }
+                    plainSegment.flip();
+                    encryptedSegment.clear();
+                    encryptedSegment.putInt(length + TAG_SIZE);
+                    cipher.init(CipherMode.ENCRYPT.getValue(), key.get(), new GCMParameterSpec(EncryptionConstants.AUTHENTICATION_TAG_SIZE, header.getNonce(index, index == segmentCount - 1)));
+                    cipher.updateAAD(associatedData);
+                    cipher.doFinal(plainSegment, encryptedSegment);
+                    encryptedSegment.flip();
+                    writeFully(output, encryptedSegment, associatedData.length + index * header.getEncryptedSegmentSize());
+                }
+                return true;
+            });
+            if (!isEncrypted) {
+                return false;
+            }
+            output.force(false);
+            return true;
+        } catch (IOException e) {
+            LOGGER.warning("Error encrypting file: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean decrypt(Path source, Path destination) {
+        if (source == null || destination == null) {
+            return false;
+        }
+        try (
+                FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel output = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+        ) {
+            Optional<SegmentHeader> header = readHeader(input);
+            if (header.isEmpty()) {
+                return decryptLegacy(input, output);
+            }
+            byte[] associatedData = header.get().toBytes();
+            Optional<SecretKey> key = getKey(header.get());
+            if (key.isEmpty()) {
+                return false;
+            }
+            int encryptedSegmentSize = header.get().getEncryptedSegmentSize();
+            long payloadSize = input.size() - associatedData.length;
+            long segmentCount = Math.ceilDiv(payloadSize, encryptedSegmentSize);
+            if (segmentCount < 1 || segmentCount > EncryptionConstants.MAXIMUM_SEGMENT_COUNT) {
+                return false;
+            }
+            int lastSegmentSize = (int) (payloadSize - (segmentCount - 1) * encryptedSegmentSize);
+            if (lastSegmentSize < Integer.BYTES + TAG_SIZE) {
+                return false;
+            }
+            boolean isDecrypted = processSegments(segmentCount, (first, last, cipher) -> {
+                int bufferSize = (int) Math.min(encryptedSegmentSize, payloadSize);
+                ByteBuffer encryptedSegment = ByteBuffer.allocateDirect(bufferSize);
+                ByteBuffer plainSegment = ByteBuffer.allocateDirect(bufferSize - Integer.BYTES - TAG_SIZE);
+                for (long index = first; index < last; index++) {
+                    boolean isLast = index == segmentCount - 1;
+                    int length = isLast? lastSegmentSize:encryptedSegmentSize;
+                    encryptedSegment.clear().limit(length);
+                    if (readFully(input, encryptedSegment, associatedData.length + index * encryptedSegmentSize) != length) {
+                        return false;
+                    }
+                    encryptedSegment.flip();
+                    if (encryptedSegment.getInt() != length - Integer.BYTES) {
+                        return false;
+                    }
+                    plainSegment.clear();
+                    cipher.init(CipherMode.DECRYPT.getValue(), key.get(), new GCMParameterSpec(EncryptionConstants.AUTHENTICATION_TAG_SIZE, header.get().getNonce(index, isLast)));
+                    cipher.updateAAD(associatedData);
+                    cipher.doFinal(encryptedSegment, plainSegment);
+                    plainSegment.flip();
+                    writeFully(output, plainSegment, index * header.get().segmentSize());
+                }
+                return true;
+            });
+            if (!isDecrypted) {
+                return false;
+            }
+            output.force(false);
+            return true;
+        } catch (IOException e) {
+            LOGGER.warning("Error decrypting file: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public static boolean isSegmented(Path file) {
+        if (file == null || !Files.isReadable(file)) {
+            return false;
+        }
+        try (FileChannel input = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readHeader(input).isPresent();
+        } catch (IOException e) {
+            LOGGER.warning("Error inspecting file: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Optional<SecretKey> getKey(SegmentHeader header) {
+        if (header.isLegacy()) {
+            return Optional.of(encryptor.getKey());
+        }
+        return encryptor.deriveKey(header.context(), EncryptionConstants.SEGMENT_DERIVATION_INFO);
+    }
+
+    private boolean decryptLegacy(FileChannel input, FileChannel output) throws IOException {
+        long size = input.size();
+        if (size == 0) {
+            return false;
+        }
+        ByteBuffer encodedChunk = ByteBuffer.allocate((int) Math.min(LEGACY_CHUNK_SIZE, size));
+        long position = 0;
+        for (long offset = 0; offset < size; offset += LEGACY_CHUNK_SIZE) {
+            int length = (int) Math.min(LEGACY_CHUNK_SIZE, size - offset);
+            encodedChunk.clear().limit(length);
+            if (readFully(input, encodedChunk, offset) != length) {
+                return false;
+            }
+            Optional<byte[]> plainChunk;
+            try {
+                plainChunk = encryptor.decryptRaw(Base64.getDecoder().decode(Arrays.copyOf(encodedChunk.array(), length)));
+            } catch (IllegalArgumentException e) {
+                LOGGER.warning("Error decoding legacy file: " + e.getMessage());
+                return false;
+            }
+            if (plainChunk.isEmpty()) {
+                return false;
+            }
+            writeFully(output, ByteBuffer.wrap(plainChunk.get()), position);
+            position += plainChunk.get().length;
+        }
+        output.force(false);
+        return true;
+    }
+
+    private static Optional<SegmentHeader> readHeader(FileChannel input) throws IOException {
+        ByteBuffer preamble = ByteBuffer.allocate(EncryptionConstants.SEGMENT_PREAMBLE_SIZE);
+        if (readFully(input, preamble, 0) != EncryptionConstants.SEGMENT_PREAMBLE_SIZE) {
+            return Optional.empty();
+        }
+        int headerSize = SegmentHeader.getHeaderSize(preamble.array());
+        if (headerSize < EncryptionConstants.SEGMENT_PREAMBLE_SIZE) {
+            return Optional.empty();
+        }
+        ByteBuffer header = ByteBuffer.allocate(headerSize);
+        if (readFully(input, header, 0) != headerSize) {
+            return Optional.empty();
+        }
+        return SegmentHeader.parse(header.array());
+    }
+
+    private boolean processSegments(long segmentCount, SegmentTask task) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        long batchSize = Math.max(1, Math.ceilDiv(segmentCount, (long) parallelism * EncryptionConstants.SEGMENT_BATCHES_PER_WORKER));
+        AtomicBoolean isFailed = new AtomicBoolean(false);
+        List<Callable<Boolean>> batches = new ArrayList<>();
+        for (long first = 0; first < segmentCount; first += batchSize) {
+            long start = first;
+            long end = Math.min(segmentCount, first + batchSize);
+            batches.add(() -> {
+                if (isFailed.get()) {
+                    return false;
+                }
+                boolean isProcessed = processBatch(task, start, end);
+                if (!isProcessed) {
+                    isFailed.set(true);
+                }
+                return isProcessed;
+            });
+        }
+        try {
+            if (batches.size() == 1) {
+                return batches.getFirst().call();
+            }
+            for (Future<Boolean> result : ForkJoinPool.commonPool().invokeAll(batches)) {
+                if (!result.get()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            LOGGER.warning("Error processing file segments: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean processBatch(SegmentTask task, long first, long last) {
+        Optional<Cipher> cipher = CIPHERS.acquire();
+        if (cipher.isEmpty()) {
+            return false;
+        }
+        try {
+            return task.process(first, last, cipher.get());
+        } catch (IOException | GeneralSecurityException e) {
+            LOGGER.warning("Error processing file segments: " + e.getMessage());
+            return false;
+        } finally {
+            CIPHERS.release(cipher.get());
+        }
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SegmentTask {
+
+        boolean process(long first, long last, Cipher cipher) throws IOException, GeneralSecurityException;
+
+    }
+
+}
\ No newline at end of file
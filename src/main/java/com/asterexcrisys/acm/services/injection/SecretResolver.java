@@ -0,0 +1,113 @@
+package com.asterexcrisys.acm.services.injection;
+
+import com.asterexcrisys.acm.CredentialManager;
+import com.asterexcrisys.acm.TokenManager;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.types.encryption.Credential;
+import com.asterexcrisys.acm.types.injection.SecretReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class SecretResolver implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(SecretResolver.class.getName());
+
+    private final CredentialManager credentialManager;
+    private final TokenManager tokenManager;
+    private final ReentrantLock lock;
+    private final Map<SecretReference, Future<Optional<String>>> results;
+    private final ExecutorService executor;
+
+    public SecretResolver(CredentialManager credentialManager, TokenManager tokenManager) throws NullPointerException {
+        this.credentialManager = Objects.requireNonNull(credentialManager);
+        this.tokenManager = Objects.requireNonNull(tokenManager);
+        lock = new ReentrantLock();
+        results = new ConcurrentHashMap<>();
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("secret-resolver-", 0).factory());
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public Future<Optional<String>> submit(SecretReference reference) {
+        Objects.requireNonNull(reference);
+        return results.computeIfAbsent(reference, (key) -> executor.submit(() -> lookup(key)));
+    }
+
+    public Optional<String> resolve(SecretReference reference) {
+        return await(reference, submit(reference));
+    }
+
+    public Optional<Map<String, String>> resolveAll(Map<String, SecretReference> bindings) {
+        if (bindings == null) {
+            return Optional.empty();
+        }
+        for (SecretReference reference : bindings.values()) {
+            submit(reference);
+        }
+        Map<String, String> secrets = new LinkedHashMap<>();
+        for (Map.Entry<String, SecretReference> binding : bindings.entrySet()) {
+            Optional<String> secret = resolve(binding.getValue());
+            if (secret.isEmpty()) {
+                return Optional.empty();
+            }
+            secrets.put(binding.getKey(), secret.get());
+        }
+        return Optional.of(secrets);
+    }
+
+    public Optional<String> await(SecretReference reference, Future<Optional<String>> result) {
+        try {
+            Optional<String> secret = result.get();
+            if (secret.isEmpty()) {
+                LOGGER.warning("Error resolving secret reference: " + reference.value());
+            }
+            return secret;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            LOGGER.warning("Error resolving secret reference: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void close() {
+        executor.shutdownNow();
+        results.clear();
+    }
+
+    private Optional<String> lookup(SecretReference reference) {
+        if (reference.isToken()) {
+            return locked(() -> tokenManager.getEncryptor(reference.name())).map(GenericEncryptor::getDecryptedKey);
+        }
+        Optional<Credential> credential = locked(() -> credentialManager.getCredential(reference.name()));
+        return switch (reference.field()) {
+            case USERNAME -> credential.flatMap(Credential::getDecryptedUsername);
+            case PASSWORD -> credential.flatMap(Credential::getDecryptedPassword);
+            case TOKEN -> Optional.empty();
+        };
+    }
+
+    private <T> Optional<T> locked(Supplier<Optional<T>> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.asterexcrisys.acm.services.injection;
+
+import com.asterexcrisys.acm.constants.InjectionConstants;
+import com.asterexcrisys.acm.types.injection.SecretReference;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@SuppressWarnings("unused")
+public final class TemplateRenderer {
+
+    private static final Logger LOGGER = Logger.getLogger(TemplateRenderer.class.getName());
+    private static final Pattern PLACEHOLDER_PATTERN;
+
+    static {
+        PLACEHOLDER_PATTERN = Pattern.compile(InjectionConstants.PLACEHOLDER_PATTERN);
+    }
+
+    private final SecretResolver resolver;
+    private final int window;
+
+    public TemplateRenderer(SecretResolver resolver) throws NullPointerException {
+        this(resolver, InjectionConstants.RENDER_WINDOW);
+    }
+
+    public TemplateRenderer(SecretResolver resolver, int window) throws NullPointerException, IllegalArgumentException {
+        this.resolver = Objects.requireNonNull(resolver);
+        if (window < 1) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        this.window = window;
+    }
+
+    public SecretResolver getResolver() {
+        return resolver;
+    }
+
+    public Optional<Long> render(Reader source, Path target) {
+        if (source == null || target == null) {
+            return Optional.empty();
+        }
+        Path temporaryFile = null;
+        try {
+            Path directory = target.toAbsolutePath().getParent();
+            temporaryFile = Files.createTempFile(directory, ".acm-", ".tmp", PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(InjectionConstants.OUTPUT_PERMISSIONS)));
+            Optional<Long> count;
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                count = render(source, writer);
+            }
+            if (count.isEmpty()) {
+                Files.deleteIfExists(temporaryFile);
+                return Optional.empty();
+            }
+            Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return count;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warning("Error rendering template to file: " + e.getMessage());
+            deleteQuietly(temporaryFile);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<Long> render(Reader source, Writer target) {
+        if (source == null || target == null) {
+            return Optional.empty();
+        }
+        char[] buffer = new char[InjectionConstants.BUFFER_SIZE];
+        StringBuilder pending = new StringBuilder();
+        List<Object> parts = new ArrayList<>();
+        long count = 0;
+        try {
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                pending.append(buffer, 0, read);
+                int consumed = scan(pending, parts, false);
+                if (consumed < 0) {
+                    return Optional.empty();
+                }
+                pending.delete(0, consumed);
+                if (parts.size() >= window) {
+                    long flushed = flush(parts, target);
+                    if (flushed < 0) {
+                        return Optional.empty();
+                    }
+                    count += flushed;
+                }
+            }
+            if (scan(pending, parts, true) < 0) {
+                return Optional.empty();
+            }
+            long flushed = flush(parts, target);
+            if (flushed < 0) {
+                return Optional.empty();
+            }
+            count += flushed;
+            target.flush();
+            return Optional.of(count);
+        } catch (IOException e) {
+            LOGGER.warning("Error rendering template: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private int scan(StringBuilder text, List<Object> parts, boolean isFinal) {
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(text);
+        int last = 0;
+        while (matcher.find()) {
+            Optional<SecretReference> reference = SecretReference.parse(matcher.group(1));
+            if (reference.isEmpty()) {
+                LOGGER.warning("Error parsing secret reference: " + matcher.group(1));
+                return -1;
+            }
+            if (matcher.start() > last) {
+                parts.add(text.substring(last, matcher.start()));
+            }
+            parts.add(new Placeholder(reference.get(), resolver.submit(reference.get())));
+            last = matcher.end();
+        }
+        int end = text.length();
+        if (!isFinal) {
+            int start = text.indexOf(InjectionConstants.PLACEHOLDER_START, Math.max(last, end - InjectionConstants.MAXIMUM_PLACEHOLDER_SIZE));
+            if (start >= 0) {
+                end = start;
+            } else if (end > last && text.charAt(end - 1) == '{') {
+                end--;
+            }
+        }
+        if (end > last) {
+            parts.add(text.substring(last, end));
+        }
+        return end;
+    }
+
+    private long flush(List<Object> parts, Writer target) throws IOException {
+        long count = 0;
+        for (Object part : parts) {
+            if (part instanceof Placeholder placeholder) {
+                Optional<String> secret = resolver.await(placeholder.reference(), placeholder.result());
+                if (secret.isEmpty()) {
+                    return -1;
+                }
+                target.write(secret.get());
+                count++;
+            } else {
+                target.write((String) part);
+            }
+        }
+        parts.clear();
+        return count;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warning("Error deleting temporary file: " + e.getMessage());
+        }
+    }
+
+    private record Placeholder(SecretReference reference, Future<Optional<String>> result) {
+
+        // All necessary methods are generated by default
+
+    }
+
+}
\ No newline at end of file
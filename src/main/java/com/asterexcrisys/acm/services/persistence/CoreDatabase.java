@@ -2,13 +2,23 @@ package com.asterexcrisys.acm.services.persistence;
 
 import com.asterexcrisys.acm.constants.PersistenceConstants;
 import org.sqlite.mc.SQLiteMCChacha20Config;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @SuppressWarnings("unused")
 public final class CoreDatabase implements Database {
@@ -16,18 +26,22 @@ public final class CoreDatabase implements Database {
     private static final Logger LOGGER = Logger.getLogger(CoreDatabase.class.getName());
 
     private final Path databasePath;
-    private final String masterKey;
+    private final Map<String, PreparedStatement> statements;
+    private String masterKey;
     private Connection connection;
 
     public CoreDatabase(String fileName, String masterKey) throws NullPointerException {
-        databasePath = Paths.get(String.format("./data/%s.db", Objects.requireNonNull(fileName)));
-        this.masterKey = Objects.requireNonNull(masterKey);
-        connection = null;
+        this(Paths.get(String.format("./data/%s.db", Objects.requireNonNull(fileName))), masterKey);
     }
 
     public CoreDatabase(String directoryName, String fileName, String masterKey) throws NullPointerException {
-        databasePath = Paths.get(String.format("./data/%s/%s.db", Objects.requireNonNull(directoryName), Objects.requireNonNull(fileName)));
+        this(Paths.get(String.format("./data/%s/%s.db", Objects.requireNonNull(directoryName), Objects.requireNonNull(fileName))), masterKey);
+    }
+
+    private CoreDatabase(Path databasePath, String masterKey) throws NullPointerException {
+        this.databasePath = Objects.requireNonNull(databasePath);
         this.masterKey = Objects.requireNonNull(masterKey);
+        statements = new LinkedHashMap<>(PersistenceConstants.STATEMENT_CACHE_SIZE, 0.75f, true);
         connection = null;
     }
 
@@ -38,6 +52,23 @@ public final class CoreDatabase implements Database {
         return Optional.of(databasePath);
     }
 
+    String getMasterKey() {
+        return masterKey;
+    }
+
+    CoreDatabase duplicate() {
+        return new CoreDatabase(databasePath, masterKey);
+    }
+
+    boolean reconnect(String masterKey) {
+        if (masterKey == null || masterKey.isBlank()) {
+            return false;
+        }
+        close();
+        this.masterKey = masterKey;
+        return connect();
+    }
+
     public boolean connect() {
         if (connection != null) {
             return false;
@@ -51,6 +82,9 @@ public final class CoreDatabase implements Database {
                     String.format("jdbc:sqlite:%s", databasePath.toAbsolutePath()),
                     configuration.build().toProperties()
             );
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(String.format("PRAGMA busy_timeout = %d;", PersistenceConstants.BUSY_TIMEOUT));
+            }
             return true;
         } catch (Exception e) {
             LOGGER.severe("Error connecting to the database: " + e.getMessage());
@@ -62,6 +96,7 @@ public final class CoreDatabase implements Database {
         if (connection == null) {
             return;
         }
+        clearStatements();
         try {
             connection.close();
         } catch (SQLException e) {
@@ -97,18 +132,50 @@ public final class CoreDatabase implements Database {
         } catch (SQLException e) {
             LOGGER.warning("Error ending the transaction: " + e.getMessage());
             return false;
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                LOGGER.warning("Error restoring auto-commit mode: " + e.getMessage());
+            }
+        }
+    }
+
+    public boolean rekey(String masterKey) {
+        if (connection == null || masterKey == null || masterKey.isBlank()) {
+            return false;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("PRAGMA rekey = '%s';", masterKey.replace("'", "''")));
+            this.masterKey = masterKey;
+            return true;
+        } catch (SQLException e) {
+            LOGGER.warning("Error changing the master key: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean vacuum() {
+        if (connection == null) {
+            return false;
+        }
+        clearStatements();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM;");
+            return true;
+        } catch (SQLException e) {
+            LOGGER.warning("Error vacuuming the database: " + e.getMessage());
+            return false;
         }
     }
 
-    public ResultSet executeQuery(String query, String... parameters) {
+    public ResultSet executeQuery(String query, Object... parameters) {
         if (connection == null || query == null || query.isBlank()) {
             return null;
         }
         try {
-            PreparedStatement preparedStatement = connection.prepareStatement(query);
-            for (int i = 0; i < parameters.length; i++) {
-                preparedStatement.setString(i + 1, parameters[i]);
-            }
+            PreparedStatement preparedStatement = prepareStatement(query);
+            bindParameters(preparedStatement, parameters);
             return preparedStatement.executeQuery();
         } catch (SQLException e) {
             LOGGER.warning("Error executing query: " + e.getMessage());
@@ -116,15 +183,48 @@ public final class CoreDatabase implements Database {
         }
     }
 
-    public int executeUpdate(String query, String... parameters) {
+    public Optional<Stream<String>> executeStream(String query, String column, Object... parameters) {
+        if (connection == null || query == null || column == null || query.isBlank() || column.isBlank()) {
+            return Optional.empty();
+        }
+        PreparedStatement preparedStatement = null;
+        try {
+            preparedStatement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            preparedStatement.setFetchSize(PersistenceConstants.BATCH_SIZE);
+            bindParameters(preparedStatement, parameters);
+            preparedStatement.closeOnCompletion();
+            ResultSet resultSet = preparedStatement.executeQuery();
+            Spliterator<String> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                public boolean tryAdvance(Consumer<? super String> action) {
+                    try {
+                        if (!resultSet.next()) {
+                            return false;
+                        }
+                        action.accept(resultSet.getString(column));
+                        return true;
+                    } catch (SQLException e) {
+                        LOGGER.warning("Error advancing stream: " + e.getMessage());
+                        return false;
+                    }
+                }
+            };
+            return Optional.of(StreamSupport.stream(spliterator, false).onClose(() -> closeResultSet(resultSet)));
+        } catch (SQLException e) {
+            LOGGER.warning("Error executing stream: " + e.getMessage());
+            if (preparedStatement != null) {
+                closeStatement(preparedStatement);
+            }
+            return Optional.empty();
+        }
+    }
+
+    public int executeUpdate(String query, Object... parameters) {
         if (connection == null || query == null || query.isBlank()) {
             return -1;
         }
         try {
-            PreparedStatement preparedStatement = connection.prepareStatement(query);
-            for (int i = 0; i < parameters.length; i++) {
-                preparedStatement.setString(i + 1, parameters[i]);
-            }
+            PreparedStatement preparedStatement = prepareStatement(query);
+            bindParameters(preparedStatement, parameters);
             return preparedStatement.executeUpdate();
         } catch (SQLException e) {
             LOGGER.warning("Error executing update: " + e.getMessage());
@@ -132,9 +232,105 @@ public final class CoreDatabase implements Database {
         }
     }
 
+    public int executeBatch(String query, List<Object[]> parameters) {
+        if (connection == null || query == null || parameters == null || query.isBlank()) {
+            return -1;
+        }
+        try {
+            PreparedStatement preparedStatement = prepareStatement(query);
+            int count = 0;
+            for (int i = 0; i < parameters.size(); i++) {
+                bindParameters(preparedStatement, parameters.get(i));
+                preparedStatement.addBatch();
+                if ((i + 1) % PersistenceConstants.BATCH_SIZE == 0 || i + 1 == parameters.size()) {
+                    count += countUpdates(preparedStatement.executeBatch());
+                }
+            }
+            return count;
+        } catch (SQLException e) {
+            LOGGER.warning("Error executing batch: " + e.getMessage());
+            return -1;
+        }
+    }
+
     public void close() {
         disconnect();
         connection = null;
     }
 
+    private PreparedStatement prepareStatement(String query) throws SQLException {
+        PreparedStatement statement = statements.get(query);
+        if (statement != null && !statement.isClosed()) {
+            statement.clearParameters();
+            return statement;
+        }
+        statement = connection.prepareStatement(query);
+        statements.put(query, statement);
+        if (statements.size() > PersistenceConstants.STATEMENT_CACHE_SIZE) {
+            Iterator<PreparedStatement> iterator = statements.values().iterator();
+            closeStatement(iterator.next());
+            iterator.remove();
+        }
+        return statement;
+    }
+
+    private void clearStatements() {
+        for (PreparedStatement statement : statements.values()) {
+            closeStatement(statement);
+        }
+        statements.clear();
+    }
+
+    private static void bindParameters(PreparedStatement statement, Object[] parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            switch (parameters[i]) {
+                case null -> statement.setNull(i + 1, Types.NULL);
+                case String value -> statement.setString(i + 1, value);
+                case Long value -> statement.setLong(i + 1, value);
+                case Integer value -> statement.setInt(i + 1, value);
+                case Boolean value -> statement.setBoolean(i + 1, value);
+                case byte[] value -> statement.setBytes(i + 1, value);
+                case ByteBuffer value -> statement.setBytes(i + 1, toBytes(value));
+                default -> statement.setObject(i + 1, parameters[i]);
+            }
+        }
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static int countUpdates(int[] results) {
+        int count = 0;
+        for (int result : results) {
+            if (result == Statement.SUCCESS_NO_INFO) {
+                count++;
+            } else if (result > 0) {
+                count += result;
+            }
+        }
+        return count;
+    }
+
+    private static void closeResultSet(ResultSet resultSet) {
+        try {
+            resultSet.close();
+        } catch (SQLException e) {
+            LOGGER.warning("Error closing the result set: " + e.getMessage());
+        }
+    }
+
+    private static void closeStatement(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.warning("Error closing the statement: " + e.getMessage());
+        }
+    }
+
 }
\ No newline at end of file
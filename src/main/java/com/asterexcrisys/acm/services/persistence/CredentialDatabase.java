@@ -1,30 +1,74 @@
 package com.asterexcrisys.acm.services.persistence;
 
 import com.asterexcrisys.acm.constants.PersistenceConstants;
-import com.asterexcrisys.acm.exceptions.EncryptionException;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.encryption.KeyCache;
 import com.asterexcrisys.acm.services.encryption.KeyEncryptor;
 import com.asterexcrisys.acm.types.encryption.Credential;
+import com.asterexcrisys.acm.types.persistence.EntryMetadata;
+import com.asterexcrisys.acm.types.utility.Progress;
 import com.asterexcrisys.acm.utility.DatabaseUtility;
 import com.asterexcrisys.acm.utility.PathUtility;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.*;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 @SuppressWarnings("unused")
 public final class CredentialDatabase implements Database {
 
     private static final Logger LOGGER = Logger.getLogger(CredentialDatabase.class.getName());
+    private static final Migration[] MIGRATIONS = {
+            Migration.of(
+                    1,
+                    "CREATE TABLE IF NOT EXISTS credentials (platform TEXT PRIMARY KEY, username TEXT NOT NULL, password TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL DEFAULT (STRFTIME('%Y-%m-%dT%H:%M:%fZ', 'now')), key TEXT NOT NULL);",
+                    "CREATE TABLE IF NOT EXISTS credentials_archive (platform TEXT PRIMARY KEY, username TEXT NOT NULL, password TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL, key TEXT NOT NULL, archived_at TEXT NOT NULL);",
+                    "CREATE INDEX IF NOT EXISTS credentials_expiration ON credentials (expiration);"
+            ),
+            Migration.of(
+                    2,
+                    "CREATE TABLE credentials_migration (platform TEXT PRIMARY KEY, username TEXT NOT NULL, password TEXT NOT NULL, expiration INTEGER DEFAULT NULL, last_modification INTEGER NOT NULL DEFAULT (CAST((JULIANDAY('now') - 2440587.5) * 86400000 AS INTEGER)), key TEXT NOT NULL);",
+                    "INSERT INTO credentials_migration (platform, username, password, expiration, last_modification, key) SELECT platform, username, password, " + DatabaseUtility.toEpochMillis("expiration") + ", " + DatabaseUtility.toEpochMillis("last_modification") + ", key FROM credentials;",
+                    "DROP TABLE credentials;",
+                    "ALTER TABLE credentials_migration RENAME TO credentials;",
+                    "CREATE TABLE credentials_archive_migration (platform TEXT PRIMARY KEY, username TEXT NOT NULL, password TEXT NOT NULL, expiration INTEGER DEFAULT NULL, last_modification INTEGER NOT NULL, key TEXT NOT NULL, archived_at INTEGER NOT NULL);",
+                    "INSERT INTO credentials_archive_migration (platform, username, password, expiration, last_modification, key, archived_at) SELECT platform, username, password, " + DatabaseUtility.toEpochMillis("expiration") + ", " + DatabaseUtility.toEpochMillis("last_modification") + ", key, " + DatabaseUtility.toEpochMillis("archived_at") + " FROM credentials_archive;",
+                    "DROP TABLE credentials_archive;",
+                    "ALTER TABLE credentials_archive_migration RENAME TO credentials_archive;",
+                    "CREATE INDEX IF NOT EXISTS credentials_expiration ON credentials (expiration);"
+            ),
+            Migration.of(
+                    3,
+                    "CREATE TABLE credentials_migration (platform TEXT PRIMARY KEY, username BLOB NOT NULL, password BLOB NOT NULL, expiration INTEGER DEFAULT NULL, last_modification INTEGER NOT NULL DEFAULT (CAST((JULIANDAY('now') - 2440587.5) * 86400000 AS INTEGER)), key BLOB NOT NULL);",
+                    "INSERT INTO credentials_migration (platform, username, password, expiration, last_modification, key) SELECT platform, username, password, expiration, last_modification, key FROM credentials;",
+                    "DROP TABLE credentials;",
+                    "ALTER TABLE credentials_migration RENAME TO credentials;",
+                    "CREATE TABLE credentials_archive_migration (platform TEXT PRIMARY KEY, username BLOB NOT NULL, password BLOB NOT NULL, expiration INTEGER DEFAULT NULL, last_modification INTEGER NOT NULL, key BLOB NOT NULL, archived_at INTEGER NOT NULL);",
+                    "INSERT INTO credentials_archive_migration (platform, username, password, expiration, last_modification, key, archived_at) SELECT platform, username, password, expiration, last_modification, key, archived_at FROM credentials_archive;",
+                    "DROP TABLE credentials_archive;",
+                    "ALTER TABLE credentials_archive_migration RENAME TO credentials_archive;",
+                    "CREATE INDEX IF NOT EXISTS credentials_expiration ON credentials (expiration);"
+            ).andThen((database) -> {
+                return SchemaMigrator.decodeColumns(database, "credentials", "platform", "username", "password", "key")
+                        && SchemaMigrator.decodeColumns(database, "credentials_archive", "platform", "username", "password", "key");
+            })
+    };
 
     private final CoreDatabase database;
+    private ExpirySweeper sweeper;
 
     public CredentialDatabase(String vaultName, String masterKey) throws NullPointerException {
         database = new CoreDatabase(vaultName, PersistenceConstants.CREDENTIAL_DATABASE, masterKey);
+        sweeper = null;
     }
 
     public Optional<Path> getDatabasePath() {
@@ -40,9 +84,7 @@ public final class CredentialDatabase implements Database {
     }
 
     public boolean createTable() {
-        return database.executeUpdate(
-                "CREATE TABLE IF NOT EXISTS credentials (platform TEXT PRIMARY KEY, username TEXT NOT NULL, password TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL DEFAULT (STRFTIME('%Y-%m-%dT%H:%M:%fZ', 'now')), key TEXT NOT NULL);"
-        ) == 0;
+        return new SchemaMigrator(database, MIGRATIONS).migrate();
     }
 
     public boolean dropTable() {
@@ -68,7 +110,16 @@ public final class CredentialDatabase implements Database {
         if (databaseFile.isEmpty()) {
             return false;
         }
-        return DatabaseUtility.restoreFrom(databaseFile.get(), backupFile);
+        boolean wasSweeping = sweeper != null;
+        Consumer<Instant> sweepListener = wasSweeping? sweeper.getListener():null;
+        stopSweeper();
+        database.close();
+        boolean isRestored = DatabaseUtility.restoreFrom(databaseFile.get(), backupFile);
+        boolean isMigrated = database.connect() && createTable();
+        if (wasSweeping) {
+            startSweeper(PersistenceConstants.SWEEP_INTERVAL, sweepListener);
+        }
+        return isRestored && isMigrated;
     }
 
     public boolean mergeWith(Path file, String masterKey) {
@@ -82,7 +133,8 @@ public final class CredentialDatabase implements Database {
             return false;
         }
         return database.executeUpdate("ATTACH ? AS file KEY ?;", file.toAbsolutePath().toString(), masterKey) == 0
-                && database.executeUpdate("INSERT OR REPLACE INTO credentials (platform, username, password, expiration, last_modification, key) SELECT c.platform, c.username, c.password, c.expiration, c.last_modification, c.key FROM file.credentials AS c;") == 0
+                && database.executeUpdate("INSERT OR REPLACE INTO credentials (platform, username, password, expiration, last_modification, key) SELECT c.platform, c.username, c.password, " + DatabaseUtility.toEpochMillis("c.expiration") + ", " + DatabaseUtility.toEpochMillis("c.last_modification") + ", c.key FROM file.credentials AS c;") >= 0
+                && SchemaMigrator.decodeColumns(database, "credentials", "platform", "username", "password", "key")
                 && database.executeUpdate("DETACH file;") == 0;
     }
 
@@ -90,11 +142,13 @@ public final class CredentialDatabase implements Database {
         if (platform == null || platform.isBlank()) {
             return false;
         }
-        try (ResultSet resultSet = database.executeQuery(
-                "SELECT c.platform FROM credentials AS c WHERE c.platform = ? AND (c.expiration IS NULL OR (c.expiration <= STRFTIME('%Y-%m-%dT%H:%M:%fZ', 'now')) = ?);",
-                platform,
-                isExpired? Boolean.FALSE.toString():Boolean.TRUE.toString()
-        )) {
+        String query;
+        if (isExpired) {
+            query = "SELECT c.platform FROM credentials AS c WHERE c.platform = ? AND c.expiration <= ?;";
+        } else {
+            query = "SELECT c.platform FROM credentials AS c WHERE c.platform = ? AND (c.expiration IS NULL OR c.expiration > ?);";
+        }
+        try (ResultSet resultSet = database.executeQuery(query, platform, Instant.now().toEpochMilli())) {
             return resultSet != null && resultSet.next();
         } catch (SQLException e) {
             LOGGER.warning("Error retrieving credential: " + e.getMessage());
@@ -103,6 +157,10 @@ public final class CredentialDatabase implements Database {
     }
 
     public Optional<Credential> getCredential(String platform, KeyEncryptor encryptor) {
+        return getCredential(platform, encryptor, null);
+    }
+
+    public Optional<Credential> getCredential(String platform, KeyEncryptor encryptor, KeyCache cache) {
         if (platform == null || encryptor == null || platform.isBlank()) {
             return Optional.empty();
         }
@@ -113,24 +171,24 @@ public final class CredentialDatabase implements Database {
             if (resultSet == null || !resultSet.next()) {
                 return Optional.empty();
             }
-            Optional<String> key = encryptor.decrypt(resultSet.getString("key"));
+            byte[] wrappedKey = resultSet.getBytes("key");
+            Optional<GenericEncryptor> key = (cache == null)? KeyCache.unwrapKey(wrappedKey, encryptor).map(GenericEncryptor::new):cache.unwrap(platform, wrappedKey, encryptor);
             if (key.isEmpty()) {
                 return Optional.empty();
             }
             Credential credential = new Credential(
                     key.get(),
                     resultSet.getString("platform"),
-                    resultSet.getString("username"),
-                    resultSet.getString("password"),
-                    Instant.parse(resultSet.getString("last_modification")),
-                    true
+                    resultSet.getBytes("username"),
+                    resultSet.getBytes("password"),
+                    Instant.ofEpochMilli(resultSet.getLong("last_modification"))
             );
-            String expiration = resultSet.getString("expiration");
-            if (expiration != null) {
-                credential.setExpiration(Instant.parse(expiration));
+            long expiration = resultSet.getLong("expiration");
+            if (!resultSet.wasNull()) {
+                credential.setExpiration(Instant.ofEpochMilli(expiration));
             }
             return Optional.of(credential);
-        } catch (SQLException | EncryptionException e) {
+        } catch (SQLException e) {
             LOGGER.warning("Error retrieving credential: " + e.getMessage());
             return Optional.empty();
         }
@@ -149,25 +207,150 @@ public final class CredentialDatabase implements Database {
         }
     }
 
+    public Optional<List<String>> getActiveCredentials() {
+        return collectCredentials(
+                "SELECT c.platform FROM credentials AS c WHERE c.expiration IS NULL OR c.expiration > ?;",
+                Instant.now().toEpochMilli()
+        );
+    }
+
+    public Optional<List<String>> getCredentialsExpiringWithin(Duration duration) {
+        if (duration == null || duration.isNegative()) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        return collectCredentials(
+                "SELECT c.platform FROM credentials AS c WHERE c.expiration > ? AND c.expiration <= ? ORDER BY c.expiration;",
+                now.toEpochMilli(),
+                now.plus(duration).toEpochMilli()
+        );
+    }
+
+    public Optional<Stream<String>> streamAllCredentials() {
+        return database.executeStream("SELECT c.platform FROM credentials AS c ORDER BY c.platform;", "platform");
+    }
+
+    public Optional<List<String>> listCredentials(String afterPlatform, int limit) {
+        if (limit < 1) {
+            return Optional.empty();
+        }
+        try (ResultSet resultSet = database.executeQuery(
+                "SELECT c.platform FROM credentials AS c WHERE c.platform > ? ORDER BY c.platform LIMIT ?;",
+                afterPlatform == null? "":afterPlatform,
+                limit
+        )) {
+            List<String> credentials = new ArrayList<>(Math.min(limit, PersistenceConstants.BATCH_SIZE));
+            while (resultSet != null && resultSet.next()) {
+                credentials.add(resultSet.getString("platform"));
+            }
+            return Optional.of(credentials);
+        } catch (SQLException e) {
+            LOGGER.warning("Error listing credentials: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<List<EntryMetadata>> getAllCredentialMetadata() {
+        try (ResultSet resultSet = database.executeQuery("SELECT c.platform, c.expiration, c.last_modification FROM credentials AS c;")) {
+            List<EntryMetadata> metadata = new ArrayList<>();
+            while (resultSet != null && resultSet.next()) {
+                long expiration = resultSet.getLong("expiration");
+                boolean hasExpiration = !resultSet.wasNull();
+                metadata.add(new EntryMetadata(
+                        resultSet.getString("platform"),
+                        Instant.ofEpochMilli(resultSet.getLong("last_modification")),
+                        hasExpiration? Instant.ofEpochMilli(expiration):null
+                ));
+            }
+            return Optional.of(metadata);
+        } catch (SQLException e) {
+            LOGGER.warning("Error retrieving credential metadata: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<Long> countCredentials() {
+        try (ResultSet resultSet = database.executeQuery("SELECT COUNT(*) AS count FROM credentials;")) {
+            if (resultSet == null || !resultSet.next()) {
+                return Optional.empty();
+            }
+            return Optional.of(resultSet.getLong("count"));
+        } catch (SQLException e) {
+            LOGGER.warning("Error counting credentials: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public boolean saveCredential(Credential credential, KeyEncryptor encryptor) {
         if (credential == null || encryptor == null) {
             return false;
         }
-        Optional<String> key = credential.getEncryptor().getEncryptedKey(encryptor);
+        Optional<byte[]> key = credential.getEncryptor().getRawEncryptedKey(encryptor);
         if (key.isEmpty()) {
             return false;
         }
         return database.executeUpdate(
                 "INSERT OR REPLACE INTO credentials (platform, username, password, expiration, last_modification, key) VALUES (?, ?, ?, ?, ?, ?);",
                 credential.getPlatform(),
-                credential.getEncryptedUsername(),
-                credential.getEncryptedPassword(),
-                credential.getExpiration().map(Instant::toString).orElse(null),
-                credential.getLastModification().toString(),
+                credential.getRawUsername(),
+                credential.getRawPassword(),
+                credential.getExpiration().map(Instant::toEpochMilli).orElse(null),
+                credential.getLastModification().toEpochMilli(),
                 key.get()
         ) == 1;
     }
 
+    public boolean saveCredentials(Collection<Credential> credentials, KeyEncryptor encryptor) {
+        if (credentials == null || encryptor == null) {
+            return false;
+        }
+        List<Object[]> parameters = new ArrayList<>(credentials.size());
+        for (Credential credential : credentials) {
+            if (credential == null) {
+                return false;
+            }
+            Optional<byte[]> key = credential.getEncryptor().getRawEncryptedKey(encryptor);
+            if (key.isEmpty()) {
+                return false;
+            }
+            parameters.add(new Object[] {
+                    credential.getPlatform(),
+                    credential.getRawUsername(),
+                    credential.getRawPassword(),
+                    credential.getExpiration().map(Instant::toEpochMilli).orElse(null),
+                    credential.getLastModification().toEpochMilli(),
+                    key.get()
+            });
+        }
+        if (!database.beginTransaction()) {
+            return false;
+        }
+        int count = database.executeBatch(
+                "INSERT OR REPLACE INTO credentials (platform, username, password, expiration, last_modification, key) VALUES (?, ?, ?, ?, ?, ?);",
+                parameters
+        );
+        if (count != parameters.size()) {
+            database.endTransaction(false);
+            return false;
+        }
+        return database.endTransaction(true);
+    }
+
+    public boolean rekeyCredentials(KeyEncryptor oldEncryptor, KeyEncryptor newEncryptor, String masterKey, Consumer<Progress> listener) {
+        boolean wasSweeping = sweeper != null;
+        Consumer<Instant> sweepListener = wasSweeping? sweeper.getListener():null;
+        stopSweeper();
+        boolean isSuccessful = new RekeyPipeline(database, "platform", "credentials", "credentials_archive").rekey(oldEncryptor, newEncryptor, masterKey, listener);
+        if (wasSweeping) {
+            startSweeper(PersistenceConstants.SWEEP_INTERVAL, sweepListener);
+        }
+        return isSuccessful;
+    }
+
+    public boolean recoverCredentials(KeyEncryptor oldEncryptor, KeyEncryptor newEncryptor, String masterKey) {
+        return new RekeyPipeline(database, "platform", "credentials", "credentials_archive").recover(oldEncryptor, newEncryptor, masterKey);
+    }
+
     public boolean removeCredential(String platform) {
         if (platform == null) {
             return false;
@@ -179,17 +362,106 @@ public final class CredentialDatabase implements Database {
     }
 
     public boolean removeAllCredentials() {
-        Optional<List<String>> credentials = getAllCredentials();
-        if (credentials.isEmpty()) {
+        Optional<Long> count = countCredentials();
+        if (count.isEmpty() || !database.beginTransaction()) {
+            return false;
+        }
+        if (database.executeUpdate("DELETE FROM credentials;") != count.get()
+                || database.executeUpdate("DELETE FROM credentials_archive;") < 0
+                || !database.endTransaction(true)) {
+            database.endTransaction(false);
+            return false;
+        }
+        return true;
+    }
+
+    public Optional<List<String>> getAllArchivedCredentials() {
+        try (ResultSet resultSet = database.executeQuery("SELECT c.platform FROM credentials_archive AS c ORDER BY c.platform;")) {
+            List<String> credentials = new ArrayList<>();
+            while (resultSet != null && resultSet.next()) {
+                credentials.add(resultSet.getString("platform"));
+            }
+            return Optional.of(credentials);
+        } catch (SQLException e) {
+            LOGGER.warning("Error retrieving all archived credentials: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean restoreCredential(String platform, Instant expiration, Instant lastModification) {
+        if (platform == null || lastModification == null) {
+            return false;
+        }
+        if (!database.beginTransaction()) {
+            return false;
+        }
+        if (database.executeUpdate(
+                "INSERT INTO credentials (platform, username, password, expiration, last_modification, key) SELECT platform, username, password, ?, ?, key FROM credentials_archive WHERE platform = ?;",
+                expiration == null? null:expiration.toEpochMilli(),
+                lastModification.toEpochMilli(),
+                platform
+        ) != 1 || database.executeUpdate("DELETE FROM credentials_archive WHERE platform = ?;", platform) != 1 || !database.endTransaction(true)) {
+            database.endTransaction(false);
+            return false;
+        }
+        return true;
+    }
+
+    public boolean removeArchivedCredential(String platform) {
+        if (platform == null) {
             return false;
         }
         return database.executeUpdate(
-                "DELETE FROM credentials;"
-        ) == credentials.get().size();
+                "DELETE FROM credentials_archive WHERE platform = ?;",
+                platform
+        ) == 1;
+    }
+
+    public boolean removeAllArchivedCredentials() {
+        return database.executeUpdate("DELETE FROM credentials_archive;") >= 0;
+    }
+
+    public boolean startSweeper(Duration interval) {
+        return startSweeper(interval, null);
+    }
+
+    public boolean startSweeper(Duration interval, Consumer<Instant> listener) {
+        if (sweeper != null) {
+            return false;
+        }
+        ExpirySweeper sweeper = new ExpirySweeper(database, "credentials", "platform", "platform, username, password, expiration, last_modification, key", listener);
+        if (!sweeper.start(interval)) {
+            sweeper.close();
+            return false;
+        }
+        this.sweeper = sweeper;
+        return true;
+    }
+
+    public void stopSweeper() {
+        if (sweeper == null) {
+            return;
+        }
+        sweeper.close();
+        sweeper = null;
     }
 
     public void close() {
+        stopSweeper();
         database.close();
     }
 
+    private Optional<List<String>> collectCredentials(String query, Object... parameters) {
+        try (ResultSet resultSet = database.executeQuery(query, parameters)) {
+            List<String> credentials = new ArrayList<>();
+            while (resultSet != null && resultSet.next()) {
+                credentials.add(resultSet.getString("platform"));
+            }
+            return Optional.of(credentials);
+        } catch (SQLException e) {
+            LOGGER.warning("Error retrieving credentials: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
 }
\ No newline at end of file
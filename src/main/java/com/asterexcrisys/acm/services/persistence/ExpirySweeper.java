@@ -0,0 +1,119 @@
+package com.asterexcrisys.acm.services.persistence;
+
+import com.asterexcrisys.acm.constants.PersistenceConstants;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class ExpirySweeper implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ExpirySweeper.class.getName());
+
+    private final CoreDatabase database;
+    private final String table;
+    private final String identifier;
+    private final String columns;
+    private final Consumer<Instant> listener;
+    private final ScheduledExecutorService executor;
+
+    public ExpirySweeper(CoreDatabase database, String table, String identifier, String columns) throws NullPointerException {
+        this(database, table, identifier, columns, null);
+    }
+
+    public ExpirySweeper(CoreDatabase database, String table, String identifier, String columns, Consumer<Instant> listener) throws NullPointerException {
+        this.database = Objects.requireNonNull(database).duplicate();
+        this.table = Objects.requireNonNull(table);
+        this.identifier = Objects.requireNonNull(identifier);
+        this.columns = Objects.requireNonNull(columns);
+        this.listener = listener;
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name(table + "-sweeper").factory());
+    }
+
+    public boolean start(Duration interval) {
+        if (interval == null || interval.isNegative() || interval.isZero() || executor.isShutdown()) {
+            return false;
+        }
+        if (!database.connect()) {
+            return false;
+        }
+        executor.scheduleWithFixedDelay(this::sweep, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    public Consumer<Instant> getListener() {
+        return listener;
+    }
+
+    public long sweep() {
+        long total = 0;
+        while (true) {
+            Instant now = Instant.now();
+            int count = archiveExpired(now.toEpochMilli());
+            if (count < 0) {
+                return total;
+            }
+            total += count;
+            if (count < PersistenceConstants.BATCH_SIZE) {
+                if (total > 0 && listener != null) {
+                    listener.accept(now);
+                }
+                return total;
+            }
+        }
+    }
+
+    public void close() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(PersistenceConstants.BUSY_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("Error stopping the sweeper of table: " + table);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        database.close();
+    }
+
+    private int archiveExpired(long now) {
+        if (!database.beginTransaction()) {
+            return -1;
+        }
+        int archived = database.executeUpdate(
+                String.format(
+                        "INSERT OR REPLACE INTO %1$s_archive (%2$s, archived_at) SELECT %2$s, ? FROM %1$s WHERE expiration <= ? ORDER BY expiration, %3$s LIMIT %4$d;",
+                        table,
+                        columns,
+                        identifier,
+                        PersistenceConstants.BATCH_SIZE
+                ),
+                now,
+                now
+        );
+        if (archived < 1) {
+            database.endTransaction(false);
+            return archived;
+        }
+        int removed = database.executeUpdate(
+                String.format(
+                        "DELETE FROM %1$s WHERE %2$s IN (SELECT %2$s FROM %1$s WHERE expiration <= ? ORDER BY expiration, %2$s LIMIT %3$d);",
+                        table,
+                        identifier,
+                        PersistenceConstants.BATCH_SIZE
+                ),
+                now
+        );
+        if (removed != archived || !database.endTransaction(true)) {
+            LOGGER.warning("Error archiving expired rows of table: " + table);
+            database.endTransaction(false);
+            return -1;
+        }
+        return removed;
+    }
+
+}
\ No newline at end of file
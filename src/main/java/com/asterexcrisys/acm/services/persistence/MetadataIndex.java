@@ -0,0 +1,142 @@
+package com.asterexcrisys.acm.services.persistence;
+
+import com.asterexcrisys.acm.types.persistence.EntryMetadata;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+@SuppressWarnings("unused")
+public final class MetadataIndex {
+
+    private static final Comparator<EntryMetadata> EXPIRATION_ORDER = Comparator.comparing(EntryMetadata::expiration).thenComparing(EntryMetadata::identifier);
+
+    private final NavigableMap<String, EntryMetadata> entries;
+    private final NavigableSet<EntryMetadata> expirations;
+
+    public MetadataIndex() {
+        entries = new ConcurrentSkipListMap<>();
+        expirations = new ConcurrentSkipListSet<>(EXPIRATION_ORDER);
+    }
+
+    public synchronized boolean load(Collection<EntryMetadata> metadata) {
+        if (metadata == null) {
+            return false;
+        }
+        clear();
+        for (EntryMetadata entry : metadata) {
+            put(entry);
+        }
+        return true;
+    }
+
+    public synchronized void put(EntryMetadata metadata) {
+        EntryMetadata previous = entries.put(metadata.identifier(), metadata);
+        if (previous != null && previous.expiration() != null) {
+            expirations.remove(previous);
+        }
+        if (metadata.expiration() != null) {
+            expirations.add(metadata);
+        }
+    }
+
+    public synchronized boolean remove(String identifier) {
+        if (identifier == null) {
+            return false;
+        }
+        EntryMetadata previous = entries.remove(identifier);
+        if (previous == null) {
+            return false;
+        }
+        if (previous.expiration() != null) {
+            expirations.remove(previous);
+        }
+        return true;
+    }
+
+    public synchronized int removeExpired(Instant now) {
+        int count = 0;
+        EntryMetadata entry;
+        while ((entry = expirations.pollFirst()) != null) {
+            if (!entry.isExpired(now)) {
+                expirations.add(entry);
+                break;
+            }
+            entries.remove(entry.identifier(), entry);
+            count++;
+        }
+        return count;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        expirations.clear();
+    }
+
+    public Optional<EntryMetadata> get(String identifier) {
+        if (identifier == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(identifier));
+    }
+
+    public boolean contains(String identifier) {
+        return identifier != null && entries.containsKey(identifier);
+    }
+
+    public boolean isActive(String identifier, Instant now) {
+        return get(identifier).map((metadata) -> !metadata.isExpired(now)).orElse(false);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<String> getAll() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    public List<String> getActive(Instant now) {
+        return entries.values().stream().filter((metadata) -> !metadata.isExpired(now)).map(EntryMetadata::identifier).toList();
+    }
+
+    public List<String> getExpiringWithin(Instant now, Duration duration) {
+        if (now == null || duration == null || duration.isNegative()) {
+            return List.of();
+        }
+        return expirations.subSet(
+                new EntryMetadata("", now, now.plusNanos(1)),
+                true,
+                new EntryMetadata("", now, now.plus(duration).plusNanos(1)),
+                false
+        ).stream().map(EntryMetadata::identifier).toList();
+    }
+
+    public List<String> list(String after, int limit) {
+        if (limit < 1) {
+            return List.of();
+        }
+        Collection<String> identifiers = (after == null)? entries.keySet():entries.tailMap(after, false).keySet();
+        return identifiers.stream().limit(limit).toList();
+    }
+
+    public List<String> sorted(Comparator<? super EntryMetadata> comparator) {
+        if (comparator == null) {
+            return getAll();
+        }
+        return entries.values().stream().sorted(comparator).map(EntryMetadata::identifier).toList();
+    }
+
+    public Stream<String> stream() {
+        return entries.keySet().stream();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.asterexcrisys.acm.services.persistence;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+@SuppressWarnings("unused")
+public record Migration(int version, Predicate<CoreDatabase> step) {
+
+    public Migration {
+        if (version < 1) {
+            throw new IllegalArgumentException("Migration version must be positive");
+        }
+        Objects.requireNonNull(step);
+    }
+
+    public boolean apply(CoreDatabase database) {
+        return step.test(database);
+    }
+
+    public Migration andThen(Predicate<CoreDatabase> next) {
+        return new Migration(version, step.and(Objects.requireNonNull(next)));
+    }
+
+    public static Migration of(int version, Predicate<CoreDatabase> step) {
+        return new Migration(version, step);
+    }
+
+    public static Migration of(int version, String... statements) {
+        Objects.requireNonNull(statements);
+        return new Migration(version, (database) -> {
+            for (String statement : statements) {
+                if (database.executeUpdate(statement) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.asterexcrisys.acm.services.persistence;
+
+import com.asterexcrisys.acm.constants.PersistenceConstants;
+import com.asterexcrisys.acm.services.encryption.KeyEncryptor;
+import com.asterexcrisys.acm.types.utility.Progress;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+@SuppressWarnings("unused")
+public final class RekeyPipeline {
+
+    private static final Logger LOGGER = Logger.getLogger(RekeyPipeline.class.getName());
+
+    private final CoreDatabase database;
+    private final String identifier;
+    private final String[] tables;
+
+    public RekeyPipeline(CoreDatabase database, String identifier, String... tables) throws NullPointerException, IllegalArgumentException {
+        this.database = Objects.requireNonNull(database);
+        this.identifier = Objects.requireNonNull(identifier);
+        if (Objects.requireNonNull(tables).length == 0) {
+            throw new IllegalArgumentException("At least one table must be given");
+        }
+        this.tables = tables.clone();
+    }
+
+    public boolean rekey(KeyEncryptor oldEncryptor, KeyEncryptor newEncryptor, String newMasterKey, Consumer<Progress> listener) {
+        if (oldEncryptor == null || newEncryptor == null || newMasterKey == null || newMasterKey.isBlank()) {
+            return false;
+        }
+        if (!rewrap(oldEncryptor, newEncryptor, listener)) {
+            return false;
+        }
+        if (!database.rekey(newMasterKey)) {
+            if (!rewrap(newEncryptor, oldEncryptor, null)) {
+                LOGGER.severe("Error restoring the keys of table: " + tables[0]);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    public boolean recover(KeyEncryptor oldEncryptor, KeyEncryptor newEncryptor, String newMasterKey) {
+        if (oldEncryptor == null || newEncryptor == null || newMasterKey == null || newMasterKey.isBlank()) {
+            return false;
+        }
+        String oldMasterKey = database.getMasterKey();
+        if (countRows().isEmpty()) {
+            if (!database.reconnect(newMasterKey) || countRows().isEmpty() || !database.rekey(oldMasterKey)) {
+                database.reconnect(oldMasterKey);
+                return false;
+            }
+        }
+        Optional<Boolean> isRewrapped = isWrappedBy(newEncryptor);
+        if (isRewrapped.isEmpty()) {
+            return false;
+        }
+        return !isRewrapped.get() || rewrap(newEncryptor, oldEncryptor, null);
+    }
+
+    private boolean rewrap(KeyEncryptor oldEncryptor, KeyEncryptor newEncryptor, Consumer<Progress> listener) {
+        Optional<Long> total = countRows();
+        if (total.isEmpty()) {
+            return false;
+        }
+        if (!database.beginTransaction()) {
+            return false;
+        }
+        long completed = 0;
+        for (String table : tables) {
+            completed = rewrapRows(table, oldEncryptor, newEncryptor, completed, total.get(), listener);
+            if (completed < 0) {
+                break;
+            }
+        }
+        if (completed < 0 || !database.endTransaction(true)) {
+            database.endTransaction(false);
+            return false;
+        }
+        return true;
+    }
+
+    private Optional<Boolean> isWrappedBy(KeyEncryptor encryptor) {
+        for (String table : tables) {
+            Optional<List<Object[]>> rows = readRows(table, "", 1);
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            if (!rows.get().isEmpty()) {
+                return Optional.of(encryptor.decryptRaw((byte[]) rows.get().getFirst()[1]).isPresent());
+            }
+        }
+        return Optional.of(false);
+    }
+
+    private Optional<Long> countRows() {
+        long total = 0;
+        for (String table : tables) {
+            try (ResultSet resultSet = database.executeQuery(String.format("SELECT COUNT(*) AS count FROM %s;", table))) {
+                if (resultSet == null || !resultSet.next()) {
+                    return Optional.empty();
+                }
+                total += resultSet.getLong("count");
+            } catch (SQLException e) {
+                LOGGER.warning("Error counting rows to rekey: " + e.getMessage());
+                return Optional.empty();
+            }
+        }
+        return Optional.of(total);
+    }
+
+    private long rewrapRows(String table, KeyEncryptor oldEncryptor, KeyEncryptor newEncryptor, long completed, long total, Consumer<Progress> listener) {
+        String lastIdentifier = "";
+        while (true) {
+            Optional<List<Object[]>> rows = readRows(table, lastIdentifier, PersistenceConstants.BATCH_SIZE);
+            if (rows.isEmpty()) {
+                return -1;
+            }
+            if (rows.get().isEmpty()) {
+                return completed;
+            }
+            List<Object[]> page = rows.get();
+            List<Optional<byte[]>> keys = IntStream.range(0, page.size()).parallel().mapToObj((index) -> {
+                return oldEncryptor.decryptRaw((byte[]) page.get(index)[1]).flatMap(newEncryptor::encryptRaw);
+            }).toList();
+            List<Object[]> parameters = new ArrayList<>(page.size());
+            for (int i = 0; i < page.size(); i++) {
+                if (keys.get(i).isEmpty()) {
+                    LOGGER.warning("Error rewrapping key of row: " + page.get(i)[0]);
+                    return -1;
+                }
+                parameters.add(new Object[] {keys.get(i).get(), page.get(i)[0]});
+            }
+            int count = database.executeBatch(
+                    String.format("UPDATE %s SET key = ? WHERE %s = ?;", table, identifier),
+                    parameters
+            );
+            if (count != parameters.size()) {
+                return -1;
+            }
+            completed += page.size();
+            lastIdentifier = (String) page.getLast()[0];
+            if (listener != null) {
+                listener.accept(Progress.of(tables[0], completed, total));
+            }
+        }
+    }
+
+    private Optional<List<Object[]>> readRows(String table, String lastIdentifier, int limit) {
+        try (ResultSet resultSet = database.executeQuery(
+                String.format("SELECT %1$s, key FROM %2$s WHERE %1$s > ? ORDER BY %1$s LIMIT %3$d;", identifier, table, limit),
+                lastIdentifier
+        )) {
+            List<Object[]> rows = new ArrayList<>();
+            while (resultSet != null && resultSet.next()) {
+                rows.add(new Object[] {resultSet.getString(identifier), resultSet.getBytes("key")});
+            }
+            return Optional.of(rows);
+        } catch (SQLException e) {
+            LOGGER.warning("Error reading rows to rekey: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.asterexcrisys.acm.services.persistence;
+
+import com.asterexcrisys.acm.constants.PersistenceConstants;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+@SuppressWarnings("unused")
+public final class SchemaMigrator {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigrator.class.getName());
+
+    private final CoreDatabase database;
+    private final List<Migration> migrations;
+
+    public SchemaMigrator(CoreDatabase database, Migration... migrations) throws NullPointerException, IllegalArgumentException {
+        this.database = Objects.requireNonNull(database);
+        this.migrations = Arrays.stream(Objects.requireNonNull(migrations)).sorted(Comparator.comparingInt(Migration::version)).toList();
+        for (int i = 1; i < this.migrations.size(); i++) {
+            if (this.migrations.get(i - 1).version() == this.migrations.get(i).version()) {
+                throw new IllegalArgumentException("Duplicate migration version: " + this.migrations.get(i).version());
+            }
+        }
+    }
+
+    public Optional<Integer> getVersion() {
+        try (ResultSet resultSet = database.executeQuery("PRAGMA user_version;")) {
+            if (resultSet == null || !resultSet.next()) {
+                return Optional.empty();
+            }
+            return Optional.of(resultSet.getInt("user_version"));
+        } catch (SQLException e) {
+            LOGGER.warning("Error retrieving schema version: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public int getLatestVersion() {
+        if (migrations.isEmpty()) {
+            return 0;
+        }
+        return migrations.getLast().version();
+    }
+
+    public boolean migrate() {
+        Optional<Integer> version = getVersion();
+        if (version.isEmpty()) {
+            return false;
+        }
+        if (version.get() > getLatestVersion()) {
+            LOGGER.warning("Error migrating schema: version " + version.get() + " is newer than supported");
+            return false;
+        }
+        List<Migration> pending = migrations.stream().filter((migration) -> migration.version() > version.get()).toList();
+        if (pending.isEmpty()) {
+            return true;
+        }
+        if (!database.beginTransaction()) {
+            return false;
+        }
+        for (Migration migration : pending) {
+            if (!migration.apply(database)) {
+                LOGGER.warning("Error applying schema migration: " + migration.version());
+                database.endTransaction(false);
+                return false;
+            }
+        }
+        if (database.executeUpdate(String.format("PRAGMA user_version = %d;", getLatestVersion())) < 0) {
+            database.endTransaction(false);
+            return false;
+        }
+        if (!database.endTransaction(true)) {
+            return false;
+        }
+        if (version.get() > 0 && !database.vacuum()) {
+            LOGGER.warning("Error compacting database after schema migration");
+        }
+        return true;
+    }
+
+    public static boolean decodeColumns(CoreDatabase database, String table, String identifier, String... columns) {
+        if (database == null || table == null || identifier == null || columns == null || columns.length == 0) {
+            return false;
+        }
+        String selection = String.format(
+                "SELECT %s, %s FROM %s WHERE %s LIMIT %d;",
+                identifier,
+                String.join(", ", columns),
+                table,
+                Arrays.stream(columns).map((column) -> String.format("TYPEOF(%s) = 'text'", column)).collect(Collectors.joining(" OR ")),
+                PersistenceConstants.BATCH_SIZE
+        );
+        String update = String.format(
+                "UPDATE %s SET %s WHERE %s = ?;",
+                table,
+                Arrays.stream(columns).map((column) -> column + " = ?").collect(Collectors.joining(", ")),
+                identifier
+        );
+        while (true) {
+            List<Object[]> parameters = new ArrayList<>();
+            try (ResultSet resultSet = database.executeQuery(selection)) {
+                if (resultSet == null) {
+                    return false;
+                }
+                while (resultSet.next()) {
+                    Object[] row = new Object[columns.length + 1];
+                    for (int i = 0; i < columns.length; i++) {
+                        Object value = resultSet.getObject(columns[i]);
+                        row[i] = value instanceof String text? Base64.getDecoder().decode(text):value;
+                    }
+                    row[columns.length] = resultSet.getObject(identifier);
+                    parameters.add(row);
+                }
+            } catch (SQLException | IllegalArgumentException e) {
+                LOGGER.warning("Error decoding columns of table " + table + ": " + e.getMessage());
+                return false;
+            }
+            if (parameters.isEmpty()) {
+                return true;
+            }
+            if (database.executeBatch(update, parameters) != parameters.size()) {
+                return false;
+            }
+        }
+    }
+
+}
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.asterexcrisys.acm.services.persistence;
 
 import com.asterexcrisys.acm.constants.PersistenceConstants;
-import com.asterexcrisys.acm.exceptions.EncryptionException;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.encryption.KeyCache;
 import com.asterexcrisys.acm.services.encryption.KeyEncryptor;
 import com.asterexcrisys.acm.types.encryption.Token;
+import com.asterexcrisys.acm.types.persistence.EntryMetadata;
+import com.asterexcrisys.acm.types.utility.Progress;
 import com.asterexcrisys.acm.utility.DatabaseUtility;
 import com.asterexcrisys.acm.utility.PathUtility;
 import java.nio.file.Files;
@@ -11,21 +14,62 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 @SuppressWarnings("unused")
 public final class TokenDatabase implements Database {
 
     private static final Logger LOGGER = Logger.getLogger(TokenDatabase.class.getName());
+    private static final Migration[] MIGRATIONS = {
+            Migration.of(
+                    1,
+                    "CREATE TABLE IF NOT EXISTS tokens (identifier TEXT PRIMARY KEY, key TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL DEFAULT (STRFTIME('%Y-%m-%dT%H:%M:%fZ', 'now')));",
+                    "CREATE TABLE IF NOT EXISTS tokens_archive (identifier TEXT PRIMARY KEY, key TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL, archived_at TEXT NOT NULL);",
+                    "CREATE INDEX IF NOT EXISTS tokens_expiration ON tokens (expiration);"
+            ),
+            Migration.of(
+                    2,
+                    "CREATE TABLE tokens_migration (identifier TEXT PRIMARY KEY, key TEXT NOT NULL, expiration INTEGER DEFAULT NULL, last_modification INTEGER NOT NULL DEFAULT (CAST((JULIANDAY('now') - 2440587.5) * 86400000 AS INTEGER)));",
+                    "INSERT INTO tokens_migration (identifier, key, expiration, last_modification) SELECT identifier, key, " + DatabaseUtility.toEpochMillis("expiration") + ", " + DatabaseUtility.toEpochMillis("last_modification") + " FROM tokens;",
+                    "DROP TABLE tokens;",
+                    "ALTER TABLE tokens_migration RENAME TO tokens;",
+                    "CREATE TABLE tokens_archive_migration (identifier TEXT PRIMARY KEY, key TEXT NOT NULL, expiration INTEGER DEFAULT NULL, last_modification INTEGER NOT NULL, archived_at INTEGER NOT NULL);",
+                    "INSERT INTO tokens_archive_migration (identifier, key, expiration, last_modification, archived_at) SELECT identifier, key, " + DatabaseUtility.toEpochMillis("expiration") + ", " + DatabaseUtility.toEpochMillis("last_modification") + ", " + DatabaseUtility.toEpochMillis("archived_at") + " FROM tokens_archive;",
+                    "DROP TABLE tokens_archive;",
+                    "ALTER TABLE tokens_archive_migration RENAME TO tokens_archive;",
+                    "CREATE INDEX IF NOT EXISTS tokens_expiration ON tokens (expiration);"
+            ),
+            Migration.of(
+                    3,
+                    "CREATE TABLE tokens_migration (identifier TEXT PRIMARY KEY, key BLOB NOT NULL, expiration INTEGER DEFAULT NULL, last_modification INTEGER NOT NULL DEFAULT (CAST((JULIANDAY('now') - 2440587.5) * 86400000 AS INTEGER)));",
+                    "INSERT INTO tokens_migration (identifier, key, expiration, last_modification) SELECT identifier, key, expiration, last_modification FROM tokens;",
+                    "DROP TABLE tokens;",
+                    "ALTER TABLE tokens_migration RENAME TO tokens;",
+                    "CREATE TABLE tokens_archive_migration (identifier TEXT PRIMARY KEY, key BLOB NOT NULL, expiration INTEGER DEFAULT NULL, last_modification INTEGER NOT NULL, archived_at INTEGER NOT NULL);",
+                    "INSERT INTO tokens_archive_migration (identifier, key, expiration, last_modification, archived_at) SELECT identifier, key, expiration, last_modification, archived_at FROM tokens_archive;",
+                    "DROP TABLE tokens_archive;",
+                    "ALTER TABLE tokens_archive_migration RENAME TO tokens_archive;",
+                    "CREATE INDEX IF NOT EXISTS tokens_expiration ON tokens (expiration);"
+            ).andThen((database) -> {
+                return SchemaMigrator.decodeColumns(database, "tokens", "identifier", "key")
+                        && SchemaMigrator.decodeColumns(database, "tokens_archive", "identifier", "key");
+            })
+    };
 
     private final CoreDatabase database;
+    private ExpirySweeper sweeper;
 
     public TokenDatabase(String vaultName, String masterKey) throws NullPointerException {
         database = new CoreDatabase(vaultName, PersistenceConstants.TOKEN_DATABASE, masterKey);
+        sweeper = null;
     }
 
     public Optional<Path> getDatabasePath() {
@@ -41,9 +85,7 @@ public final class TokenDatabase implements Database {
     }
 
     public boolean createTable() {
-        return database.executeUpdate(
-                "CREATE TABLE IF NOT EXISTS tokens (identifier TEXT PRIMARY KEY, key TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL DEFAULT (STRFTIME('%Y-%m-%dT%H:%M:%fZ', 'now')));"
-        ) == 0;
+        return new SchemaMigrator(database, MIGRATIONS).migrate();
     }
 
     public boolean dropTable() {
@@ -69,7 +111,16 @@ public final class TokenDatabase implements Database {
         if (databaseFile.isEmpty()) {
             return false;
         }
-        return DatabaseUtility.restoreFrom(databaseFile.get(), backupFile);
+        boolean wasSweeping = sweeper != null;
+        Consumer<Instant> sweepListener = wasSweeping? sweeper.getListener():null;
+        stopSweeper();
+        database.close();
+        boolean isRestored = DatabaseUtility.restoreFrom(databaseFile.get(), backupFile);
+        boolean isMigrated = database.connect() && createTable();
+        if (wasSweeping) {
+            startSweeper(PersistenceConstants.SWEEP_INTERVAL, sweepListener);
+        }
+        return isRestored && isMigrated;
     }
 
     public boolean mergeWith(Path file, String masterKey) {
@@ -83,7 +134,8 @@ public final class TokenDatabase implements Database {
             return false;
         }
         return database.executeUpdate("ATTACH ? AS file KEY ?;", file.toAbsolutePath().toString(), masterKey) == 0
-                && database.executeUpdate("INSERT OR REPLACE INTO tokens (identifier, key, expiration, last_modification) SELECT t.identifier, t.key, t.expiration, t.last_modification FROM file.tokens AS t;") == 0
+                && database.executeUpdate("INSERT OR REPLACE INTO tokens (identifier, key, expiration, last_modification) SELECT t.identifier, t.key, " + DatabaseUtility.toEpochMillis("t.expiration") + ", " + DatabaseUtility.toEpochMillis("t.last_modification") + " FROM file.tokens AS t;") >= 0
+                && SchemaMigrator.decodeColumns(database, "tokens", "identifier", "key")
                 && database.executeUpdate("DETACH file;") == 0;
     }
 
@@ -91,11 +143,13 @@ public final class TokenDatabase implements Database {
         if (identifier == null || identifier.isBlank()) {
             return false;
         }
-        try (ResultSet resultSet = database.executeQuery(
-                "SELECT t.identifier FROM tokens AS t WHERE t.identifier = ? AND (c.expiration IS NULL OR (c.expiration <= STRFTIME('%Y-%m-%dT%H:%M:%fZ', 'now')) = ?);",
-                identifier,
-                isExpired? Boolean.FALSE.toString():Boolean.TRUE.toString()
-        )) {
+        String query;
+        if (isExpired) {
+            query = "SELECT t.identifier FROM tokens AS t WHERE t.identifier = ? AND t.expiration <= ?;";
+        } else {
+            query = "SELECT t.identifier FROM tokens AS t WHERE t.identifier = ? AND (t.expiration IS NULL OR t.expiration > ?);";
+        }
+        try (ResultSet resultSet = database.executeQuery(query, identifier, Instant.now().toEpochMilli())) {
             return resultSet != null && resultSet.next();
         } catch (SQLException e) {
             LOGGER.warning("Error retrieving token: " + e.getMessage());
@@ -104,6 +158,10 @@ public final class TokenDatabase implements Database {
     }
 
     public Optional<Token> getToken(String identifier, KeyEncryptor encryptor) {
+        return getToken(identifier, encryptor, null);
+    }
+
+    public Optional<Token> getToken(String identifier, KeyEncryptor encryptor, KeyCache cache) {
         if (identifier == null || encryptor == null || identifier.isBlank()) {
             return Optional.empty();
         }
@@ -114,21 +172,22 @@ public final class TokenDatabase implements Database {
             if (resultSet == null || !resultSet.next()) {
                 return Optional.empty();
             }
-            Optional<String> key = encryptor.decrypt(resultSet.getString("key"));
+            byte[] wrappedKey = resultSet.getBytes("key");
+            Optional<GenericEncryptor> key = (cache == null)? KeyCache.unwrapKey(wrappedKey, encryptor).map(GenericEncryptor::new):cache.unwrap(identifier, wrappedKey, encryptor);
             if (key.isEmpty()) {
                 return Optional.empty();
             }
             Token token = new Token(
                     resultSet.getString("identifier"),
                     key.get(),
-                    Instant.parse(resultSet.getString("last_modification"))
+                    Instant.ofEpochMilli(resultSet.getLong("last_modification"))
             );
-            String expiration = resultSet.getString("expiration");
-            if (expiration != null) {
-                token.setExpiration(Instant.parse(expiration));
+            long expiration = resultSet.getLong("expiration");
+            if (!resultSet.wasNull()) {
+                token.setExpiration(Instant.ofEpochMilli(expiration));
             }
             return Optional.of(token);
-        } catch (SQLException | EncryptionException e) {
+        } catch (SQLException e) {
             LOGGER.warning("Error retrieving token: " + e.getMessage());
             return Optional.empty();
         }
@@ -147,11 +206,85 @@ public final class TokenDatabase implements Database {
         }
     }
 
+    public Optional<List<String>> getActiveTokens() {
+        return collectTokens(
+                "SELECT t.identifier FROM tokens AS t WHERE t.expiration IS NULL OR t.expiration > ?;",
+                Instant.now().toEpochMilli()
+        );
+    }
+
+    public Optional<List<String>> getTokensExpiringWithin(Duration duration) {
+        if (duration == null || duration.isNegative()) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        return collectTokens(
+                "SELECT t.identifier FROM tokens AS t WHERE t.expiration > ? AND t.expiration <= ? ORDER BY t.expiration;",
+                now.toEpochMilli(),
+                now.plus(duration).toEpochMilli()
+        );
+    }
+
+    public Optional<Stream<String>> streamAllTokens() {
+        return database.executeStream("SELECT t.identifier FROM tokens AS t ORDER BY t.identifier;", "identifier");
+    }
+
+    public Optional<List<String>> listTokens(String afterIdentifier, int limit) {
+        if (limit < 1) {
+            return Optional.empty();
+        }
+        try (ResultSet resultSet = database.executeQuery(
+                "SELECT t.identifier FROM tokens AS t WHERE t.identifier > ? ORDER BY t.identifier LIMIT ?;",
+                afterIdentifier == null? "":afterIdentifier,
+                limit
+        )) {
+            List<String> tokens = new ArrayList<>(Math.min(limit, PersistenceConstants.BATCH_SIZE));
+            while (resultSet != null && resultSet.next()) {
+                tokens.add(resultSet.getString("identifier"));
+            }
+            return Optional.of(tokens);
+        } catch (SQLException e) {
+            LOGGER.warning("Error listing tokens: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<List<EntryMetadata>> getAllTokenMetadata() {
+        try (ResultSet resultSet = database.executeQuery("SELECT t.identifier, t.expiration, t.last_modification FROM tokens AS t;")) {
+            List<EntryMetadata> metadata = new ArrayList<>();
+            while (resultSet != null && resultSet.next()) {
+                long expiration = resultSet.getLong("expiration");
+                boolean hasExpiration = !resultSet.wasNull();
+                metadata.add(new EntryMetadata(
+                        resultSet.getString("identifier"),
+                        Instant.ofEpochMilli(resultSet.getLong("last_modification")),
+                        hasExpiration? Instant.ofEpochMilli(expiration):null
+                ));
+            }
+            return Optional.of(metadata);
+        } catch (SQLException e) {
+            LOGGER.warning("Error retrieving token metadata: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<Long> countTokens() {
+        try (ResultSet resultSet = database.executeQuery("SELECT COUNT(*) AS count FROM tokens;")) {
+            if (resultSet == null || !resultSet.next()) {
+                return Optional.empty();
+            }
+            return Optional.of(resultSet.getLong("count"));
+        } catch (SQLException e) {
+            LOGGER.warning("Error counting tokens: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public boolean saveToken(Token token, KeyEncryptor encryptor) {
         if (token == null || encryptor == null) {
             return false;
         }
-        Optional<String> key = token.getEncryptor().getEncryptedKey(encryptor);
+        Optional<byte[]> key = token.getEncryptor().getRawEncryptedKey(encryptor);
         if (key.isEmpty()) {
             return false;
         }
@@ -159,11 +292,60 @@ public final class TokenDatabase implements Database {
                 "INSERT OR REPLACE INTO tokens (identifier, key, expiration, last_modification) VALUES (?, ?, ?, ?);",
                 token.getIdentifier(),
                 key.get(),
-                token.getExpiration().map(Instant::toString).orElse(null),
-                token.getLastModification().toString()
+                token.getExpiration().map(Instant::toEpochMilli).orElse(null),
+                token.getLastModification().toEpochMilli()
         ) == 1;
     }
 
+    public boolean saveTokens(Collection<Token> tokens, KeyEncryptor encryptor) {
+        if (tokens == null || encryptor == null) {
+            return false;
+        }
+        List<Object[]> parameters = new ArrayList<>(tokens.size());
+        for (Token token : tokens) {
+            if (token == null) {
+                return false;
+            }
+            Optional<byte[]> key = token.getEncryptor().getRawEncryptedKey(encryptor);
+            if (key.isEmpty()) {
+                return false;
+            }
+            parameters.add(new Object[] {
+                    token.getIdentifier(),
+                    key.get(),
+                    token.getExpiration().map(Instant::toEpochMilli).orElse(null),
+                    token.getLastModification().toEpochMilli()
+            });
+        }
+        if (!database.beginTransaction()) {
+            return false;
+        }
+        int count = database.executeBatch(
+                "INSERT OR REPLACE INTO tokens (identifier, key, expiration, last_modification) VALUES (?, ?, ?, ?);",
+                parameters
+        );
+        if (count != parameters.size()) {
+            database.endTransaction(false);
+            return false;
+        }
+        return database.endTransaction(true);
+    }
+
+    public boolean rekeyTokens(KeyEncryptor oldEncryptor, KeyEncryptor newEncryptor, String masterKey, Consumer<Progress> listener) {
+        boolean wasSweeping = sweeper != null;
+        Consumer<Instant> sweepListener = wasSweeping? sweeper.getListener():null;
+        stopSweeper();
+        boolean isSuccessful = new RekeyPipeline(database, "identifier", "tokens", "tokens_archive").rekey(oldEncryptor, newEncryptor, masterKey, listener);
+        if (wasSweeping) {
+            startSweeper(PersistenceConstants.SWEEP_INTERVAL, sweepListener);
+        }
+        return isSuccessful;
+    }
+
+    public boolean recoverTokens(KeyEncryptor oldEncryptor, KeyEncryptor newEncryptor, String masterKey) {
+        return new RekeyPipeline(database, "identifier", "tokens", "tokens_archive").recover(oldEncryptor, newEncryptor, masterKey);
+    }
+
     public boolean removeToken(String identifier) {
         if (identifier == null) {
             return false;
@@ -175,17 +357,106 @@ public final class TokenDatabase implements Database {
     }
 
     public boolean removeAllTokens() {
-        Optional<List<String>> tokens = getAllTokens();
-        if (tokens.isEmpty()) {
+        Optional<Long> count = countTokens();
+        if (count.isEmpty() || !database.beginTransaction()) {
+            return false;
+        }
+        if (database.executeUpdate("DELETE FROM tokens;") != count.get()
+                || database.executeUpdate("DELETE FROM tokens_archive;") < 0
+                || !database.endTransaction(true)) {
+            database.endTransaction(false);
+            return false;
+        }
+        return true;
+    }
+
+    public Optional<List<String>> getAllArchivedTokens() {
+        try (ResultSet resultSet = database.executeQuery("SELECT t.identifier FROM tokens_archive AS t ORDER BY t.identifier;")) {
+            List<String> tokens = new ArrayList<>();
+            while (resultSet != null && resultSet.next()) {
+                tokens.add(resultSet.getString("identifier"));
+            }
+            return Optional.of(tokens);
+        } catch (SQLException e) {
+            LOGGER.warning("Error retrieving all archived tokens: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean restoreToken(String identifier, Instant expiration, Instant lastModification) {
+        if (identifier == null || lastModification == null) {
+            return false;
+        }
+        if (!database.beginTransaction()) {
+            return false;
+        }
+        if (database.executeUpdate(
+                "INSERT INTO tokens (identifier, key, expiration, last_modification) SELECT identifier, key, ?, ? FROM tokens_archive WHERE identifier = ?;",
+                expiration == null? null:expiration.toEpochMilli(),
+                lastModification.toEpochMilli(),
+                identifier
+        ) != 1 || database.executeUpdate("DELETE FROM tokens_archive WHERE identifier = ?;", identifier) != 1 || !database.endTransaction(true)) {
+            database.endTransaction(false);
+            return false;
+        }
+        return true;
+    }
+
+    public boolean removeArchivedToken(String identifier) {
+        if (identifier == null) {
             return false;
         }
         return database.executeUpdate(
-                "DELETE FROM tokens;"
-        ) == tokens.get().size();
+                "DELETE FROM tokens_archive WHERE identifier = ?;",
+                identifier
+        ) == 1;
+    }
+
+    public boolean removeAllArchivedTokens() {
+        return database.executeUpdate("DELETE FROM tokens_archive;") >= 0;
+    }
+
+    public boolean startSweeper(Duration interval) {
+        return startSweeper(interval, null);
+    }
+
+    public boolean startSweeper(Duration interval, Consumer<Instant> listener) {
+        if (sweeper != null) {
+            return false;
+        }
+        ExpirySweeper sweeper = new ExpirySweeper(database, "tokens", "identifier", "identifier, key, expiration, last_modification", listener);
+        if (!sweeper.start(interval)) {
+            sweeper.close();
+            return false;
+        }
+        this.sweeper = sweeper;
+        return true;
+    }
+
+    public void stopSweeper() {
+        if (sweeper == null) {
+            return;
+        }
+        sweeper.close();
+        sweeper = null;
     }
 
     public void close() {
+        stopSweeper();
         database.close();
     }
 
+    private Optional<List<String>> collectTokens(String query, Object... parameters) {
+        try (ResultSet resultSet = database.executeQuery(query, parameters)) {
+            List<String> tokens = new ArrayList<>();
+            while (resultSet != null && resultSet.next()) {
+                tokens.add(resultSet.getString("identifier"));
+            }
+            return Optional.of(tokens);
+        } catch (SQLException e) {
+            LOGGER.warning("Error retrieving tokens: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
 }
\ No newline at end of file
@@ -1,8 +1,9 @@
 package com.asterexcrisys.acm.services.persistence;
 
+import com.asterexcrisys.acm.constants.HashingConstants;
 import com.asterexcrisys.acm.constants.PersistenceConstants;
 import com.asterexcrisys.acm.exceptions.DerivationException;
-import com.asterexcrisys.acm.exceptions.HashingException;
+import com.asterexcrisys.acm.services.encryption.KeyMaterial;
 import com.asterexcrisys.acm.utility.DatabaseUtility;
 import com.asterexcrisys.acm.utility.HashingUtility;
 import com.asterexcrisys.acm.types.encryption.Vault;
@@ -10,7 +11,6 @@ import com.asterexcrisys.acm.utility.PathUtility;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.NoSuchAlgorithmException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -22,6 +22,20 @@ import java.util.logging.Logger;
 public final class VaultDatabase implements Database {
 
     private static final Logger LOGGER = Logger.getLogger(VaultDatabase.class.getName());
+    private static final Migration[] MIGRATIONS = {
+            Migration.of(
+                    1,
+                    "CREATE TABLE IF NOT EXISTS vaults (name TEXT PRIMARY KEY, password TEXT NOT NULL, salt TEXT NOT NULL, is_locked TEXT NOT NULL DEFAULT 'false' COLLATE NOCASE);"
+            ),
+            Migration.of(
+                    2,
+                    "ALTER TABLE vaults ADD COLUMN key_iterations INTEGER NOT NULL DEFAULT " + HashingConstants.KEY_ITERATION_COUNT + ";"
+            ),
+            Migration.of(
+                    3,
+                    "ALTER TABLE vaults ADD COLUMN pending_key BLOB DEFAULT NULL;"
+            )
+    };
 
     private final CoreDatabase database;
 
@@ -42,9 +56,7 @@ public final class VaultDatabase implements Database {
     }
 
     public boolean createTable() {
-        return database.executeUpdate(
-                "CREATE TABLE IF NOT EXISTS vaults (name TEXT PRIMARY KEY, password TEXT NOT NULL, salt TEXT NOT NULL, is_locked TEXT NOT NULL DEFAULT 'false' COLLATE NOCASE);"
-        ) == 0;
+        return new SchemaMigrator(database, MIGRATIONS).migrate();
     }
 
     public boolean dropTable() {
@@ -109,7 +121,7 @@ public final class VaultDatabase implements Database {
             return Optional.empty();
         }
         try (ResultSet resultSet = database.executeQuery(
-                "SELECT v.name, v.password, v.salt, v.is_locked FROM vaults AS v WHERE v.name = ?;",
+                "SELECT v.name, v.password, v.salt, v.is_locked, v.key_iterations FROM vaults AS v WHERE v.name = ?;",
                 name
         )) {
             if (resultSet == null || !resultSet.next()) {
@@ -119,13 +131,12 @@ public final class VaultDatabase implements Database {
                 return Optional.empty();
             }
             return Optional.of(new Vault(
-                    resultSet.getString("salt"),
+                    new KeyMaterial(password, resultSet.getString("salt"), resultSet.getInt("key_iterations")),
                     resultSet.getString("password"),
                     resultSet.getString("name"),
-                    password,
                     resultSet.getString("is_locked").equalsIgnoreCase(Boolean.TRUE.toString())
             ));
-        } catch (SQLException | NoSuchAlgorithmException | DerivationException | HashingException e) {
+        } catch (SQLException | DerivationException e) {
             LOGGER.warning("Error retrieving vault: " + e.getMessage());
             return Optional.empty();
         }
@@ -152,11 +163,65 @@ public final class VaultDatabase implements Database {
             return false;
         }
         return database.executeUpdate(
-                "INSERT OR REPLACE INTO vaults (name, password, salt, is_locked) VALUES (?, ?, ?, ?);",
+                "INSERT INTO vaults (name, password, salt, is_locked, key_iterations) VALUES (?, ?, ?, ?, ?) ON CONFLICT (name) DO UPDATE SET password = excluded.password, salt = excluded.salt, is_locked = excluded.is_locked, key_iterations = excluded.key_iterations;",
                 vault.getName(),
                 vault.getHashedPassword(),
                 vault.getEncryptor().getSealedSalt(),
-                vault.isLocked()? Boolean.TRUE.toString():Boolean.FALSE.toString()
+                vault.isLocked()? Boolean.TRUE.toString():Boolean.FALSE.toString(),
+                vault.getKeyMaterial().getIterationCount()
+        ) == 1;
+    }
+
+    public boolean replaceVault(Vault vault) {
+        if (vault == null) {
+            return false;
+        }
+        return database.executeUpdate(
+                "UPDATE vaults SET password = ?, salt = ?, is_locked = ?, key_iterations = ?, pending_key = NULL WHERE name = ?;",
+                vault.getHashedPassword(),
+                vault.getEncryptor().getSealedSalt(),
+                vault.isLocked()? Boolean.TRUE.toString():Boolean.FALSE.toString(),
+                vault.getKeyMaterial().getIterationCount(),
+                vault.getName()
+        ) == 1;
+    }
+
+    public Optional<byte[]> getPendingKey(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        try (ResultSet resultSet = database.executeQuery(
+                "SELECT v.pending_key FROM vaults AS v WHERE v.name = ? AND v.pending_key IS NOT NULL;",
+                name
+        )) {
+            if (resultSet == null || !resultSet.next()) {
+                return Optional.empty();
+            }
+            return Optional.of(resultSet.getBytes("pending_key"));
+        } catch (SQLException e) {
+            LOGGER.warning("Error retrieving pending key: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean setPendingKey(String name, byte[] pendingKey) {
+        if (name == null || pendingKey == null || name.isBlank()) {
+            return false;
+        }
+        return database.executeUpdate(
+                "UPDATE vaults SET pending_key = ? WHERE name = ?;",
+                pendingKey,
+                name
+        ) == 1;
+    }
+
+    public boolean removePendingKey(String name) {
+        if (name == null || name.isBlank()) {
+            return false;
+        }
+        return database.executeUpdate(
+                "UPDATE vaults SET pending_key = NULL WHERE name = ?;",
+                name
         ) == 1;
     }
 
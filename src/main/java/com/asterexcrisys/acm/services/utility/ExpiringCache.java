@@ -0,0 +1,150 @@
+package com.asterexcrisys.acm.services.utility;
+
+import com.asterexcrisys.acm.types.utility.CacheStatistics;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+@SuppressWarnings("unused")
+public final class ExpiringCache<K, V> implements AutoCloseable {
+
+    private final int maximumSize;
+    private final long timeToLive;
+    private final Consumer<? super V> listener;
+    private final Map<K, Entry<V>> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ExpiringCache(int maximumSize, Duration timeToLive) throws NullPointerException, IllegalArgumentException {
+        this(maximumSize, timeToLive, null);
+    }
+
+    public ExpiringCache(int maximumSize, Duration timeToLive, Consumer<? super V> listener) throws NullPointerException, IllegalArgumentException {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (Objects.requireNonNull(timeToLive).isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive.toNanos();
+        this.listener = listener;
+        entries = new LinkedHashMap<>(maximumSize, 0.75f, true);
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Duration getTimeToLive() {
+        return Duration.ofNanos(timeToLive);
+    }
+
+    public synchronized Optional<V> get(K key) {
+        return get(key, null);
+    }
+
+    public synchronized Optional<V> get(K key, Predicate<? super V> validator) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.nanoTime()) || (validator != null && !validator.test(entry.value()))) {
+            entries.remove(key);
+            evict(entry);
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.value());
+    }
+
+    public synchronized void put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Entry<V> previous = entries.put(key, new Entry<>(value, System.nanoTime() + timeToLive));
+        if (previous != null && previous.value() != value) {
+            evict(previous);
+        }
+        if (entries.size() > maximumSize) {
+            purge();
+        }
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (entries.size() > maximumSize && iterator.hasNext()) {
+            Entry<V> eldest = iterator.next();
+            iterator.remove();
+            evict(eldest);
+        }
+    }
+
+    public synchronized boolean invalidate(K key) {
+        Entry<V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        evict(entry);
+        return true;
+    }
+
+    public synchronized void invalidateAll() {
+        for (Entry<V> entry : entries.values()) {
+            evict(entry);
+        }
+        entries.clear();
+    }
+
+    public synchronized int purge() {
+        long now = System.nanoTime();
+        int count = 0;
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<V> entry = iterator.next();
+            if (entry.isExpired(now)) {
+                iterator.remove();
+                evict(entry);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized CacheStatistics getStatistics() {
+        return CacheStatistics.of(hits, misses, evictions, entries.size());
+    }
+
+    public void close() {
+        invalidateAll();
+    }
+
+    private void evict(Entry<V> entry) {
+        evictions++;
+        if (listener != null) {
+            listener.accept(entry.value());
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+
+        // All necessary methods are generated by default
+
+        public boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.asterexcrisys.acm.services.utility;
+
+import com.asterexcrisys.acm.constants.HashingConstants;
+import com.asterexcrisys.acm.services.encryption.KeyEncryptor;
+import com.asterexcrisys.acm.types.encryption.HashingPolicy;
+import com.asterexcrisys.acm.utility.GlobalUtility;
+import com.asterexcrisys.acm.utility.HashingUtility;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class HashingCalibrator {
+
+    private static final Logger LOGGER = Logger.getLogger(HashingCalibrator.class.getName());
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLE_KEY_ITERATION_COUNT = 100000;
+
+    private final Duration target;
+    private final int parallelismCount;
+
+    public HashingCalibrator() {
+        this(HashingConstants.CALIBRATION_TARGET);
+    }
+
+    public HashingCalibrator(Duration target) throws NullPointerException, IllegalArgumentException {
+        if (Objects.requireNonNull(target).isNegative() || target.isZero()) {
+            throw new IllegalArgumentException("Calibration target must be positive");
+        }
+        this.target = target;
+        parallelismCount = Math.clamp(Runtime.getRuntime().availableProcessors(), 1, HashingConstants.MAXIMUM_PARALLELISM_COUNT);
+    }
+
+    public Duration getTarget() {
+        return target;
+    }
+
+    public Optional<HashingPolicy> calibrate() {
+        Duration budget = target.dividedBy(2);
+        Optional<HashingPolicy> hashPolicy = calibrateHash(budget);
+        if (hashPolicy.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Integer> keyIterationCount = calibrateKey(budget);
+        if (keyIterationCount.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(HashingPolicy.of(
+                hashPolicy.get().iterationCount(),
+                hashPolicy.get().memoryUsage(),
+                hashPolicy.get().parallelismCount(),
+                keyIterationCount.get()
+        ));
+    }
+
+    public Optional<Duration> measure(HashingPolicy policy) {
+        if (policy == null) {
+            return Optional.empty();
+        }
+        Optional<Duration> hashDuration = measureHash(policy);
+        if (hashDuration.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Duration> keyDuration = measureKey(policy.keyIterationCount());
+        if (keyDuration.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(hashDuration.get().plus(keyDuration.get()));
+    }
+
+    public static HashingPolicy loadPolicy(ConfigurationManager configuration) {
+        HashingPolicy defaults = HashingPolicy.ofDefaults();
+        if (configuration == null) {
+            return defaults;
+        }
+        return GlobalUtility.ifThrows(() -> {
+            return HashingPolicy.ofClamped(
+                    Integer.parseInt(configuration.get(HashingConstants.ITERATION_COUNT_PROPERTY).orElseThrow()),
+                    Integer.parseInt(configuration.get(HashingConstants.MEMORY_USAGE_PROPERTY).orElseThrow()),
+                    Integer.parseInt(configuration.get(HashingConstants.PARALLELISM_COUNT_PROPERTY).orElseThrow()),
+                    Integer.parseInt(configuration.get(HashingConstants.KEY_ITERATION_COUNT_PROPERTY).orElseThrow())
+            );
+        }, defaults);
+    }
+
+    public static boolean savePolicy(ConfigurationManager configuration, HashingPolicy policy) {
+        if (configuration == null || policy == null) {
+            return false;
+        }
+        return configuration.put(HashingConstants.ITERATION_COUNT_PROPERTY, String.valueOf(policy.iterationCount()))
+                && configuration.put(HashingConstants.MEMORY_USAGE_PROPERTY, String.valueOf(policy.memoryUsage()))
+                && configuration.put(HashingConstants.PARALLELISM_COUNT_PROPERTY, String.valueOf(policy.parallelismCount()))
+                && configuration.put(HashingConstants.KEY_ITERATION_COUNT_PROPERTY, String.valueOf(policy.keyIterationCount()));
+    }
+
+    private Optional<HashingPolicy> calibrateHash(Duration budget) {
+        int iterationCount = HashingConstants.MINIMUM_ITERATION_COUNT;
+        int maximumMemoryUsage = Math.clamp(
+                Runtime.getRuntime().maxMemory() / 4096,
+                HashingConstants.MINIMUM_MEMORY_USAGE,
+                HashingConstants.MAXIMUM_MEMORY_USAGE
+        );
+        HashingPolicy sample = HashingPolicy.of(iterationCount, HashingConstants.MINIMUM_MEMORY_USAGE, parallelismCount, 1);
+        Optional<Duration> elapsed = measureHash(sample);
+        if (elapsed.isEmpty()) {
+            return Optional.empty();
+        }
+        long memoryUsage = Math.round(HashingConstants.MINIMUM_MEMORY_USAGE * ratio(budget, elapsed.get()));
+        memoryUsage = Math.clamp(memoryUsage - memoryUsage % 1024, HashingConstants.MINIMUM_MEMORY_USAGE, maximumMemoryUsage);
+        if (memoryUsage == maximumMemoryUsage) {
+            sample = HashingPolicy.of(iterationCount, maximumMemoryUsage, parallelismCount, 1);
+            elapsed = measureHash(sample);
+            if (elapsed.isEmpty()) {
+                return Optional.empty();
+            }
+            iterationCount = Math.clamp(
+                    (long) Math.floor(iterationCount * ratio(budget, elapsed.get())),
+                    HashingConstants.MINIMUM_ITERATION_COUNT,
+                    HashingConstants.MAXIMUM_ITERATION_COUNT
+            );
+        }
+        return Optional.of(HashingPolicy.of(iterationCount, (int) memoryUsage, parallelismCount, 1));
+    }
+
+    private Optional<Integer> calibrateKey(Duration budget) {
+        Optional<Duration> elapsed = measureKey(SAMPLE_KEY_ITERATION_COUNT);
+        if (elapsed.isEmpty()) {
+            return Optional.empty();
+        }
+        long iterationCount = Math.round(SAMPLE_KEY_ITERATION_COUNT * ratio(budget, elapsed.get()));
+        return Optional.of(Math.clamp(
+                iterationCount - iterationCount % 10000,
+                HashingConstants.MINIMUM_KEY_ITERATION_COUNT,
+                HashingConstants.MAXIMUM_KEY_ITERATION_COUNT
+        ));
+    }
+
+    private Optional<Duration> measureHash(HashingPolicy policy) {
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < HashingConstants.CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            if (HashingUtility.hashPassword(SAMPLE_PASSWORD, policy).isEmpty()) {
+                LOGGER.warning("Error measuring password hashing with policy: " + policy);
+                return Optional.empty();
+            }
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return Optional.of(Duration.ofNanos(fastest));
+    }
+
+    private Optional<Duration> measureKey(int iterationCount) {
+        Optional<byte[]> salt = HashingUtility.generateSalt();
+        if (salt.isEmpty()) {
+            return Optional.empty();
+        }
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < HashingConstants.CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            if (KeyEncryptor.deriveKey(SAMPLE_PASSWORD, salt.get(), iterationCount).isEmpty()) {
+                LOGGER.warning("Error measuring key derivation with iteration count: " + iterationCount);
+                return Optional.empty();
+            }
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return Optional.of(Duration.ofNanos(fastest));
+    }
+
+    private static double ratio(Duration budget, Duration elapsed) {
+        return (double) budget.toNanos() / Math.max(1, elapsed.toNanos());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.asterexcrisys.acm.services.utility;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public class MatchPathVisitor extends SimpleFileVisitor<Path> {
+
+    private static final Logger LOGGER = Logger.getLogger(MatchPathVisitor.class.getName());
+
+    private final Path root;
+    private final PathMatcher matcher;
+    private final List<Path> matches;
+    private final List<Path> failures;
+
+    public MatchPathVisitor(Path root, PathMatcher matcher) throws NullPointerException {
+        this.root = Objects.requireNonNull(root);
+        this.matcher = Objects.requireNonNull(matcher);
+        matches = new ArrayList<>();
+        failures = new ArrayList<>();
+    }
+
+    public List<Path> getMatches() {
+        return Collections.unmodifiableList(matches);
+    }
+
+    public List<Path> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+        if (attributes.isRegularFile() && matcher.matches(root.relativize(file))) {
+            matches.add(file);
+        }
+        return FileVisitResult.CONTINUE;
+    }
+
+    public FileVisitResult visitFileFailed(Path file, IOException exception) {
+        LOGGER.warning("Error visiting path: " + exception.getMessage());
+        failures.add(file);
+        return FileVisitResult.CONTINUE;
+    }
+
+}
\ No newline at end of file
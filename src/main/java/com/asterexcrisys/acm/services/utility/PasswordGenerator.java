@@ -1,6 +1,6 @@
 package com.asterexcrisys.acm.services.utility;
 
-import java.security.NoSuchAlgorithmException;
+import com.asterexcrisys.acm.utility.RandomnessUtility;
 import java.security.SecureRandom;
 
 @SuppressWarnings("unused")
@@ -13,8 +13,8 @@ public class PasswordGenerator {
     private static final String SPECIAL_CHARACTERS = "-+.*^$;,!£%&=@#_<>";
     private final SecureRandom random;
 
-    public PasswordGenerator() throws NoSuchAlgorithmException {
-        random = SecureRandom.getInstanceStrong();
+    public PasswordGenerator() {
+        random = RandomnessUtility.getSecureRandom();
     }
 
     public PasswordGenerator(byte[] seed) {
@@ -0,0 +1,45 @@
+package com.asterexcrisys.acm.types.agent;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@SuppressWarnings("unused")
+public enum AgentOperation {
+
+    PING((byte) 0, 0),
+    UNLOCK((byte) 1, 2),
+    LOCK((byte) 2, 0),
+    GET_CREDENTIAL((byte) 3, 1),
+    ENCRYPT_TEXT((byte) 4, 2),
+    DECRYPT_TEXT((byte) 5, 2);
+
+    private final byte value;
+    private final int fieldCount;
+
+    AgentOperation(byte value, int fieldCount) {
+        this.value = value;
+        this.fieldCount = fieldCount;
+    }
+
+    public byte value() {
+        return value;
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    public static Optional<AgentOperation> fromValue(byte value) {
+        for (AgentOperation operation : AgentOperation.values()) {
+            if (operation.value() == value) {
+                return Optional.of(operation);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static String[] names() {
+        return Arrays.stream(values()).map(AgentOperation::name).toArray(String[]::new);
+    }
+
+}
\ No newline at end of file
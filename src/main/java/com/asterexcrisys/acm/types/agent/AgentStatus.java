@@ -0,0 +1,33 @@
+package com.asterexcrisys.acm.types.agent;
+
+import java.util.Optional;
+
+@SuppressWarnings("unused")
+public enum AgentStatus {
+
+    SUCCESS((byte) 0),
+    NOT_FOUND((byte) 1),
+    LOCKED((byte) 2),
+    INVALID((byte) 3),
+    FAILURE((byte) 4);
+
+    private final byte value;
+
+    AgentStatus(byte value) {
+        this.value = value;
+    }
+
+    public byte value() {
+        return value;
+    }
+
+    public static Optional<AgentStatus> fromValue(byte value) {
+        for (AgentStatus status : AgentStatus.values()) {
+            if (status.value() == value) {
+                return Optional.of(status);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.asterexcrisys.acm.types.api;
+
+@SuppressWarnings("unused")
+public record ApiResponse(int status, Object body) {
+
+    // All necessary methods are generated by default
+
+    public boolean hasBody() {
+        return body != null;
+    }
+
+    public boolean isError() {
+        return status >= 400;
+    }
+
+    public static ApiResponse of(int status) {
+        return new ApiResponse(status, null);
+    }
+
+    public static ApiResponse of(int status, Object body) {
+        return new ApiResponse(status, body);
+    }
+
+}
\ No newline at end of file
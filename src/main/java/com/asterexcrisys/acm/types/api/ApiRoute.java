@@ -0,0 +1,83 @@
+package com.asterexcrisys.acm.types.api;
+
+import com.asterexcrisys.acm.constants.ApiConstants;
+import java.util.Optional;
+
+@SuppressWarnings("unused")
+public enum ApiRoute {
+
+    CREATE_SESSION("POST", "sessions", false),
+    REMOVE_SESSION("DELETE", "sessions", true),
+    GET_METRICS("GET", "metrics", true),
+    GET_ALL_CREDENTIALS("GET", "credentials", true),
+    GET_CREDENTIAL("GET", "credentials/{platform}", true),
+    SET_CREDENTIAL("PUT", "credentials/{platform}", true),
+    REMOVE_CREDENTIAL("DELETE", "credentials/{platform}", true),
+    GET_ALL_TOKENS("GET", "tokens", true),
+    ADD_TOKEN("POST", "tokens/{identifier}", true),
+    REMOVE_TOKEN("DELETE", "tokens/{identifier}", true),
+    ENCRYPT_TEXT("POST", "tokens/{identifier}/encrypt", true),
+    DECRYPT_TEXT("POST", "tokens/{identifier}/decrypt", true);
+
+    private final String method;
+    private final String path;
+    private final String[] segments;
+    private final boolean requiresSession;
+
+    ApiRoute(String method, String path, boolean requiresSession) {
+        this.method = method;
+        this.path = ApiConstants.BASE_PATH + path;
+        this.segments = path.split("/");
+        this.requiresSession = requiresSession;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public boolean requiresSession() {
+        return requiresSession;
+    }
+
+    public boolean matches(String[] segments) {
+        if (segments == null || segments.length != this.segments.length) {
+            return false;
+        }
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].isEmpty()) {
+                return false;
+            }
+            if (!this.segments[i].startsWith("{") && !this.segments[i].equals(segments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String label() {
+        return method + " " + path;
+    }
+
+    public static boolean has(String[] segments) {
+        for (ApiRoute route : ApiRoute.values()) {
+            if (route.matches(segments)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Optional<ApiRoute> fromRequest(String method, String[] segments) {
+        for (ApiRoute route : ApiRoute.values()) {
+            if (route.method().equalsIgnoreCase(method) && route.matches(segments)) {
+                return Optional.of(route);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.asterexcrisys.acm.types.api;
+
+@SuppressWarnings("unused")
+public record RouteStatistics(String route, long requests, long errors, double meanLatency, long medianLatency, long tailLatency, long maximumLatency) {
+
+    // All necessary methods are generated by default
+
+    public double errorRate() {
+        if (requests == 0) {
+            return 0.0;
+        }
+        return (double) errors / requests;
+    }
+
+    public static RouteStatistics of(String route, long requests, long errors, double meanLatency, long medianLatency, long tailLatency, long maximumLatency) {
+        return new RouteStatistics(route, requests, errors, meanLatency, medianLatency, tailLatency, maximumLatency);
+    }
+
+}
\ No newline at end of file
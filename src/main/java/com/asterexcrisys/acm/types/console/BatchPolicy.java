@@ -0,0 +1,15 @@
+package com.asterexcrisys.acm.types.console;
+
+import java.util.Arrays;
+
+@SuppressWarnings("unused")
+public enum BatchPolicy {
+
+    FAIL_FAST,
+    CONTINUE;
+
+    public static String[] names() {
+        return Arrays.stream(values()).map(BatchPolicy::name).toArray(String[]::new);
+    }
+
+}
\ No newline at end of file
@@ -18,6 +18,10 @@ public sealed interface CommandType permits GenericNonInteractiveCommandType, Ge
 
     Validator[] argumentValidators();
 
+    default boolean isVariadic() {
+        return false;
+    }
+
     static boolean has(String command) {
         return false;
     }
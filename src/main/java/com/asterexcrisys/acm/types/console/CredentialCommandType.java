@@ -49,6 +49,27 @@ public enum CredentialCommandType implements CommandType {
             0,
             new Class[] {},
             new Validator[] {}
+    ),
+    GET_ARCHIVED(
+            "-gxc",
+            "--get-archived-credentials",
+            0,
+            new Class[] {},
+            new Validator[] {}
+    ),
+    RESTORE(
+            "-rsc",
+            "--restore-credential",
+            1,
+            new Class[] {String.class},
+            new Validator[] {new GenericValidator()}
+    ),
+    PURGE_ARCHIVED(
+            "-pxc",
+            "--purge-archived-credentials",
+            0,
+            new Class[] {},
+            new Validator[] {}
     );
 
     private final String shortName;
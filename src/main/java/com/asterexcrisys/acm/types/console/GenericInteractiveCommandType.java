@@ -1,6 +1,7 @@
 package com.asterexcrisys.acm.types.console;
 
 import com.asterexcrisys.acm.services.console.validators.GenericValidator;
+import com.asterexcrisys.acm.services.console.validators.GlobValidator;
 import com.asterexcrisys.acm.services.console.validators.IntegerNumberValidator;
 import com.asterexcrisys.acm.services.console.validators.PathValidator;
 import com.asterexcrisys.acm.services.console.validators.Validator;
@@ -35,14 +36,16 @@ public enum GenericInteractiveCommandType implements CommandType {
             "--encrypt-text",
             2,
             new Class[] {String.class, String.class},
-            new Validator[] {new GenericValidator(), new GenericValidator()}
+            new Validator[] {new GenericValidator(), new GenericValidator()},
+            true
     ),
     DECRYPT_TEXT(
             "-dt",
             "--decrypt-text",
             2,
             new Class[] {String.class, String.class},
-            new Validator[] {new GenericValidator(), new GenericValidator()}
+            new Validator[] {new GenericValidator(), new GenericValidator()},
+            true
     ),
     ENCRYPT_FILE(
             "-ef",
@@ -58,6 +61,20 @@ public enum GenericInteractiveCommandType implements CommandType {
             new Class[] {String.class, String.class},
             new Validator[] {new GenericValidator(), new PathValidator()}
     ),
+    ENCRYPT_DIRECTORY(
+            "-ed",
+            "--encrypt-directory",
+            3,
+            new Class[] {String.class, String.class, String.class},
+            new Validator[] {new GenericValidator(), new PathValidator(), new GlobValidator()}
+    ),
+    DECRYPT_DIRECTORY(
+            "-dd",
+            "--decrypt-directory",
+            3,
+            new Class[] {String.class, String.class, String.class},
+            new Validator[] {new GenericValidator(), new PathValidator(), new GlobValidator()}
+    ),
     QUIT_SHELL(
             "-qs",
             "--quit-shell",
@@ -78,13 +95,19 @@ public enum GenericInteractiveCommandType implements CommandType {
     private final int argumentCount;
     private final Class<?>[] argumentTypes;
     private final Validator[] argumentValidators;
+    private final boolean isVariadic;
 
     GenericInteractiveCommandType(String shortName, String longName, int argumentCount, Class<?>[] argumentTypes, Validator[] argumentValidators) {
+        this(shortName, longName, argumentCount, argumentTypes, argumentValidators, false);
+    }
+
+    GenericInteractiveCommandType(String shortName, String longName, int argumentCount, Class<?>[] argumentTypes, Validator[] argumentValidators, boolean isVariadic) {
         this.shortName = shortName;
         this.longName = longName;
         this.argumentCount = argumentCount;
         this.argumentTypes = argumentTypes;
         this.argumentValidators = argumentValidators;
+        this.isVariadic = isVariadic;
     }
 
     public boolean is(String command) {
@@ -111,6 +134,10 @@ public enum GenericInteractiveCommandType implements CommandType {
         return argumentValidators;
     }
 
+    public boolean isVariadic() {
+        return isVariadic;
+    }
+
     public static boolean has(String command) {
         return fromValue(command).isPresent();
     }
@@ -1,6 +1,7 @@
 package com.asterexcrisys.acm.types.console;
 
 import com.asterexcrisys.acm.services.console.validators.*;
+import com.asterexcrisys.acm.types.agent.AgentOperation;
 import com.asterexcrisys.acm.types.encryption.VaultType;
 import java.util.Optional;
 import java.util.Set;
@@ -49,6 +50,28 @@ public enum GenericNonInteractiveCommandType implements CommandType {
             1,
             new Class[] {String.class},
             new Validator[] {new PasswordValidator()}
+    ),
+    CALIBRATE_HASHING(
+            "-ch",
+            "--calibrate-hashing",
+            1,
+            new Class[] {Integer.class},
+            new Validator[] {new IntegerNumberValidator()}
+    ),
+    START_SERVER(
+            "-ss",
+            "--start-server",
+            1,
+            new Class[] {Integer.class},
+            new Validator[] {new IntegerNumberValidator()}
+    ),
+    QUERY_AGENT(
+            "-qa",
+            "--query-agent",
+            1,
+            new Class[] {String.class, String.class},
+            new Validator[] {new EnumerationValidator(Set.of(AgentOperation.names()), false), new GenericValidator()},
+            true
     );
 
     private final String shortName;
@@ -56,13 +79,19 @@ public enum GenericNonInteractiveCommandType implements CommandType {
     private final int argumentCount;
     private final Class<?>[] argumentTypes;
     private final Validator[] argumentValidators;
+    private final boolean isVariadic;
 
     GenericNonInteractiveCommandType(String shortName, String longName, int argumentCount, Class<?>[] argumentTypes, Validator[] argumentValidators) {
+        this(shortName, longName, argumentCount, argumentTypes, argumentValidators, false);
+    }
+
+    GenericNonInteractiveCommandType(String shortName, String longName, int argumentCount, Class<?>[] argumentTypes, Validator[] argumentValidators, boolean isVariadic) {
         this.shortName = shortName;
         this.longName = longName;
         this.argumentCount = argumentCount;
         this.argumentTypes = argumentTypes;
         this.argumentValidators = argumentValidators;
+        this.isVariadic = isVariadic;
     }
 
     public boolean is(String command) {
@@ -89,6 +118,10 @@ public enum GenericNonInteractiveCommandType implements CommandType {
         return argumentValidators;
     }
 
+    public boolean isVariadic() {
+        return isVariadic;
+    }
+
     public static boolean has(String command) {
         return fromValue(command).isPresent();
     }
@@ -48,6 +48,27 @@ public enum TokenCommandType implements CommandType {
             0,
             new Class[] {},
             new Validator[] {}
+    ),
+    GET_ARCHIVED(
+            "-gxt",
+            "--get-archived-tokens",
+            0,
+            new Class[] {},
+            new Validator[] {}
+    ),
+    RESTORE(
+            "-rst",
+            "--restore-token",
+            1,
+            new Class[] {String.class},
+            new Validator[] {new GenericValidator()}
+    ),
+    PURGE_ARCHIVED(
+            "-pxt",
+            "--purge-archived-tokens",
+            0,
+            new Class[] {},
+            new Validator[] {}
     );
 
     private final String shortName;
@@ -1,9 +1,13 @@
 package com.asterexcrisys.acm.types.console;
 
+import com.asterexcrisys.acm.services.console.validators.BindingValidator;
+import com.asterexcrisys.acm.services.console.validators.CommandValidator;
+import com.asterexcrisys.acm.services.console.validators.EnumerationValidator;
 import com.asterexcrisys.acm.services.console.validators.GenericValidator;
 import com.asterexcrisys.acm.services.console.validators.PasswordValidator;
 import com.asterexcrisys.acm.services.console.validators.Validator;
 import java.util.Optional;
+import java.util.Set;
 
 @SuppressWarnings("unused")
 public enum VaultCommandType implements CommandType {
@@ -29,12 +33,48 @@ public enum VaultCommandType implements CommandType {
             new Class[] {String.class, String.class},
             new Validator[] {new GenericValidator(), new PasswordValidator()}
     ),
+    SET(
+            "-sv",
+            "--set-vault",
+            3,
+            new Class[] {String.class, String.class, String.class},
+            new Validator[] {new GenericValidator(), new PasswordValidator(), new PasswordValidator()}
+    ),
     REMOVE(
             "-rv",
             "--remove-vault",
             2,
             new Class[] {String.class, String.class},
             new Validator[] {new GenericValidator(), new PasswordValidator()}
+    ),
+    START_AGENT(
+            "-sa",
+            "--start-agent",
+            2,
+            new Class[] {String.class, String.class},
+            new Validator[] {new GenericValidator(), new PasswordValidator()}
+    ),
+    RUN_BATCH(
+            "-rb",
+            "--run-batch",
+            4,
+            new Class[] {String.class, String.class, String.class, String.class},
+            new Validator[] {new GenericValidator(), new PasswordValidator(), new GenericValidator(), new EnumerationValidator(Set.of(BatchPolicy.names()), false)}
+    ),
+    EXECUTE_COMMAND(
+            "-ec",
+            "--exec-command",
+            4,
+            new Class[] {String.class, String.class, String.class, String.class},
+            new Validator[] {new GenericValidator(), new PasswordValidator(), new BindingValidator(), new CommandValidator()},
+            true
+    ),
+    RENDER_TEMPLATE(
+            "-rdt",
+            "--render-template",
+            4,
+            new Class[] {String.class, String.class, String.class, String.class},
+            new Validator[] {new GenericValidator(), new PasswordValidator(), new GenericValidator(), new GenericValidator()}
     );
 
     private final String shortName;
@@ -42,13 +82,19 @@ public enum VaultCommandType implements CommandType {
     private final int argumentCount;
     private final Class<?>[] argumentTypes;
     private final Validator[] argumentValidators;
+    private final boolean isVariadic;
 
     VaultCommandType(String shortName, String longName, int argumentCount, Class<?>[] argumentTypes, Validator[] argumentValidators) {
+        this(shortName, longName, argumentCount, argumentTypes, argumentValidators, false);
+    }
+
+    VaultCommandType(String shortName, String longName, int argumentCount, Class<?>[] argumentTypes, Validator[] argumentValidators, boolean isVariadic) {
         this.shortName = shortName;
         this.longName = longName;
         this.argumentCount = argumentCount;
         this.argumentTypes = argumentTypes;
         this.argumentValidators = argumentValidators;
+        this.isVariadic = isVariadic;
     }
 
     public boolean is(String command) {
@@ -75,6 +121,10 @@ public enum VaultCommandType implements CommandType {
         return argumentValidators;
     }
 
+    public boolean isVariadic() {
+        return isVariadic;
+    }
+
     public static boolean has(String command) {
         return fromValue(command).isPresent();
     }
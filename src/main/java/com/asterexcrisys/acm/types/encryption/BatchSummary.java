@@ -0,0 +1,42 @@
+package com.asterexcrisys.acm.types.encryption;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+@SuppressWarnings("unused")
+public record BatchSummary(int processed, int skipped, long bytes, Duration elapsed, List<Path> failures) {
+
+    public BatchSummary {
+        Objects.requireNonNull(elapsed);
+        failures = List.copyOf(Objects.requireNonNull(failures));
+    }
+
+    public int failed() {
+        return failures.size();
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    public double filesPerSecond() {
+        if (elapsed.isZero()) {
+            return 0.0;
+        }
+        return processed / (elapsed.toNanos() / 1e9);
+    }
+
+    public double bytesPerSecond() {
+        if (elapsed.isZero()) {
+            return 0.0;
+        }
+        return bytes / (elapsed.toNanos() / 1e9);
+    }
+
+    public static BatchSummary of(int processed, int skipped, long bytes, Duration elapsed, List<Path> failures) {
+        return new BatchSummary(processed, skipped, bytes, elapsed, failures);
+    }
+
+}
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.asterexcrisys.acm.types.encryption;
 
 import com.asterexcrisys.acm.exceptions.EncryptionException;
 import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -11,16 +13,16 @@ public class Credential {
 
     private final GenericEncryptor encryptor;
     private final String platform;
-    private final String username;
-    private final String password;
+    private final byte[] username;
+    private final byte[] password;
     private final Instant lastModification;
     private Instant expiration;
 
     public Credential(String platform, String username, String password) throws NullPointerException, EncryptionException {
         encryptor = new GenericEncryptor();
         this.platform = Objects.requireNonNull(platform);
-        this.username = encryptor.encrypt(Objects.requireNonNull(username)).orElseThrow(EncryptionException::new);
-        this.password = encryptor.encrypt(Objects.requireNonNull(password)).orElseThrow(EncryptionException::new);
+        this.username = encryptor.encryptRaw(Objects.requireNonNull(username).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
+        this.password = encryptor.encryptRaw(Objects.requireNonNull(password).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
         this.lastModification = Instant.now();
         expiration = null;
     }
@@ -28,8 +30,8 @@ public class Credential {
     public Credential(String platform, String username, String password, Instant lastModification) throws NullPointerException, EncryptionException {
         encryptor = new GenericEncryptor();
         this.platform = Objects.requireNonNull(platform);
-        this.username = encryptor.encrypt(Objects.requireNonNull(username)).orElseThrow(EncryptionException::new);
-        this.password = encryptor.encrypt(Objects.requireNonNull(password)).orElseThrow(EncryptionException::new);
+        this.username = encryptor.encryptRaw(Objects.requireNonNull(username).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
+        this.password = encryptor.encryptRaw(Objects.requireNonNull(password).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
         this.lastModification = Objects.requireNonNull(lastModification);
         expiration = null;
     }
@@ -37,8 +39,8 @@ public class Credential {
     public Credential(String platform, String username, String password, Instant lastModification, Instant expiration) throws NullPointerException, EncryptionException {
         encryptor = new GenericEncryptor();
         this.platform = Objects.requireNonNull(platform);
-        this.username = encryptor.encrypt(Objects.requireNonNull(username)).orElseThrow(EncryptionException::new);
-        this.password = encryptor.encrypt(Objects.requireNonNull(password)).orElseThrow(EncryptionException::new);
+        this.username = encryptor.encryptRaw(Objects.requireNonNull(username).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
+        this.password = encryptor.encryptRaw(Objects.requireNonNull(password).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
         this.lastModification = Objects.requireNonNull(lastModification);
         this.expiration = Objects.requireNonNull(expiration);
     }
@@ -47,11 +49,11 @@ public class Credential {
         encryptor = new GenericEncryptor(sealedKey);
         this.platform = Objects.requireNonNull(platform);
         if (isEncrypted) {
-            this.username = Objects.requireNonNull(username);
-            this.password = Objects.requireNonNull(password);
+            this.username = Base64.getDecoder().decode(Objects.requireNonNull(username));
+            this.password = Base64.getDecoder().decode(Objects.requireNonNull(password));
         } else {
-            this.username = encryptor.encrypt(Objects.requireNonNull(username)).orElseThrow(EncryptionException::new);
-            this.password = encryptor.encrypt(Objects.requireNonNull(password)).orElseThrow(EncryptionException::new);
+            this.username = encryptor.encryptRaw(Objects.requireNonNull(username).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
+            this.password = encryptor.encryptRaw(Objects.requireNonNull(password).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
         }
         this.lastModification = Instant.now();
         expiration = null;
@@ -61,11 +63,11 @@ public class Credential {
         encryptor = new GenericEncryptor(sealedKey);
         this.platform = Objects.requireNonNull(platform);
         if (isEncrypted) {
-            this.username = Objects.requireNonNull(username);
-            this.password = Objects.requireNonNull(password);
+            this.username = Base64.getDecoder().decode(Objects.requireNonNull(username));
+            this.password = Base64.getDecoder().decode(Objects.requireNonNull(password));
         } else {
-            this.username = encryptor.encrypt(Objects.requireNonNull(username)).orElseThrow(EncryptionException::new);
-            this.password = encryptor.encrypt(Objects.requireNonNull(password)).orElseThrow(EncryptionException::new);
+            this.username = encryptor.encryptRaw(Objects.requireNonNull(username).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
+            this.password = encryptor.encryptRaw(Objects.requireNonNull(password).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
         }
         this.lastModification = Objects.requireNonNull(lastModification);
         expiration = null;
@@ -75,16 +77,34 @@ public class Credential {
         encryptor = new GenericEncryptor(sealedKey);
         this.platform = Objects.requireNonNull(platform);
         if (isEncrypted) {
-            this.username = Objects.requireNonNull(username);
-            this.password = Objects.requireNonNull(password);
+            this.username = Base64.getDecoder().decode(Objects.requireNonNull(username));
+            this.password = Base64.getDecoder().decode(Objects.requireNonNull(password));
         } else {
-            this.username = encryptor.encrypt(Objects.requireNonNull(username)).orElseThrow(EncryptionException::new);
-            this.password = encryptor.encrypt(Objects.requireNonNull(password)).orElseThrow(EncryptionException::new);
+            this.username = encryptor.encryptRaw(Objects.requireNonNull(username).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
+            this.password = encryptor.encryptRaw(Objects.requireNonNull(password).getBytes(StandardCharsets.UTF_8)).orElseThrow(EncryptionException::new);
         }
         this.lastModification = Objects.requireNonNull(lastModification);
         this.expiration = Objects.requireNonNull(expiration);
     }
 
+    public Credential(String sealedKey, String platform, byte[] username, byte[] password, Instant lastModification) throws NullPointerException, EncryptionException {
+        encryptor = new GenericEncryptor(sealedKey);
+        this.platform = Objects.requireNonNull(platform);
+        this.username = Objects.requireNonNull(username).clone();
+        this.password = Objects.requireNonNull(password).clone();
+        this.lastModification = Objects.requireNonNull(lastModification);
+        expiration = null;
+    }
+
+    public Credential(GenericEncryptor encryptor, String platform, byte[] username, byte[] password, Instant lastModification) throws NullPointerException {
+        this.encryptor = Objects.requireNonNull(encryptor);
+        this.platform = Objects.requireNonNull(platform);
+        this.username = Objects.requireNonNull(username).clone();
+        this.password = Objects.requireNonNull(password).clone();
+        this.lastModification = Objects.requireNonNull(lastModification);
+        expiration = null;
+    }
+
     public GenericEncryptor getEncryptor() {
         return encryptor;
     }
@@ -94,19 +114,27 @@ public class Credential {
     }
 
     public String getEncryptedUsername() {
-        return username;
+        return Base64.getEncoder().encodeToString(username);
+    }
+
+    public byte[] getRawUsername() {
+        return username.clone();
     }
 
     public Optional<String> getDecryptedUsername() {
-        return encryptor.decrypt(username);
+        return encryptor.decryptRaw(username).map((result) -> new String(result, StandardCharsets.UTF_8));
     }
 
     public String getEncryptedPassword() {
-        return password;
+        return Base64.getEncoder().encodeToString(password);
+    }
+
+    public byte[] getRawPassword() {
+        return password.clone();
     }
 
     public Optional<String> getDecryptedPassword() {
-        return encryptor.decrypt(password);
+        return encryptor.decryptRaw(password).map((result) -> new String(result, StandardCharsets.UTF_8));
     }
 
     public Instant getLastModification() {
@@ -0,0 +1,44 @@
+package com.asterexcrisys.acm.types.encryption;
+
+import com.asterexcrisys.acm.constants.HashingConstants;
+
+@SuppressWarnings("unused")
+public record HashingPolicy(int iterationCount, int memoryUsage, int parallelismCount, int keyIterationCount) {
+
+    public HashingPolicy {
+        if (iterationCount < 1 || memoryUsage < 8 * parallelismCount || parallelismCount < 1 || keyIterationCount < 1) {
+            throw new IllegalArgumentException("Hashing parameters must be positive and memory must cover every lane");
+        }
+    }
+
+    public boolean isHashOutdated(int iterationCount, int memoryUsage) {
+        return iterationCount != this.iterationCount || memoryUsage != this.memoryUsage;
+    }
+
+    public boolean isKeyOutdated(int keyIterationCount) {
+        return keyIterationCount != this.keyIterationCount;
+    }
+
+    public static HashingPolicy of(int iterationCount, int memoryUsage, int parallelismCount, int keyIterationCount) {
+        return new HashingPolicy(iterationCount, memoryUsage, parallelismCount, keyIterationCount);
+    }
+
+    public static HashingPolicy ofClamped(int iterationCount, int memoryUsage, int parallelismCount, int keyIterationCount) {
+        return new HashingPolicy(
+                Math.clamp(iterationCount, HashingConstants.MINIMUM_ITERATION_COUNT, HashingConstants.MAXIMUM_ITERATION_COUNT),
+                Math.clamp(memoryUsage, HashingConstants.MINIMUM_MEMORY_USAGE, HashingConstants.MAXIMUM_MEMORY_USAGE),
+                Math.clamp(parallelismCount, 1, HashingConstants.MAXIMUM_PARALLELISM_COUNT),
+                Math.clamp(keyIterationCount, HashingConstants.MINIMUM_KEY_ITERATION_COUNT, HashingConstants.MAXIMUM_KEY_ITERATION_COUNT)
+        );
+    }
+
+    public static HashingPolicy ofDefaults() {
+        return new HashingPolicy(
+                HashingConstants.ITERATION_COUNT,
+                HashingConstants.MEMORY_USAGE,
+                HashingConstants.PARALLELISM_COUNT,
+                HashingConstants.KEY_ITERATION_COUNT
+        );
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.asterexcrisys.acm.types.encryption;
+
+import com.asterexcrisys.acm.constants.EncryptionConstants;
+import com.asterexcrisys.acm.utility.RandomnessUtility;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+@SuppressWarnings("unused")
+public record SegmentHeader(int version, int segmentSize, byte[] context) {
+
+    public SegmentHeader {
+        if (getHeaderSize(version) < 0) {
+            throw new IllegalArgumentException("Unsupported segment format version: " + version);
+        }
+        if (segmentSize < EncryptionConstants.MINIMUM_SEGMENT_SIZE || segmentSize > EncryptionConstants.MAXIMUM_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size out of range: " + segmentSize);
+        }
+        if (Objects.requireNonNull(context).length != getHeaderSize(version) - EncryptionConstants.SEGMENT_PREAMBLE_SIZE) {
+            throw new IllegalArgumentException("Context must be " + (getHeaderSize(version) - EncryptionConstants.SEGMENT_PREAMBLE_SIZE) + " bytes long");
+        }
+        context = context.clone();
+    }
+
+    public byte[] context() {
+        return context.clone();
+    }
+
+    public boolean isLegacy() {
+        return version == EncryptionConstants.LEGACY_SEGMENT_VERSION;
+    }
+
+    public int getSize() {
+        return getHeaderSize(version);
+    }
+
+    public int getEncryptedSegmentSize() {
+        return Integer.BYTES + segmentSize + EncryptionConstants.AUTHENTICATION_TAG_SIZE / Byte.SIZE;
+    }
+
+    public byte[] getNonce(long index, boolean isLast) throws IllegalArgumentException {
+        if (index < 0 || index >= EncryptionConstants.MAXIMUM_SEGMENT_COUNT) {
+            throw new IllegalArgumentException("Segment index out of range: " + index);
+        }
+        ByteBuffer nonce = ByteBuffer.allocate(EncryptionConstants.INITIALIZATION_VECTOR_SIZE);
+        if (isLegacy()) {
+            nonce.put(context);
+        } else {
+            nonce.position(EncryptionConstants.SEGMENT_NONCE_PREFIX_SIZE);
+        }
+        return nonce.putInt((int) index).put(isLast? (byte) 1:(byte) 0).array();
+    }
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(getSize())
+                .putInt(EncryptionConstants.SEGMENT_MAGIC)
+                .put((byte) version)
+                .putInt(segmentSize)
+                .put(context)
+                .array();
+    }
+
+    public static SegmentHeader of(int segmentSize) throws IllegalArgumentException {
+        byte[] context = new byte[EncryptionConstants.DERIVATION_CONTEXT_SIZE];
+        RandomnessUtility.nextBytes(context);
+        return new SegmentHeader(EncryptionConstants.SEGMENT_VERSION, segmentSize, context);
+    }
+
+    public static int getHeaderSize(int version) {
+        return switch (version) {
+            case EncryptionConstants.SEGMENT_VERSION -> EncryptionConstants.SEGMENT_HEADER_SIZE;
+            case EncryptionConstants.LEGACY_SEGMENT_VERSION -> EncryptionConstants.LEGACY_SEGMENT_HEADER_SIZE;
+            default -> -1;
+        };
+    }
+
+    public static int getHeaderSize(byte[] preamble) {
+        if (preamble == null || preamble.length < EncryptionConstants.SEGMENT_PREAMBLE_SIZE) {
+            return -1;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(preamble);
+        if (buffer.getInt() != EncryptionConstants.SEGMENT_MAGIC) {
+            return -1;
+        }
+        return getHeaderSize(Byte.toUnsignedInt(buffer.get()));
+    }
+
+    public static Optional<SegmentHeader> parse(byte[] header) {
+        if (header == null || getHeaderSize(header) != header.length) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(header);
+        buffer.getInt();
+        int version = Byte.toUnsignedInt(buffer.get());
+        int segmentSize = buffer.getInt();
+        byte[] context = new byte[buffer.remaining()];
+        buffer.get(context);
+        try {
+            return Optional.of(new SegmentHeader(version, segmentSize, context));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+}
\ No newline at end of file
@@ -56,6 +56,13 @@ public class Token {
         this.expiration = Objects.requireNonNull(expiration);
     }
 
+    public Token(String identifier, GenericEncryptor encryptor, Instant lastModification) throws NullPointerException {
+        this.identifier = Objects.requireNonNull(identifier);
+        this.encryptor = Objects.requireNonNull(encryptor);
+        this.lastModification = Objects.requireNonNull(lastModification);
+        expiration = null;
+    }
+
     public String getIdentifier() {
         return identifier;
     }
@@ -4,59 +4,79 @@ import com.asterexcrisys.acm.exceptions.DerivationException;
 import com.asterexcrisys.acm.exceptions.HashingException;
 import com.asterexcrisys.acm.utility.HashingUtility;
 import com.asterexcrisys.acm.services.encryption.KeyEncryptor;
+import com.asterexcrisys.acm.services.encryption.KeyMaterial;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
 
 @SuppressWarnings("unused")
 public class Vault {
 
+    private final KeyMaterial material;
     private final KeyEncryptor encryptor;
     private final String name;
     private final String password;
     private boolean isLocked;
 
     public Vault(String name, String password) throws NullPointerException, HashingException, DerivationException, NoSuchAlgorithmException {
-        encryptor = new KeyEncryptor(password);
+        material = new KeyMaterial(Objects.requireNonNull(password));
+        encryptor = new KeyEncryptor(material);
         this.name = Objects.requireNonNull(name);
         this.password = HashingUtility.hashPassword(Objects.requireNonNull(password)).orElseThrow(HashingException::new);
         isLocked = false;
     }
 
     public Vault(String name, String password, boolean isLocked) throws NullPointerException, HashingException, DerivationException, NoSuchAlgorithmException {
-        encryptor = new KeyEncryptor(password);
+        material = new KeyMaterial(Objects.requireNonNull(password));
+        encryptor = new KeyEncryptor(material);
         this.name = Objects.requireNonNull(name);
         this.password = HashingUtility.hashPassword(Objects.requireNonNull(password)).orElseThrow(HashingException::new);
         this.isLocked = isLocked;
     }
 
     public Vault(String sealedSalt, String name, String password) throws DerivationException, HashingException, NoSuchAlgorithmException {
-        encryptor = new KeyEncryptor(password, sealedSalt);
+        material = new KeyMaterial(password, sealedSalt);
+        encryptor = new KeyEncryptor(material);
         this.name = Objects.requireNonNull(name);
         this.password = HashingUtility.hashPassword(Objects.requireNonNull(password)).orElseThrow(HashingException::new);
         isLocked = false;
     }
 
     public Vault(String sealedSalt, String name, String password, boolean isLocked) throws DerivationException, HashingException {
-        encryptor = new KeyEncryptor(password, sealedSalt);
+        material = new KeyMaterial(password, sealedSalt);
+        encryptor = new KeyEncryptor(material);
         this.name = Objects.requireNonNull(name);
         this.password = HashingUtility.hashPassword(Objects.requireNonNull(password)).orElseThrow(HashingException::new);
         this.isLocked = isLocked;
     }
 
     public Vault(String sealedSalt, String hashedPassword, String name, String password) throws DerivationException {
-        encryptor = new KeyEncryptor(password, sealedSalt);
+        material = new KeyMaterial(password, sealedSalt);
+        encryptor = new KeyEncryptor(material);
         this.name = Objects.requireNonNull(name);
         this.password = Objects.requireNonNull(hashedPassword);
         isLocked = false;
     }
 
     public Vault(String sealedSalt, String hashedPassword, String name, String password, boolean isLocked) throws DerivationException, HashingException, NoSuchAlgorithmException {
-        encryptor = new KeyEncryptor(password, sealedSalt);
+        material = new KeyMaterial(password, sealedSalt);
+        encryptor = new KeyEncryptor(material);
         this.name = Objects.requireNonNull(name);
         this.password = Objects.requireNonNull(hashedPassword);
         this.isLocked = isLocked;
     }
 
+    public Vault(KeyMaterial material, String hashedPassword, String name, boolean isLocked) throws NullPointerException, DerivationException {
+        this.material = Objects.requireNonNull(material);
+        encryptor = new KeyEncryptor(material);
+        this.name = Objects.requireNonNull(name);
+        this.password = Objects.requireNonNull(hashedPassword);
+        this.isLocked = isLocked;
+    }
+
+    public KeyMaterial getKeyMaterial() {
+        return material;
+    }
+
     public KeyEncryptor getEncryptor() {
         return encryptor;
     }
@@ -0,0 +1,24 @@
+package com.asterexcrisys.acm.types.injection;
+
+import java.util.Optional;
+
+@SuppressWarnings("unused")
+public enum SecretField {
+
+    USERNAME,
+    PASSWORD,
+    TOKEN;
+
+    public static Optional<SecretField> fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        for (SecretField field : SecretField.values()) {
+            if (field != TOKEN && field.name().equalsIgnoreCase(value)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.asterexcrisys.acm.types.injection;
+
+import com.asterexcrisys.acm.constants.InjectionConstants;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@SuppressWarnings("unused")
+public record SecretReference(String name, SecretField field) {
+
+    public SecretReference {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(field);
+    }
+
+    public boolean isToken() {
+        return field == SecretField.TOKEN;
+    }
+
+    public String value() {
+        if (isToken()) {
+            return name;
+        }
+        return name + InjectionConstants.REFERENCE_SEPARATOR + field.name().toLowerCase();
+    }
+
+    public static Optional<SecretReference> parse(String reference) {
+        if (reference == null || reference.isBlank() || !reference.strip().equals(reference)) {
+            return Optional.empty();
+        }
+        int separator = reference.lastIndexOf(InjectionConstants.REFERENCE_SEPARATOR);
+        if (separator > 0) {
+            Optional<SecretField> field = SecretField.fromValue(reference.substring(separator + 1));
+            if (field.isPresent()) {
+                return Optional.of(new SecretReference(reference.substring(0, separator), field.get()));
+            }
+        }
+        return Optional.of(new SecretReference(reference, SecretField.TOKEN));
+    }
+
+    public static Optional<Map<String, SecretReference>> parseBindings(String bindings) {
+        if (bindings == null || bindings.isBlank()) {
+            return Optional.empty();
+        }
+        Map<String, SecretReference> references = new LinkedHashMap<>();
+        for (String binding : bindings.split(InjectionConstants.BINDING_SEPARATOR, -1)) {
+            int separator = binding.indexOf(InjectionConstants.ASSIGNMENT_SEPARATOR);
+            if (separator < 1) {
+                return Optional.empty();
+            }
+            String name = binding.substring(0, separator);
+            Optional<SecretReference> reference = parse(binding.substring(separator + 1));
+            if (!name.matches(InjectionConstants.NAME_PATTERN) || reference.isEmpty() || references.putIfAbsent(name, reference.get()) != null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(references);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.asterexcrisys.acm.types.persistence;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Optional;
+
+@SuppressWarnings("unused")
+public record EntryMetadata(String identifier, Instant lastModification, Instant expiration) {
+
+    // All necessary methods are generated by default
+
+    public EntryMetadata {
+        Objects.requireNonNull(identifier);
+        Objects.requireNonNull(lastModification);
+    }
+
+    public Optional<Instant> getExpiration() {
+        return Optional.ofNullable(expiration);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiration != null && !now.isBefore(expiration);
+    }
+
+    public static EntryMetadata of(String identifier, Instant lastModification, Instant expiration) {
+        return new EntryMetadata(
+                identifier,
+                lastModification.truncatedTo(ChronoUnit.MILLIS),
+                expiration == null? null:expiration.truncatedTo(ChronoUnit.MILLIS)
+        );
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.asterexcrisys.acm.types.utility;
+
+@SuppressWarnings("unused")
+public record CacheStatistics(long hits, long misses, long evictions, int size) {
+
+    // All necessary methods are generated by default
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        long requests = requests();
+        if (requests == 0) {
+            return 0.0;
+        }
+        return (double) hits / requests;
+    }
+
+    public static CacheStatistics of(long hits, long misses, long evictions, int size) {
+        return new CacheStatistics(hits, misses, evictions, size);
+    }
+
+}
\ No newline at end of file
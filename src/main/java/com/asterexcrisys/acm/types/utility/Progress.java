@@ -0,0 +1,23 @@
+package com.asterexcrisys.acm.types.utility;
+
+@SuppressWarnings("unused")
+public record Progress(String task, long completed, long total) {
+
+    // All necessary methods are generated by default
+
+    public double percentage() {
+        if (total < 1) {
+            return 100.0;
+        }
+        return (completed * 100.0) / total;
+    }
+
+    public boolean isDone() {
+        return completed >= total;
+    }
+
+    public static Progress of(String task, long completed, long total) {
+        return new Progress(task, completed, total);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,300 @@
+package com.asterexcrisys.acm.utility;
+
+import org.bouncycastle.crypto.digests.Blake2bDigest;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+@SuppressWarnings("unused")
+public final class Argon2Utility {
+
+    private static final int BLOCK_SIZE = 128;
+    private static final int SYNC_POINTS = 4;
+    private static final int PREHASH_DIGEST_SIZE = 64;
+    private static final int MINIMUM_OUTPUT_SIZE = 4;
+
+    private Argon2Utility() {
+        // This class should not be instantiable
+    }
+
+    public static Optional<byte[]> generate(Argon2Parameters parameters, byte[] password, int length) {
+        if (parameters == null || password == null || length < MINIMUM_OUTPUT_SIZE) {
+            return Optional.empty();
+        }
+        int lanes = parameters.getLanes();
+        if (lanes < 1 || parameters.getIterations() < 1 || parameters.getMemory() < 2 * SYNC_POINTS * lanes) {
+            return Optional.empty();
+        }
+        int segmentLength = parameters.getMemory() / (SYNC_POINTS * lanes);
+        Context context = new Context(
+                parameters.getType(),
+                parameters.getVersion(),
+                parameters.getIterations(),
+                lanes,
+                segmentLength * SYNC_POINTS,
+                segmentLength,
+                new long[lanes * segmentLength * SYNC_POINTS * BLOCK_SIZE]
+        );
+        try {
+            initialize(context, parameters, password, length);
+            for (int pass = 0; pass < context.iterations(); pass++) {
+                for (int slice = 0; slice < SYNC_POINTS; slice++) {
+                    fillSlice(context, pass, slice);
+                }
+            }
+            return Optional.of(computeTag(context, length));
+        } finally {
+            Arrays.fill(context.memory(), 0L);
+        }
+    }
+
+    private static void initialize(Context context, Argon2Parameters parameters, byte[] password, int length) {
+        Blake2bDigest digest = new Blake2bDigest(PREHASH_DIGEST_SIZE * 8);
+        update(digest, context.lanes());
+        update(digest, length);
+        update(digest, parameters.getMemory());
+        update(digest, context.iterations());
+        update(digest, context.version());
+        update(digest, context.type());
+        update(digest, password);
+        update(digest, parameters.getSalt());
+        update(digest, parameters.getSecret());
+        update(digest, parameters.getAdditional());
+        byte[] initialHash = new byte[PREHASH_DIGEST_SIZE + 8];
+        digest.doFinal(initialHash, 0);
+        ByteBuffer suffix = ByteBuffer.wrap(initialHash, PREHASH_DIGEST_SIZE, 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (int lane = 0; lane < context.lanes(); lane++) {
+            for (int block = 0; block < 2; block++) {
+                suffix.putInt(PREHASH_DIGEST_SIZE, block);
+                suffix.putInt(PREHASH_DIGEST_SIZE + 4, lane);
+                byte[] blockBytes = hash(initialHash, BLOCK_SIZE * 8);
+                ByteBuffer.wrap(blockBytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(
+                        context.memory(),
+                        (lane * context.laneLength() + block) * BLOCK_SIZE,
+                        BLOCK_SIZE
+                );
+                Arrays.fill(blockBytes, (byte) 0);
+            }
+        }
+        Arrays.fill(initialHash, (byte) 0);
+    }
+
+    private static void fillSlice(Context context, int pass, int slice) {
+        if (context.lanes() == 1) {
+            fillSegment(context, pass, 0, slice);
+            return;
+        }
+        IntStream.range(0, context.lanes()).parallel().forEach((lane) -> {
+            fillSegment(context, pass, lane, slice);
+        });
+    }
+
+    private static void fillSegment(Context context, int pass, int lane, int slice) {
+        long[] memory = context.memory();
+        long[] state = new long[BLOCK_SIZE];
+        long[] buffer = new long[BLOCK_SIZE];
+        boolean isDataIndependent = context.type() == Argon2Parameters.ARGON2_i
+                || (context.type() == Argon2Parameters.ARGON2_id && pass == 0 && slice < SYNC_POINTS / 2);
+        long[] zeroBlock = null;
+        long[] inputBlock = null;
+        long[] addressBlock = null;
+        if (isDataIndependent) {
+            zeroBlock = new long[BLOCK_SIZE];
+            inputBlock = new long[BLOCK_SIZE];
+            addressBlock = new long[BLOCK_SIZE];
+            inputBlock[0] = pass;
+            inputBlock[1] = lane;
+            inputBlock[2] = slice;
+            inputBlock[3] = (long) context.lanes() * context.laneLength();
+            inputBlock[4] = context.iterations();
+            inputBlock[5] = context.type();
+        }
+        int startingIndex = 0;
+        if (pass == 0 && slice == 0) {
+            startingIndex = 2;
+            if (isDataIndependent) {
+                nextAddresses(zeroBlock, inputBlock, addressBlock, state, buffer);
+            }
+        }
+        int currentOffset = lane * context.laneLength() + slice * context.segmentLength() + startingIndex;
+        int previousOffset = currentOffset % context.laneLength() == 0? currentOffset + context.laneLength() - 1:currentOffset - 1;
+        boolean withXor = pass != 0 && context.version() != Argon2Parameters.ARGON2_VERSION_10;
+        for (int index = startingIndex; index < context.segmentLength(); index++, currentOffset++, previousOffset++) {
+            if (currentOffset % context.laneLength() == 1) {
+                previousOffset = currentOffset - 1;
+            }
+            long pseudoRandom;
+            if (isDataIndependent) {
+                if (index % BLOCK_SIZE == 0) {
+                    nextAddresses(zeroBlock, inputBlock, addressBlock, state, buffer);
+                }
+                pseudoRandom = addressBlock[index % BLOCK_SIZE];
+            } else {
+                pseudoRandom = memory[previousOffset * BLOCK_SIZE];
+            }
+            int referenceLane = pass == 0 && slice == 0? lane:(int) ((pseudoRandom >>> 32) % context.lanes());
+            int referenceIndex = computeReferenceIndex(context, pass, slice, index, pseudoRandom, referenceLane == lane);
+            fillBlock(
+                    memory, previousOffset * BLOCK_SIZE,
+                    memory, (referenceLane * context.laneLength() + referenceIndex) * BLOCK_SIZE,
+                    memory, currentOffset * BLOCK_SIZE,
+                    withXor,
+                    state,
+                    buffer
+            );
+        }
+    }
+
+    private static int computeReferenceIndex(Context context, int pass, int slice, int index, long pseudoRandom, boolean isSameLane) {
+        long areaSize;
+        if (pass == 0) {
+            if (slice == 0) {
+                areaSize = index - 1;
+            } else if (isSameLane) {
+                areaSize = (long) slice * context.segmentLength() + index - 1;
+            } else {
+                areaSize = (long) slice * context.segmentLength() + (index == 0? -1:0);
+            }
+        } else if (isSameLane) {
+            areaSize = context.laneLength() - context.segmentLength() + index - 1;
+        } else {
+            areaSize = context.laneLength() - context.segmentLength() + (index == 0? -1:0);
+        }
+        long relativePosition = pseudoRandom & 0xFFFFFFFFL;
+        relativePosition = (relativePosition * relativePosition) >>> 32;
+        relativePosition = areaSize - 1 - ((areaSize * relativePosition) >>> 32);
+        long startPosition = pass != 0 && slice != SYNC_POINTS - 1? (long) (slice + 1) * context.segmentLength():0;
+        return (int) ((startPosition + relativePosition) % context.laneLength());
+    }
+
+    private static void nextAddresses(long[] zeroBlock, long[] inputBlock, long[] addressBlock, long[] state, long[] buffer) {
+        inputBlock[6]++;
+        fillBlock(zeroBlock, 0, inputBlock, 0, addressBlock, 0, false, state, buffer);
+        fillBlock(zeroBlock, 0, addressBlock, 0, addressBlock, 0, false, state, buffer);
+    }
+
+    private static void fillBlock(long[] previous, int previousOffset, long[] reference, int referenceOffset, long[] next, int nextOffset, boolean withXor, long[] state, long[] buffer) {
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            state[i] = previous[previousOffset + i] ^ reference[referenceOffset + i];
+            buffer[i] = withXor? state[i] ^ next[nextOffset + i]:state[i];
+        }
+        for (int i = 0; i < 8; i++) {
+            int row = 16 * i;
+            permute(
+                    state,
+                    row, row + 1, row + 2, row + 3, row + 4, row + 5, row + 6, row + 7,
+                    row + 8, row + 9, row + 10, row + 11, row + 12, row + 13, row + 14, row + 15
+            );
+        }
+        for (int i = 0; i < 8; i++) {
+            int column = 2 * i;
+            permute(
+                    state,
+                    column, column + 1, column + 16, column + 17, column + 32, column + 33, column + 48, column + 49,
+                    column + 64, column + 65, column + 80, column + 81, column + 96, column + 97, column + 112, column + 113
+            );
+        }
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            next[nextOffset + i] = buffer[i] ^ state[i];
+        }
+    }
+
+    private static void permute(long[] v, int v0, int v1, int v2, int v3, int v4, int v5, int v6, int v7, int v8, int v9, int v10, int v11, int v12, int v13, int v14, int v15) {
+        mix(v, v0, v4, v8, v12);
+        mix(v, v1, v5, v9, v13);
+        mix(v, v2, v6, v10, v14);
+        mix(v, v3, v7, v11, v15);
+        mix(v, v0, v5, v10, v15);
+        mix(v, v1, v6, v11, v12);
+        mix(v, v2, v7, v8, v13);
+        mix(v, v3, v4, v9, v14);
+    }
+
+    private static void mix(long[] v, int a, int b, int c, int d) {
+        v[a] = multiplyAdd(v[a], v[b]);
+        v[d] = Long.rotateRight(v[d] ^ v[a], 32);
+        v[c] = multiplyAdd(v[c], v[d]);
+        v[b] = Long.rotateRight(v[b] ^ v[c], 24);
+        v[a] = multiplyAdd(v[a], v[b]);
+        v[d] = Long.rotateRight(v[d] ^ v[a], 16);
+        v[c] = multiplyAdd(v[c], v[d]);
+        v[b] = Long.rotateRight(v[b] ^ v[c], 63);
+    }
+
+    private static long multiplyAdd(long x, long y) {
+        return x + y + 2 * (x & 0xFFFFFFFFL) * (y & 0xFFFFFFFFL);
+    }
+
+    private static byte[] computeTag(Context context, int length) {
+        long[] memory = context.memory();
+        long[] finalBlock = new long[BLOCK_SIZE];
+        for (int lane = 0; lane < context.lanes(); lane++) {
+            int offset = (lane * context.laneLength() + context.laneLength() - 1) * BLOCK_SIZE;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                finalBlock[i] ^= memory[offset + i];
+            }
+        }
+        byte[] finalBytes = new byte[BLOCK_SIZE * 8];
+        ByteBuffer.wrap(finalBytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().put(finalBlock);
+        try {
+            return hash(finalBytes, length);
+        } finally {
+            Arrays.fill(finalBlock, 0L);
+            Arrays.fill(finalBytes, (byte) 0);
+        }
+    }
+
+    private static byte[] hash(byte[] input, int length) {
+        byte[] output = new byte[length];
+        byte[] prefix = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(length).array();
+        if (length <= PREHASH_DIGEST_SIZE) {
+            Blake2bDigest digest = new Blake2bDigest(length * 8);
+            digest.update(prefix, 0, prefix.length);
+            digest.update(input, 0, input.length);
+            digest.doFinal(output, 0);
+            return output;
+        }
+        Blake2bDigest digest = new Blake2bDigest(PREHASH_DIGEST_SIZE * 8);
+        byte[] value = new byte[PREHASH_DIGEST_SIZE];
+        digest.update(prefix, 0, prefix.length);
+        digest.update(input, 0, input.length);
+        digest.doFinal(value, 0);
+        System.arraycopy(value, 0, output, 0, PREHASH_DIGEST_SIZE / 2);
+        int rounds = (length + 31) / 32 - 2;
+        int position = PREHASH_DIGEST_SIZE / 2;
+        for (int i = 2; i <= rounds; i++, position += PREHASH_DIGEST_SIZE / 2) {
+            digest.update(value, 0, value.length);
+            digest.doFinal(value, 0);
+            System.arraycopy(value, 0, output, position, PREHASH_DIGEST_SIZE / 2);
+        }
+        Blake2bDigest lastDigest = new Blake2bDigest((length - position) * 8);
+        lastDigest.update(value, 0, value.length);
+        lastDigest.doFinal(output, position);
+        Arrays.fill(value, (byte) 0);
+        return output;
+    }
+
+    private static void update(Blake2bDigest digest, int value) {
+        byte[] bytes = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+        digest.update(bytes, 0, bytes.length);
+    }
+
+    private static void update(Blake2bDigest digest, byte[] value) {
+        if (value == null) {
+            update(digest, 0);
+            return;
+        }
+        update(digest, value.length);
+        digest.update(value, 0, value.length);
+    }
+
+    private record Context(int type, int version, int iterations, int lanes, int laneLength, int segmentLength, long[] memory) {
+
+        // All necessary methods are generated by default
+
+    }
+
+}
\ No newline at end of file
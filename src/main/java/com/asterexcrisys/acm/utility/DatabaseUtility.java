@@ -1,6 +1,8 @@
 package com.asterexcrisys.acm.utility;
 
 import com.asterexcrisys.acm.constants.HashingConstants;
+import com.asterexcrisys.acm.constants.PersistenceConstants;
+import com.asterexcrisys.acm.types.utility.Pair;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.file.Files;
@@ -19,6 +21,13 @@ public final class DatabaseUtility {
         // This class should not be instantiable
     }
 
+    public static String toEpochMillis(String column) {
+        return String.format(
+                "CASE TYPEOF(%1$s) WHEN 'text' THEN CAST(ROUND((JULIANDAY(%1$s) - 2440587.5) * 86400000) AS INTEGER) ELSE %1$s END",
+                column
+        );
+    }
+
     public static boolean backupTo(Path databaseFile, Path backupFile) {
         if (!PathUtility.isFileInDirectory(Paths.get("./data/"), databaseFile)) {
             return false;
@@ -64,15 +73,21 @@ public final class DatabaseUtility {
     }
 
     public static boolean constructExport(Path file, byte[] salt) {
+        return constructExport(file, salt, HashingConstants.KEY_ITERATION_COUNT);
+    }
+
+    public static boolean constructExport(Path file, byte[] salt, int iterationCount) {
         if (file == null || !Files.exists(file) || !Files.isRegularFile(file) || !Files.isWritable(file)) {
             return false;
         }
-        if (salt == null || salt.length != HashingConstants.SALT_SIZE) {
+        if (salt == null || salt.length != HashingConstants.SALT_SIZE || iterationCount < 1) {
             return false;
         }
         try (RandomAccessFile accessor = new RandomAccessFile(file.toAbsolutePath().toString(), "rwd")) {
             accessor.seek(accessor.length());
             accessor.write(salt);
+            accessor.writeInt(iterationCount);
+            accessor.writeInt(PersistenceConstants.EXPORT_SIGNATURE);
             return true;
         } catch (IOException e) {
             LOGGER.warning("Error constructing database export: " + e.getMessage());
@@ -80,16 +95,33 @@ public final class DatabaseUtility {
         }
     }
 
-    public static Optional<byte[]> deconstructImport(Path file) {
+    public static Optional<Pair<byte[], Integer>> deconstructImport(Path file) {
         if (file == null || !Files.exists(file) || !Files.isRegularFile(file) || !Files.isReadable(file)) {
             return Optional.empty();
         }
         try (RandomAccessFile accessor = new RandomAccessFile(file.toAbsolutePath().toString(), "rwd")) {
-            accessor.seek(accessor.length() - HashingConstants.SALT_SIZE);
+            long length = accessor.length();
+            if (length < HashingConstants.SALT_SIZE) {
+                return Optional.empty();
+            }
+            int iterationCount = HashingConstants.KEY_ITERATION_COUNT;
+            int trailerSize = HashingConstants.SALT_SIZE;
+            if (length >= HashingConstants.SALT_SIZE + 8) {
+                accessor.seek(length - 4);
+                if (accessor.readInt() == PersistenceConstants.EXPORT_SIGNATURE) {
+                    accessor.seek(length - 8);
+                    iterationCount = accessor.readInt();
+                    trailerSize += 8;
+                }
+            }
+            if (iterationCount < 1) {
+                return Optional.empty();
+            }
+            accessor.seek(length - trailerSize);
             byte[] salt = new byte[HashingConstants.SALT_SIZE];
-            accessor.read(salt);
-            accessor.setLength(accessor.length() - HashingConstants.SALT_SIZE);
-            return Optional.of(salt);
+            accessor.readFully(salt);
+            accessor.setLength(length - trailerSize);
+            return Optional.of(Pair.of(salt, iterationCount));
         } catch (IOException e) {
             LOGGER.warning("Error deconstructing database import: " + e.getMessage());
             return Optional.empty();
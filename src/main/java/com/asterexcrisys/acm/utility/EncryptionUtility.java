@@ -1,13 +1,12 @@
 package com.asterexcrisys.acm.utility;
 
-import com.asterexcrisys.acm.constants.EncryptionConstants;
+import com.asterexcrisys.acm.constants.HashingConstants;
 import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
 import com.asterexcrisys.acm.services.encryption.KeyEncryptor;
+import com.asterexcrisys.acm.services.encryption.SegmentedEncryptor;
 import com.asterexcrisys.acm.types.encryption.CipherMode;
 import javax.crypto.SecretKey;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.*;
 import java.util.Arrays;
 import java.util.Base64;
@@ -45,7 +44,11 @@ public final class EncryptionUtility {
     }
 
     public static Optional<String> deriveKey(String password, byte[] salt) {
-        Optional<SecretKey> key = KeyEncryptor.deriveKey(password, salt);
+        return deriveKey(password, salt, HashingConstants.KEY_ITERATION_COUNT);
+    }
+
+    public static Optional<String> deriveKey(String password, byte[] salt, int iterationCount) {
+        Optional<SecretKey> key = KeyEncryptor.deriveKey(password, salt, iterationCount);
         if (key.isEmpty()) {
             return Optional.empty();
         }
@@ -62,29 +65,21 @@ public final class EncryptionUtility {
         if (!Files.isReadable(targetFile) || !Files.isWritable(targetFile)) {
             return false;
         }
-        Path temporaryFile = targetFile.getParent().resolve(String.format("%s.tmp", UUID.randomUUID()));
+        Path temporaryFile = targetFile.toAbsolutePath().getParent().resolve(String.format("%s.tmp", UUID.randomUUID()));
+        SegmentedEncryptor segmentedEncryptor = new SegmentedEncryptor(encryptor);
+        boolean isTransformed = switch (mode) {
+            case ENCRYPT -> segmentedEncryptor.encrypt(targetFile, temporaryFile);
+            case DECRYPT -> segmentedEncryptor.decrypt(targetFile, temporaryFile);
+        };
         try {
-            try (
-                    InputStream input = Files.newInputStream(targetFile, StandardOpenOption.READ);
-                    OutputStream output = Files.newOutputStream(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
-            ) {
-                byte[] buffer = new byte[EncryptionConstants.CHUNK_SIZE];
-                int read;
-                while ((read = input.read(buffer)) > 0) {
-                    Optional<String> result = switch (mode) {
-                        case ENCRYPT -> encryptor.encrypt(Arrays.copyOf(buffer, read));
-                        case DECRYPT -> encryptor.decrypt(Arrays.copyOf(buffer, read));
-                    };
-                    if (result.isEmpty()) {
-                        return false;
-                    }
-                    output.write(result.get().getBytes());
-                }
+            if (!isTransformed) {
+                Files.deleteIfExists(temporaryFile);
+                return false;
             }
             Files.move(temporaryFile, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
             return true;
         } catch (IOException e) {
-            LOGGER.warning("Error encrypting file: " + e.getMessage());
+            LOGGER.warning("Error transforming file: " + e.getMessage());
             return false;
         }
     }
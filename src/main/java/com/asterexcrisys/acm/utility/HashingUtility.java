@@ -1,8 +1,8 @@
 package com.asterexcrisys.acm.utility;
 
 import com.asterexcrisys.acm.constants.HashingConstants;
+import com.asterexcrisys.acm.types.encryption.HashingPolicy;
 import com.asterexcrisys.acm.types.utility.Pair;
-import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
 import org.bouncycastle.crypto.params.Argon2Parameters;
 import org.bouncycastle.crypto.params.Argon2Parameters.Builder;
 import org.bouncycastle.util.Arrays;
@@ -10,8 +10,8 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -20,6 +20,8 @@ public final class HashingUtility {
 
     private static final Logger LOGGER = Logger.getLogger(HashingUtility.class.getName());
 
+    private static volatile HashingPolicy policy = HashingPolicy.ofDefaults();
+
     private HashingUtility() {
         // This class should not be instantiable
     }
@@ -32,14 +34,7 @@ public final class HashingUtility {
         if (length < 1) {
             return Optional.empty();
         }
-        try {
-            byte[] salt = new byte[length];
-            SecureRandom.getInstanceStrong().nextBytes(salt);
-            return Optional.of(salt);
-        } catch (NoSuchAlgorithmException e) {
-            LOGGER.warning("Error generating salt: " + e.getMessage());
-            return Optional.empty();
-        }
+        return RandomnessUtility.generateBytes(length);
     }
 
     public static Optional<String> hashMessage(String message) {
@@ -53,8 +48,20 @@ public final class HashingUtility {
         }
     }
 
+    public static HashingPolicy getPolicy() {
+        return policy;
+    }
+
+    public static void setPolicy(HashingPolicy policy) throws NullPointerException {
+        HashingUtility.policy = Objects.requireNonNull(policy);
+    }
+
     public static Optional<String> hashPassword(String password) {
-        if (password == null || password.isBlank()) {
+        return hashPassword(password, policy);
+    }
+
+    public static Optional<String> hashPassword(String password, HashingPolicy policy) {
+        if (password == null || policy == null || password.isBlank()) {
             return Optional.empty();
         }
         Optional<byte[]> salt = generateSalt();
@@ -63,21 +70,22 @@ public final class HashingUtility {
         }
         Builder builder = new Builder(Argon2Parameters.ARGON2_id)
                 .withVersion(Argon2Parameters.ARGON2_VERSION_13)
-                .withIterations(HashingConstants.ITERATION_COUNT)
-                .withMemoryAsKB(HashingConstants.MEMORY_USAGE)
-                .withParallelism(HashingConstants.PARALLELISM_COUNT)
+                .withIterations(policy.iterationCount())
+                .withMemoryAsKB(policy.memoryUsage())
+                .withParallelism(policy.parallelismCount())
                 .withSalt(salt.get());
         Argon2Parameters parameters = builder.build();
-        byte[] hashedData = new byte[HashingConstants.HASH_SIZE];
-        Argon2BytesGenerator generator = new Argon2BytesGenerator();
-        generator.init(parameters);
-        generator.generateBytes(password.getBytes(StandardCharsets.UTF_8), hashedData, 0, hashedData.length);
+        Optional<byte[]> hashedData = Argon2Utility.generate(parameters, password.getBytes(StandardCharsets.UTF_8), HashingConstants.HASH_SIZE);
+        if (hashedData.isEmpty()) {
+            return Optional.empty();
+        }
         Optional<byte[]> result = constructHash(
                 salt.get(),
                 parameters.getVersion(),
                 parameters.getIterations(),
                 parameters.getMemory(),
-                hashedData
+                parameters.getLanes(),
+                hashedData.get()
         );
         if (result.isEmpty()) {
             return Optional.empty();
@@ -93,52 +101,86 @@ public final class HashingUtility {
         if (parameters.isEmpty()) {
             return false;
         }
-        byte[] hashedData = new byte[HashingConstants.HASH_SIZE];
-        Argon2BytesGenerator verifier = new Argon2BytesGenerator();
-        verifier.init(parameters.get().first());
-        verifier.generateBytes(password.getBytes(StandardCharsets.UTF_8), hashedData, 0, hashedData.length);
-        return Arrays.areEqual(parameters.get().second(), hashedData);
+        Optional<byte[]> hashedData = Argon2Utility.generate(parameters.get().first(), password.getBytes(StandardCharsets.UTF_8), HashingConstants.HASH_SIZE);
+        if (hashedData.isEmpty()) {
+            return false;
+        }
+        return Arrays.areEqual(parameters.get().second(), hashedData.get());
+    }
+
+    public static boolean needsRehash(String hash) {
+        return needsRehash(hash, policy);
     }
 
-    private static Optional<byte[]> constructHash(byte[] salt, int version, int iterationCount, int memoryUsage, byte[] hashedData) {
+    public static boolean needsRehash(String hash, HashingPolicy policy) {
+        if (hash == null || policy == null || hash.isBlank()) {
+            return false;
+        }
+        try {
+            byte[] decodedHash = Base64.getDecoder().decode(hash);
+            Optional<Pair<Argon2Parameters, byte[]>> parameters = deconstructHash(decodedHash);
+            if (parameters.isEmpty()) {
+                return false;
+            }
+            if (decodedHash.length != HashingConstants.SALT_SIZE + HashingConstants.HASH_SIZE + 16) {
+                return true;
+            }
+            return policy.isHashOutdated(parameters.get().first().getIterations(), parameters.get().first().getMemory());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Error inspecting password hash: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static Optional<byte[]> constructHash(byte[] salt, int version, int iterationCount, int memoryUsage, int parallelismCount, byte[] hashedData) {
         if (salt == null || salt.length != HashingConstants.SALT_SIZE) {
             return Optional.empty();
         }
-        if (version < 0 || iterationCount < 1 || memoryUsage < 1) {
+        if (version < 0 || iterationCount < 1 || memoryUsage < 1 || parallelismCount < 1) {
             return Optional.empty();
         }
         if (hashedData == null || hashedData.length != HashingConstants.HASH_SIZE) {
             return Optional.empty();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(salt.length + hashedData.length + 12);
+        ByteBuffer buffer = ByteBuffer.allocate(salt.length + hashedData.length + 16);
         buffer.put(salt);
         buffer.putInt(version);
         buffer.putInt(iterationCount);
         buffer.putInt(memoryUsage);
+        buffer.putInt(parallelismCount);
         buffer.put(hashedData);
         return Optional.of(buffer.array());
     }
 
     private static Optional<Pair<Argon2Parameters, byte[]>> deconstructHash(byte[] hash) {
-        if (hash == null || hash.length != HashingConstants.SALT_SIZE + HashingConstants.HASH_SIZE + 12) {
+        if (hash == null) {
+            return Optional.empty();
+        }
+        boolean isLegacy = hash.length == HashingConstants.SALT_SIZE + HashingConstants.HASH_SIZE + 12;
+        if (!isLegacy && hash.length != HashingConstants.SALT_SIZE + HashingConstants.HASH_SIZE + 16) {
             return Optional.empty();
         }
         byte[] salt = new byte[HashingConstants.SALT_SIZE];
         int version;
         int iterationCount;
         int memoryUsage;
+        int parallelismCount;
         byte[] hashedData = new byte[HashingConstants.HASH_SIZE];
         ByteBuffer buffer = ByteBuffer.wrap(hash).asReadOnlyBuffer();
         buffer.get(salt);
         version = buffer.getInt();
         iterationCount = buffer.getInt();
         memoryUsage = buffer.getInt();
+        parallelismCount = isLegacy? HashingConstants.PARALLELISM_COUNT:buffer.getInt();
         buffer.get(hashedData);
+        if (iterationCount < 1 || parallelismCount < 1 || memoryUsage < 8 * parallelismCount) {
+            return Optional.empty();
+        }
         Builder builder = new Builder(Argon2Parameters.ARGON2_id);
         builder.withVersion(version);
         builder.withIterations(iterationCount);
         builder.withMemoryAsKB(memoryUsage);
-        builder.withParallelism(HashingConstants.PARALLELISM_COUNT);
+        builder.withParallelism(parallelismCount);
         builder.withSalt(salt);
         return Optional.of(Pair.of(builder.build(), hashedData));
     }
@@ -0,0 +1,295 @@
+package com.asterexcrisys.acm.utility;
+
+import com.asterexcrisys.acm.constants.GlobalConstants;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class JsonUtility {
+
+    private static final Logger LOGGER = Logger.getLogger(JsonUtility.class.getName());
+
+    private JsonUtility() {
+        // This class should not be instantiable
+    }
+
+    public static String toJson(Object value) {
+        StringBuilder builder = new StringBuilder();
+        write(builder, value);
+        return builder.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Optional<Map<String, Object>> parseObject(String json) {
+        if (json == null || json.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            Object value = new Parser(json).parse();
+            if (!(value instanceof Map<?, ?>)) {
+                return Optional.empty();
+            }
+            return Optional.of((Map<String, Object>) value);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Error parsing JSON object: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<String> getString(Map<String, Object> object, String key) {
+        if (object == null || !(object.get(key) instanceof String value)) {
+            return Optional.empty();
+        }
+        return Optional.of(value);
+    }
+
+    public static Optional<List<String>> getStrings(Map<String, Object> object, String key) {
+        if (object == null || !(object.get(key) instanceof List<?> values)) {
+            return Optional.empty();
+        }
+        List<String> strings = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (!(value instanceof String string)) {
+                return Optional.empty();
+            }
+            strings.add(string);
+        }
+        return Optional.of(strings);
+    }
+
+    private static void write(StringBuilder builder, Object value) {
+        switch (value) {
+            case null -> builder.append("null");
+            case String string -> writeString(builder, string);
+            case Boolean bool -> builder.append(bool);
+            case Double number when number.isNaN() || number.isInfinite() -> builder.append("null");
+            case Float number when number.isNaN() || number.isInfinite() -> builder.append("null");
+            case Number number -> builder.append(number);
+            case Map<?, ?> map -> {
+                builder.append('{');
+                boolean isFirst = true;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (!isFirst) {
+                        builder.append(',');
+                    }
+                    writeString(builder, String.valueOf(entry.getKey()));
+                    builder.append(':');
+                    write(builder, entry.getValue());
+                    isFirst = false;
+                }
+                builder.append('}');
+            }
+            case Collection<?> collection -> {
+                builder.append('[');
+                boolean isFirst = true;
+                for (Object element : collection) {
+                    if (!isFirst) {
+                        builder.append(',');
+                    }
+                    write(builder, element);
+                    isFirst = false;
+                }
+                builder.append(']');
+            }
+            default -> writeString(builder, value.toString());
+        }
+    }
+
+    private static void writeString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (character < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        builder.append(character);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+
+    private static final class Parser {
+
+        private final String input;
+        private int position;
+
+        public Parser(String input) {
+            this.input = input;
+            position = 0;
+        }
+
+        public Object parse() throws IllegalArgumentException {
+            Object value = parseValue(0);
+            skipWhitespace();
+            if (position != input.length()) {
+                throw new IllegalArgumentException("unexpected content at position " + position);
+            }
+            return value;
+        }
+
+        private Object parseValue(int depth) throws IllegalArgumentException {
+            if (depth > GlobalConstants.MAXIMUM_JSON_DEPTH) {
+                throw new IllegalArgumentException("maximum nesting depth exceeded");
+            }
+            skipWhitespace();
+            if (position >= input.length()) {
+                throw new IllegalArgumentException("unexpected end of input");
+            }
+            char character = input.charAt(position);
+            return switch (character) {
+                case '{' -> parseObject(depth);
+                case '[' -> parseArray(depth);
+                case '"' -> parseString();
+                case 't' -> parseLiteral("true", Boolean.TRUE);
+                case 'f' -> parseLiteral("false", Boolean.FALSE);
+                case 'n' -> parseLiteral("null", null);
+                default -> parseNumber();
+            };
+        }
+
+        private Map<String, Object> parseObject(int depth) throws IllegalArgumentException {
+            Map<String, Object> object = new LinkedHashMap<>();
+            position++;
+            skipWhitespace();
+            if (consume('}')) {
+                return object;
+            }
+            do {
+                skipWhitespace();
+                if (position >= input.length() || input.charAt(position) != '"') {
+                    throw new IllegalArgumentException("expected key at position " + position);
+                }
+                String key = parseString();
+                skipWhitespace();
+                expect(':');
+                object.put(key, parseValue(depth + 1));
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+            return object;
+        }
+
+        private List<Object> parseArray(int depth) throws IllegalArgumentException {
+            List<Object> array = new ArrayList<>();
+            position++;
+            skipWhitespace();
+            if (consume(']')) {
+                return array;
+            }
+            do {
+                array.add(parseValue(depth + 1));
+                skipWhitespace();
+            } while (consume(','));
+            expect(']');
+            return array;
+        }
+
+        private String parseString() throws IllegalArgumentException {
+            StringBuilder builder = new StringBuilder();
+            position++;
+            while (position < input.length()) {
+                char character = input.charAt(position++);
+                if (character == '"') {
+                    return builder.toString();
+                }
+                if (character < 0x20) {
+                    throw new IllegalArgumentException("unescaped control character at position " + (position - 1));
+                }
+                if (character != '\\') {
+                    builder.append(character);
+                    continue;
+                }
+                if (position >= input.length()) {
+                    break;
+                }
+                char escape = input.charAt(position++);
+                switch (escape) {
+                    case '"', '\\', '/' -> builder.append(escape);
+                    case 'b' -> builder.append('\b');
+                    case 'f' -> builder.append('\f');
+                    case 'n' -> builder.append('\n');
+                    case 'r' -> builder.append('\r');
+                    case 't' -> builder.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > input.length()) {
+                            throw new IllegalArgumentException("truncated unicode escape at position " + position);
+                        }
+                        try {
+                            builder.append((char) Integer.parseInt(input.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("invalid unicode escape at position " + position);
+                        }
+                        position += 4;
+                    }
+                    default -> throw new IllegalArgumentException("invalid escape at position " + (position - 1));
+                }
+            }
+            throw new IllegalArgumentException("unterminated string");
+        }
+
+        private Number parseNumber() throws IllegalArgumentException {
+            int start = position;
+            while (position < input.length() && "+-0123456789.eE".indexOf(input.charAt(position)) >= 0) {
+                position++;
+            }
+            String number = input.substring(start, position);
+            if (number.isEmpty()) {
+                throw new IllegalArgumentException("unexpected character at position " + start);
+            }
+            try {
+                if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+                    return Long.parseLong(number);
+                }
+                return Double.parseDouble(number);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid number at position " + start);
+            }
+        }
+
+        private Object parseLiteral(String literal, Object value) throws IllegalArgumentException {
+            if (!input.startsWith(literal, position)) {
+                throw new IllegalArgumentException("unexpected literal at position " + position);
+            }
+            position += literal.length();
+            return value;
+        }
+
+        private void skipWhitespace() {
+            while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean consume(char character) {
+            if (position < input.length() && input.charAt(position) == character) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char character) throws IllegalArgumentException {
+            if (!consume(character)) {
+                throw new IllegalArgumentException("expected '" + character + "' at position " + position);
+            }
+        }
+
+    }
+
+}
\ No newline at end of file
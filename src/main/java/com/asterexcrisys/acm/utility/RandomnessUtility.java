@@ -0,0 +1,205 @@
+package com.asterexcrisys.acm.utility;
+
+import com.asterexcrisys.acm.constants.EncryptionConstants;
+import java.nio.ByteBuffer;
+import java.security.DrbgParameters;
+import java.security.DrbgParameters.Capability;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.SecureRandomSpi;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+@SuppressWarnings("unused")
+public final class RandomnessUtility {
+
+    private static final Logger LOGGER = Logger.getLogger(RandomnessUtility.class.getName());
+    private static final Queue<Generator> GENERATORS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger GENERATOR_COUNT = new AtomicInteger(0);
+    private static final AtomicLong INSTANTIATION_COUNT = new AtomicLong(0);
+    private static final SecureRandom SECURE_RANDOM = new PooledSecureRandom();
+
+    private RandomnessUtility() {
+        // This class should not be instantiable
+    }
+
+    public static SecureRandom getSecureRandom() {
+        return SECURE_RANDOM;
+    }
+
+    public static void nextBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return;
+        }
+        Generator generator = acquire();
+        try {
+            generator.nextBytes(bytes);
+        } finally {
+            release(generator);
+        }
+    }
+
+    public static Optional<byte[]> generateBytes(int length) {
+        if (length < 1) {
+            return Optional.empty();
+        }
+        byte[] bytes = new byte[length];
+        nextBytes(bytes);
+        return Optional.of(bytes);
+    }
+
+    public static int nextInt(int bound) throws IllegalArgumentException {
+        if (bound < 1) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        return SECURE_RANDOM.nextInt(bound);
+    }
+
+    private static Generator acquire() {
+        Generator generator = GENERATORS.poll();
+        if (generator != null) {
+            GENERATOR_COUNT.decrementAndGet();
+            return generator;
+        }
+        return new Generator(instantiate());
+    }
+
+    private static void release(Generator generator) {
+        if (GENERATOR_COUNT.incrementAndGet() > EncryptionConstants.CIPHER_POOL_SIZE) {
+            GENERATOR_COUNT.decrementAndGet();
+            generator.destroy();
+            return;
+        }
+        GENERATORS.offer(generator);
+    }
+
+    private static SecureRandom instantiate() {
+        byte[] personalization = ByteBuffer.allocate(3 * Long.BYTES)
+                .putLong(INSTANTIATION_COUNT.incrementAndGet())
+                .putLong(Thread.currentThread().threadId())
+                .putLong(System.nanoTime())
+                .array();
+        try {
+            return SecureRandom.getInstance(
+                    EncryptionConstants.RANDOM_ALGORITHM,
+                    DrbgParameters.instantiation(EncryptionConstants.RANDOM_STRENGTH, Capability.RESEED_ONLY, personalization)
+            );
+        } catch (NoSuchAlgorithmException e) {
+            LOGGER.warning("Error instantiating random generator: " + e.getMessage());
+            return new SecureRandom();
+        }
+    }
+
+    private static final class Generator {
+
+        private final SecureRandom random;
+        private final byte[] buffer;
+        private int position;
+        private long generated;
+        private long reseeded;
+
+        private Generator(SecureRandom random) {
+            this.random = random;
+            buffer = new byte[EncryptionConstants.RANDOM_BUFFER_SIZE];
+            position = buffer.length;
+            generated = 0;
+            reseeded = System.nanoTime();
+        }
+
+        private void nextBytes(byte[] bytes) {
+            if (bytes.length >= buffer.length) {
+                reseedIfNeeded();
+                random.nextBytes(bytes);
+                generated += bytes.length;
+                return;
+            }
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (position == buffer.length) {
+                    refill();
+                }
+                int length = Math.min(bytes.length - offset, buffer.length - position);
+                System.arraycopy(buffer, position, bytes, offset, length);
+                Arrays.fill(buffer, position, position + length, (byte) 0);
+                position += length;
+                offset += length;
+            }
+        }
+
+        private void refill() {
+            reseedIfNeeded();
+            random.nextBytes(buffer);
+            generated += buffer.length;
+            position = 0;
+        }
+
+        private void reseedIfNeeded() {
+            if (generated < EncryptionConstants.RANDOM_RESEED_INTERVAL && System.nanoTime() - reseeded < EncryptionConstants.RANDOM_RESEED_PERIOD.toNanos()) {
+                return;
+            }
+            try {
+                random.reseed();
+            } catch (UnsupportedOperationException | IllegalStateException e) {
+                LOGGER.warning("Error reseeding random generator: " + e.getMessage());
+            }
+            generated = 0;
+            reseeded = System.nanoTime();
+        }
+
+        private void destroy() {
+            Arrays.fill(buffer, (byte) 0);
+            position = buffer.length;
+        }
+
+    }
+
+    private static final class PooledSecureRandomSpi extends SecureRandomSpi {
+
+        private static final long serialVersionUID = 1L;
+
+        protected void engineSetSeed(byte[] seed) {
+            // No operation needed
+        }
+
+        protected void engineNextBytes(byte[] bytes) {
+            RandomnessUtility.nextBytes(bytes);
+        }
+
+        protected byte[] engineGenerateSeed(int length) {
+            return generateBytes(length).orElseGet(() -> new byte[0]);
+        }
+
+    }
+
+    private static final class PooledSecureRandom extends SecureRandom {
+
+        private static final long serialVersionUID = 1L;
+
+        private PooledSecureRandom() {
+            super(new PooledSecureRandomSpi(), null);
+        }
+
+        public String getAlgorithm() {
+            return EncryptionConstants.RANDOM_ALGORITHM;
+        }
+
+        public void setSeed(byte[] seed) {
+            // No operation needed
+        }
+
+        public void setSeed(long seed) {
+            // No operation needed
+        }
+
+        public void nextBytes(byte[] bytes) {
+            RandomnessUtility.nextBytes(bytes);
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -26,14 +26,7 @@ public final class StorageUtility {
         if (length < 1) {
             return Optional.empty();
         }
-        try {
-            byte[] nonce = new byte[length];
-            SecureRandom.getInstanceStrong().nextBytes(nonce);
-            return Optional.of(nonce);
-        } catch (NoSuchAlgorithmException e) {
-            LOGGER.warning("Error generating nonce: " + e.getMessage());
-            return Optional.empty();
-        }
+        return RandomnessUtility.generateBytes(length);
     }
 
     public static Optional<Map<Integer, String>> registerPcrValues(TpmEngine engine) {
@@ -1,16 +1,30 @@
 package com.asterexcrisys.acm;
 
+import com.asterexcrisys.acm.constants.PersistenceConstants;
 import com.asterexcrisys.acm.exceptions.DatabaseException;
 import com.asterexcrisys.acm.exceptions.DerivationException;
 import com.asterexcrisys.acm.exceptions.HashingException;
 import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.persistence.CoreDatabase;
 import com.asterexcrisys.acm.types.encryption.Credential;
 import com.asterexcrisys.acm.types.encryption.Vault;
+import com.asterexcrisys.acm.types.utility.CacheStatistics;
 import com.asterexcrisys.acm.utility.PathUtility;
 import org.junit.jupiter.api.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -91,4 +105,158 @@ public class CredentialManagerUnitTests {
         assertEquals("password2", password.get());
     }
 
+    @Test
+    public void shouldCacheCredentialKeys() {
+        assertTrue(manager.addCredential("platform4", "username1", "password1"));
+        assertTrue(manager.getCredential("platform4").isPresent());
+        assertTrue(manager.getCredential("platform4").isPresent());
+        CacheStatistics statistics = manager.getKeyCacheStatistics();
+        assertEquals(1, statistics.hits());
+        assertEquals(1, statistics.size());
+        assertTrue(manager.setCredential("platform4", "username2", "password2"));
+        Optional<Credential> credential = manager.getCredential("platform4");
+        assertTrue(credential.isPresent());
+        assertEquals("username2", credential.get().getDecryptedUsername().orElseThrow());
+        assertTrue(manager.removeCredential("platform4"));
+        assertTrue(manager.getCredential("platform4").isEmpty());
+        assertEquals(0, manager.getKeyCacheStatistics().size());
+    }
+
+    @Test
+    public void shouldSaveCredentialsToDatabase() {
+        assertDoesNotThrow(() -> {
+            List<Credential> credentials = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                credentials.add(new Credential("platform" + (i + 4), "username" + i, "password" + i));
+            }
+            assertTrue(manager.saveCredentials(credentials));
+            Optional<List<String>> platforms = manager.getAllCredentials();
+            assertTrue(platforms.isPresent());
+            assertEquals(100, platforms.get().size());
+            Optional<Credential> credential = manager.getCredential("platform53");
+            assertTrue(credential.isPresent());
+            assertEquals("username49", credential.get().getDecryptedUsername().orElseThrow());
+            assertEquals("password49", credential.get().getDecryptedPassword().orElseThrow());
+        });
+    }
+
+    @Test
+    public void shouldListCredentialsFromDatabase() {
+        assertDoesNotThrow(() -> {
+            List<Credential> credentials = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                credentials.add(new Credential(String.format("platform%03d", i), "username", "password"));
+            }
+            assertTrue(manager.saveCredentials(credentials));
+            List<String> platforms = new ArrayList<>();
+            Optional<List<String>> page = manager.listCredentials(null, 10);
+            while (page.isPresent() && !page.get().isEmpty()) {
+                assertTrue(page.get().size() <= 10);
+                platforms.addAll(page.get());
+                page = manager.listCredentials(page.get().getLast(), 10);
+            }
+            assertEquals(25, platforms.size());
+            assertEquals("platform000", platforms.getFirst());
+            assertEquals("platform024", platforms.getLast());
+            try (Stream<String> stream = manager.streamAllCredentials().orElseThrow()) {
+                assertEquals(platforms, stream.toList());
+            }
+        });
+    }
+
+    @Test
+    public void shouldHideExpiredCredentialsFromDatabase() {
+        Instant now = Instant.now();
+        assertTrue(manager.addCredential("platform104", "username", "password", now.minus(Duration.ofMinutes(1))));
+        assertTrue(manager.addCredential("platform105", "username", "password", now.plus(Duration.ofMinutes(1))));
+        assertTrue(manager.addCredential("platform106", "username", "password"));
+        assertTrue(manager.getCredential("platform104").isEmpty());
+        assertTrue(manager.getCredential("platform105").isPresent());
+        Optional<List<String>> platforms = manager.getActiveCredentials();
+        assertTrue(platforms.isPresent());
+        assertEquals(List.of("platform105", "platform106"), platforms.get().stream().sorted().toList());
+        platforms = manager.getExpiringWithin(Duration.ofHours(1));
+        assertTrue(platforms.isPresent());
+        assertEquals(List.of("platform105"), platforms.get());
+    }
+
+    @Test
+    public void shouldRestoreArchivedCredential() {
+        assertDoesNotThrow(() -> {
+            assertTrue(manager.addCredential("platform9", "username9", "password9", Instant.now()));
+            manager.close();
+            setUp();
+            for (int i = 0; i < 100 && manager.getArchivedCredentials().orElseThrow().isEmpty(); i++) {
+                Thread.sleep(50);
+            }
+            assertEquals(List.of("platform9"), manager.getArchivedCredentials().orElseThrow());
+            assertTrue(manager.getCredential("platform9").isEmpty());
+            assertTrue(manager.restoreCredential("platform9"));
+            assertTrue(manager.getArchivedCredentials().orElseThrow().isEmpty());
+            assertEquals("username9", manager.getCredential("platform9").orElseThrow().getDecryptedUsername().orElseThrow());
+            assertTrue(manager.getActiveCredentials().orElseThrow().contains("platform9"));
+            assertTrue(manager.removeAllCredentials());
+            assertTrue(manager.getArchivedCredentials().orElseThrow().isEmpty());
+        });
+    }
+
+    @Test
+    public void shouldClearIndexOnClose() {
+        assertDoesNotThrow(() -> {
+            assertTrue(manager.addCredential("platform10", "username10", "password10"));
+            manager.close();
+            assertTrue(manager.getAllCredentials().orElseThrow().isEmpty());
+            setUp();
+            assertTrue(manager.getAllCredentials().orElseThrow().contains("platform10"));
+        });
+    }
+
+    @Test
+    public void shouldOverwriteFromLegacyExport() {
+        assertDoesNotThrow(() -> {
+            Instant expiration = Instant.now().plus(Duration.ofDays(1)).truncatedTo(ChronoUnit.SECONDS);
+            assertTrue(manager.addCredential("platform11", "username11", "password11", expiration));
+            assertTrue(manager.addCredential("platform12", "username12", "password12"));
+            String sealedKey = manager.getVault().orElseThrow().getKeyMaterial().getSealedKey().orElseThrow();
+            try (CoreDatabase database = new CoreDatabase("name", PersistenceConstants.CREDENTIAL_DATABASE, sealedKey)) {
+                assertTrue(database.connect());
+                List<Object[]> rows = new ArrayList<>();
+                try (ResultSet resultSet = database.executeQuery("SELECT platform, username, password, expiration, last_modification, key FROM credentials;")) {
+                    while (resultSet.next()) {
+                        long expirationMillis = resultSet.getLong("expiration");
+                        boolean isPermanent = resultSet.wasNull();
+                        rows.add(new Object[] {
+                                resultSet.getString("platform"),
+                                Base64.getEncoder().encodeToString(resultSet.getBytes("username")),
+                                Base64.getEncoder().encodeToString(resultSet.getBytes("password")),
+                                isPermanent? null:Instant.ofEpochMilli(expirationMillis).toString(),
+                                Instant.ofEpochMilli(resultSet.getLong("last_modification")).toString(),
+                                Base64.getEncoder().encodeToString(resultSet.getBytes("key"))
+                        });
+                    }
+                }
+                assertTrue(database.executeUpdate("DROP TABLE credentials;") >= 0);
+                assertTrue(database.executeUpdate("DROP TABLE credentials_archive;") >= 0);
+                assertTrue(database.executeUpdate("CREATE TABLE credentials (platform TEXT PRIMARY KEY, username TEXT NOT NULL, password TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL, key TEXT NOT NULL);") >= 0);
+                assertTrue(database.executeUpdate("CREATE TABLE credentials_archive (platform TEXT PRIMARY KEY, username TEXT NOT NULL, password TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL, key TEXT NOT NULL, archived_at TEXT NOT NULL);") >= 0);
+                assertEquals(2, database.executeBatch("INSERT INTO credentials (platform, username, password, expiration, last_modification, key) VALUES (?, ?, ?, ?, ?, ?);", rows));
+                assertTrue(database.executeUpdate("PRAGMA user_version = 0;") >= 0);
+            }
+            Path file = Files.createTempFile("export", ".db");
+            try {
+                assertTrue(manager.exportVault(file));
+                assertTrue(manager.importVault(file, null, null, true));
+                assertEquals(List.of("platform11", "platform12"), manager.getActiveCredentials().orElseThrow().stream().sorted().toList());
+                Credential credential = manager.getCredential("platform11").orElseThrow();
+                assertEquals("username11", credential.getDecryptedUsername().orElseThrow());
+                assertEquals("password11", credential.getDecryptedPassword().orElseThrow());
+                assertEquals(expiration, credential.getExpiration().orElseThrow());
+                assertEquals(List.of("platform11"), manager.getExpiringWithin(Duration.ofDays(2)).orElseThrow());
+                assertEquals("password12", manager.getCredential("platform12").orElseThrow().getDecryptedPassword().orElseThrow());
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        });
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.asterexcrisys.acm;
+
+import com.asterexcrisys.acm.constants.PersistenceConstants;
+import com.asterexcrisys.acm.exceptions.DatabaseException;
+import com.asterexcrisys.acm.exceptions.DerivationException;
+import com.asterexcrisys.acm.exceptions.HashingException;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.persistence.CoreDatabase;
+import com.asterexcrisys.acm.types.encryption.Vault;
+import com.asterexcrisys.acm.utility.PathUtility;
+import org.junit.jupiter.api.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TokenManagerUnitTests {
+
+    private Vault vault;
+    private TokenManager manager;
+
+    @BeforeAll
+    public void setAllUp() throws DatabaseException {
+        PathUtility.deleteRecursively(Paths.get("./data/"));
+        try (VaultManager manager = new VaultManager(GenericEncryptor.generateKey().orElseThrow())) {
+            manager.addVault("name", "password");
+            vault = manager.getVault("name", "password").orElseThrow();
+        }
+    }
+
+    @AfterAll
+    public void tearAllDown() {
+        PathUtility.deleteRecursively(Paths.get("./data/"));
+    }
+
+    @BeforeEach
+    public void setUp() throws DerivationException, DatabaseException, NoSuchAlgorithmException, HashingException {
+        manager = new TokenManager(vault.getEncryptor().getSealedSalt(), vault.getHashedPassword(), "name", "password");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        manager.removeAllTokens();
+        manager.close();
+    }
+
+    @Test
+    public void shouldEncryptAndDecryptText() {
+        assertTrue(manager.addToken("identifier1"));
+        String encryptedText = manager.encryptText("identifier1", "text").orElseThrow();
+        assertEquals("text", manager.decryptText("identifier1", encryptedText).orElseThrow());
+        assertTrue(manager.removeToken("identifier1"));
+        assertTrue(manager.decryptText("identifier1", encryptedText).isEmpty());
+    }
+
+    @Test
+    public void shouldOverwriteFromLegacyExport() {
+        assertDoesNotThrow(() -> {
+            assertTrue(manager.addToken("identifier2"));
+            String encryptedText = manager.encryptText("identifier2", "text").orElseThrow();
+            String sealedKey = manager.getVault().orElseThrow().getKeyMaterial().getSealedKey().orElseThrow();
+            try (CoreDatabase database = new CoreDatabase("name", PersistenceConstants.TOKEN_DATABASE, sealedKey)) {
+                assertTrue(database.connect());
+                List<Object[]> rows = new ArrayList<>();
+                try (ResultSet resultSet = database.executeQuery("SELECT identifier, key, last_modification FROM tokens;")) {
+                    while (resultSet.next()) {
+                        rows.add(new Object[] {
+                                resultSet.getString("identifier"),
+                                Base64.getEncoder().encodeToString(resultSet.getBytes("key")),
+                                Instant.ofEpochMilli(resultSet.getLong("last_modification")).toString()
+                        });
+                    }
+                }
+                assertTrue(database.executeUpdate("DROP TABLE tokens;") >= 0);
+                assertTrue(database.executeUpdate("DROP TABLE tokens_archive;") >= 0);
+                assertTrue(database.executeUpdate("CREATE TABLE tokens (identifier TEXT PRIMARY KEY, key TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL);") >= 0);
+                assertTrue(database.executeUpdate("CREATE TABLE tokens_archive (identifier TEXT PRIMARY KEY, key TEXT NOT NULL, expiration TEXT DEFAULT NULL, last_modification TEXT NOT NULL, archived_at TEXT NOT NULL);") >= 0);
+                assertEquals(1, database.executeBatch("INSERT INTO tokens (identifier, key, last_modification) VALUES (?, ?, ?);", rows));
+                assertTrue(database.executeUpdate("PRAGMA user_version = 0;") >= 0);
+            }
+            Path file = Files.createTempFile("export", ".db");
+            try {
+                assertTrue(manager.exportVault(file));
+                assertTrue(manager.importVault(file, null, null, true));
+                assertEquals(List.of("identifier2"), manager.getActiveTokens().orElseThrow());
+                assertEquals("text", manager.decryptText("identifier2", encryptedText).orElseThrow());
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        });
+    }
+
+}
\ No newline at end of file
@@ -1,29 +1,40 @@
 package com.asterexcrisys.acm;
 
+import com.asterexcrisys.acm.constants.PersistenceConstants;
 import com.asterexcrisys.acm.exceptions.DatabaseException;
 import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.encryption.KeyMaterial;
+import com.asterexcrisys.acm.services.persistence.CoreDatabase;
+import com.asterexcrisys.acm.services.persistence.VaultDatabase;
 import com.asterexcrisys.acm.utility.HashingUtility;
+import com.asterexcrisys.acm.types.encryption.HashingPolicy;
 import com.asterexcrisys.acm.types.encryption.Vault;
 import com.asterexcrisys.acm.utility.PathUtility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import javax.crypto.SecretKey;
 import java.nio.file.Paths;
+import java.util.Base64;
 import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("unused")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class VaultManagerUnitTests {
 
+    private SecretKey masterKey;
     private VaultManager manager;
 
     @BeforeEach
     public void setUp() throws DatabaseException {
         PathUtility.deleteRecursively(Paths.get("./data/"));
-        manager = new VaultManager(GenericEncryptor.generateKey().orElseThrow());
+        masterKey = GenericEncryptor.generateKey().orElseThrow();
+        manager = new VaultManager(masterKey);
     }
 
     @AfterEach
@@ -52,4 +63,79 @@ public class VaultManagerUnitTests {
         assertTrue(vault.isEmpty());
     }
 
+    @Test
+    public void shouldSetVaultAndKeepEntries() {
+        assertTrue(manager.addVault("name3", "password"));
+        assertTrue(manager.authenticate("name3", "password"));
+        assertTrue(manager.getCredentialManager().orElseThrow().addCredential("platform", "username", "password"));
+        assertTrue(manager.getTokenManager().orElseThrow().addToken("identifier"));
+        manager.logout();
+        assertTrue(manager.setVault("name3", "password", "password2"));
+        manager.logout();
+        assertFalse(manager.authenticate("name3", "password"));
+        assertTrue(manager.authenticate("name3", "password2"));
+        assertTrue(manager.getCredentialManager().orElseThrow().getCredential("platform").isPresent());
+        assertTrue(manager.getTokenManager().orElseThrow().getToken("identifier").isPresent());
+    }
+
+    @Test
+    public void shouldRestoreVaultWhenSetVaultFails() {
+        assertTrue(manager.addVault("name4", "password"));
+        assertTrue(manager.authenticate("name4", "password"));
+        assertTrue(manager.getCredentialManager().orElseThrow().addCredential("platform", "username", "password"));
+        assertTrue(manager.getTokenManager().orElseThrow().addToken("identifier"));
+        String sealedKey = manager.getCredentialManager().orElseThrow().getVault().orElseThrow().getKeyMaterial().getSealedKey().orElseThrow();
+        manager.logout();
+        try (CoreDatabase database = new CoreDatabase("name4", PersistenceConstants.TOKEN_DATABASE, sealedKey)) {
+            assertTrue(database.connect());
+            assertEquals(1, database.executeUpdate("UPDATE tokens SET key = ? WHERE identifier = ?;", new byte[] {0}, "identifier"));
+        }
+        assertFalse(manager.setVault("name4", "password", "password2"));
+        manager.logout();
+        assertFalse(manager.authenticate("name4", "password2"));
+        assertTrue(manager.authenticate("name4", "password"));
+        assertTrue(manager.getCredentialManager().orElseThrow().getCredential("platform").isPresent());
+    }
+
+    @Test
+    public void shouldRecoverInterruptedSetVault() {
+        assertDoesNotThrow(() -> {
+            assertTrue(manager.addVault("name5", "password"));
+            assertTrue(manager.authenticate("name5", "password"));
+            CredentialManager credentialManager = manager.getCredentialManager().orElseThrow();
+            assertTrue(credentialManager.addCredential("platform", "username", "password"));
+            Vault vault = credentialManager.getVault().orElseThrow();
+            try (KeyMaterial material = new KeyMaterial("password2"); VaultDatabase database = new VaultDatabase(Base64.getEncoder().encodeToString(masterKey.getEncoded()))) {
+                assertTrue(database.connect());
+                assertTrue(database.setPendingKey("name5", vault.getEncryptor().encryptRaw(material.getKey().orElseThrow().getEncoded()).orElseThrow()));
+                assertTrue(credentialManager.setVault(material, vault.getHashedPassword(), null));
+                manager.logout();
+            }
+            assertTrue(manager.authenticate("name5", "password"));
+            assertTrue(manager.getCredentialManager().orElseThrow().getCredential("platform").isPresent());
+        });
+    }
+
+    @Test
+    public void shouldNotAuthenticateWhenUpgradeFails() {
+        HashingPolicy policy = HashingUtility.getPolicy();
+        try (CoreDatabase database = new CoreDatabase(PersistenceConstants.VAULT_DATABASE, Base64.getEncoder().encodeToString(masterKey.getEncoded()))) {
+            assertTrue(manager.addVault("name6", "password"));
+            assertTrue(manager.authenticate("name6", "password"));
+            assertTrue(manager.getCredentialManager().orElseThrow().addCredential("platform", "username", "password"));
+            manager.logout();
+            assertTrue(database.connect());
+            assertTrue(database.executeUpdate("CREATE TRIGGER keep_pending_key BEFORE UPDATE OF pending_key ON vaults WHEN NEW.pending_key IS NULL BEGIN SELECT RAISE(ABORT, 'pending key is locked'); END;") >= 0);
+            HashingUtility.setPolicy(HashingPolicy.of(policy.iterationCount(), policy.memoryUsage(), policy.parallelismCount(), policy.keyIterationCount() + 1000));
+            assertFalse(manager.authenticate("name6", "password"));
+            assertFalse(manager.isAuthenticated());
+            assertTrue(database.executeUpdate("DROP TRIGGER keep_pending_key;") >= 0);
+            HashingUtility.setPolicy(policy);
+            assertTrue(manager.authenticate("name6", "password"));
+            assertTrue(manager.getCredentialManager().orElseThrow().getCredential("platform").isPresent());
+        } finally {
+            HashingUtility.setPolicy(policy);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.asterexcrisys.acm.agent;
+
+import com.asterexcrisys.acm.constants.AgentConstants;
+import com.asterexcrisys.acm.services.agent.AgentProtocol;
+import com.asterexcrisys.acm.types.utility.Pair;
+import com.asterexcrisys.acm.utility.PathUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AgentProtocolUnitTests {
+
+    private Path directory;
+    private FileChannel channel;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("agent");
+        channel = FileChannel.open(directory.resolve("frames"), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        channel.close();
+        PathUtility.deleteRecursively(directory);
+    }
+
+    @Test
+    public void shouldWriteAndReadFrames() {
+        assertDoesNotThrow(() -> {
+            assertTrue(AgentProtocol.write(channel, (byte) 5, "identifier", "text with ünïcode", ""));
+            assertTrue(AgentProtocol.write(channel, (byte) 0));
+            channel.position(0);
+            Optional<Pair<Byte, String[]>> frame = AgentProtocol.read(channel);
+            assertTrue(frame.isPresent());
+            assertEquals((byte) 5, frame.get().first());
+            assertArrayEquals(new String[] {"identifier", "text with ünïcode", ""}, frame.get().second());
+            frame = AgentProtocol.read(channel);
+            assertTrue(frame.isPresent());
+            assertEquals((byte) 0, frame.get().first());
+            assertEquals(0, frame.get().second().length);
+            assertTrue(AgentProtocol.read(channel).isEmpty());
+        });
+    }
+
+    @Test
+    public void shouldRejectInvalidFields() {
+        assertDoesNotThrow(() -> {
+            assertFalse(AgentProtocol.write(null, (byte) 0));
+            assertFalse(AgentProtocol.write(channel, (byte) 0, (String[]) null));
+            assertFalse(AgentProtocol.write(channel, (byte) 0, "field", null));
+            assertFalse(AgentProtocol.write(channel, (byte) 0, new String[AgentConstants.MAXIMUM_FIELD_COUNT + 1]));
+            assertFalse(AgentProtocol.write(channel, (byte) 0, "x".repeat(AgentConstants.MAXIMUM_FRAME_SIZE)));
+            assertEquals(0, channel.size());
+        });
+    }
+
+    @Test
+    public void shouldRejectMalformedFrames() {
+        assertDoesNotThrow(() -> {
+            assertTrue(readFrame(ByteBuffer.allocate(2)).isEmpty());
+            assertTrue(readFrame(ByteBuffer.allocate(Integer.BYTES).putInt(1)).isEmpty());
+            assertTrue(readFrame(ByteBuffer.allocate(Integer.BYTES).putInt(-1)).isEmpty());
+            assertTrue(readFrame(ByteBuffer.allocate(Integer.BYTES).putInt(AgentConstants.MAXIMUM_FRAME_SIZE + 1)).isEmpty());
+            assertTrue(readFrame(ByteBuffer.allocate(8).putInt(10).put((byte) 0).put((byte) 0)).isEmpty());
+            assertTrue(readFrame(ByteBuffer.allocate(10).putInt(6).put((byte) 0).put((byte) 2).putInt(0)).isEmpty());
+            assertTrue(readFrame(ByteBuffer.allocate(10).putInt(6).put((byte) 0).put((byte) 1).putInt(5)).isEmpty());
+            assertTrue(readFrame(ByteBuffer.allocate(10).putInt(6).put((byte) 0).put((byte) 1).putInt(-1)).isEmpty());
+            assertTrue(readFrame(ByteBuffer.allocate(7).putInt(3).put((byte) 0).put((byte) 0).put((byte) 0)).isEmpty());
+            assertTrue(readFrame(ByteBuffer.allocate(6).putInt(2).put((byte) 3).put((byte) 0)).isPresent());
+        });
+    }
+
+    private Optional<Pair<Byte, String[]>> readFrame(ByteBuffer frame) throws IOException {
+        channel.truncate(0);
+        channel.write(frame.flip(), 0);
+        channel.position(0);
+        return AgentProtocol.read(channel);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.asterexcrisys.acm.agent;
+
+import com.asterexcrisys.acm.VaultManager;
+import com.asterexcrisys.acm.exceptions.DatabaseException;
+import com.asterexcrisys.acm.services.agent.AgentClient;
+import com.asterexcrisys.acm.services.agent.AgentServer;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.types.agent.AgentOperation;
+import com.asterexcrisys.acm.types.agent.AgentStatus;
+import com.asterexcrisys.acm.types.utility.Pair;
+import com.asterexcrisys.acm.utility.PathUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.UserPrincipal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AgentServerUnitTests {
+
+    private VaultManager manager;
+    private AgentServer server;
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws DatabaseException, IOException {
+        PathUtility.deleteRecursively(Paths.get("./data/"));
+        manager = new VaultManager(GenericEncryptor.generateKey().orElseThrow());
+        directory = Files.createTempDirectory("agent");
+        server = new AgentServer(manager, directory.resolve("agent.sock"), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+        manager.close();
+        PathUtility.deleteRecursively(directory);
+        PathUtility.deleteRecursively(Paths.get("./data/"));
+    }
+
+    @Test
+    public void shouldKeepConnectionAfterFailedRequest() {
+        assertTrue(manager.addVault("name", "password"));
+        assertTrue(manager.authenticate("name", "password"));
+        assertTrue(manager.getTokenManager().orElseThrow().addToken("identifier"));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            try (AgentClient client = new AgentClient(server.getSocketFile())) {
+                String encryptedText = client.encryptText("identifier", "text").orElseThrow();
+                Optional<Pair<AgentStatus, String[]>> response = client.send(AgentOperation.DECRYPT_TEXT, "identifier", "not encrypted text");
+                assertTrue(response.isPresent());
+                assertEquals(AgentStatus.FAILURE, response.get().first());
+                assertEquals("text", client.decryptText("identifier", encryptedText).orElseThrow());
+                response = client.send(AgentOperation.PING);
+                assertTrue(response.isPresent());
+                assertEquals(AgentStatus.SUCCESS, response.get().first());
+            }
+        });
+    }
+
+    @Test
+    public void shouldLockAfterIdleTimeout() {
+        server.close();
+        server = new AgentServer(manager, directory.resolve("agent.sock"), Duration.ofMillis(100));
+        assertTrue(manager.addVault("name", "password"));
+        assertTrue(manager.authenticate("name", "password"));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            Instant deadline = Instant.now().plusSeconds(5);
+            while (manager.isAuthenticated() && Instant.now().isBefore(deadline)) {
+                Thread.sleep(50);
+            }
+            assertFalse(manager.isAuthenticated());
+            try (AgentClient client = new AgentClient(server.getSocketFile())) {
+                Optional<Pair<AgentStatus, String[]>> response = client.send(AgentOperation.PING);
+                assertTrue(response.isPresent());
+                assertEquals("locked", response.get().second()[0]);
+            }
+        });
+    }
+
+    @Test
+    public void shouldRespondLockedAfterLock() {
+        assertTrue(manager.addVault("name", "password"));
+        assertTrue(manager.authenticate("name", "password"));
+        assertTrue(manager.getTokenManager().orElseThrow().addToken("identifier"));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            try (AgentClient client = new AgentClient(server.getSocketFile())) {
+                Optional<Pair<AgentStatus, String[]>> response = client.send(AgentOperation.LOCK);
+                assertTrue(response.isPresent());
+                assertEquals(AgentStatus.SUCCESS, response.get().first());
+                assertFalse(manager.isAuthenticated());
+                response = client.send(AgentOperation.GET_CREDENTIAL, "platform");
+                assertTrue(response.isPresent());
+                assertEquals(AgentStatus.LOCKED, response.get().first());
+                response = client.send(AgentOperation.ENCRYPT_TEXT, "identifier", "text");
+                assertTrue(response.isPresent());
+                assertEquals(AgentStatus.LOCKED, response.get().first());
+            }
+        });
+    }
+
+    @Test
+    public void shouldStayLockedAfterFailedUnlock() {
+        assertTrue(manager.addVault("name", "password"));
+        assertTrue(manager.authenticate("name", "password"));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            try (AgentClient client = new AgentClient(server.getSocketFile())) {
+                Optional<Pair<AgentStatus, String[]>> response = client.send(AgentOperation.UNLOCK, "name", "password2");
+                assertTrue(response.isPresent());
+                assertEquals(AgentStatus.FAILURE, response.get().first());
+                assertFalse(manager.isAuthenticated());
+                response = client.send(AgentOperation.PING);
+                assertTrue(response.isPresent());
+                assertEquals("locked", response.get().second()[0]);
+                response = client.send(AgentOperation.UNLOCK, "name", "password");
+                assertTrue(response.isPresent());
+                assertEquals(AgentStatus.SUCCESS, response.get().first());
+                assertTrue(manager.isAuthenticated());
+            }
+        });
+    }
+
+    @Test
+    public void shouldRejectUnverifiedPeer() {
+        assumeTrue("root".equals(System.getProperty("user.name")));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            UserPrincipal owner = server.getSocketFile().getFileSystem().getUserPrincipalLookupService().lookupPrincipalByName("nobody");
+            Files.setOwner(server.getSocketFile(), owner);
+            try (AgentClient client = new AgentClient(server.getSocketFile())) {
+                assertTrue(client.send(AgentOperation.PING).isEmpty());
+            }
+        });
+    }
+
+}
\ No newline at end of file
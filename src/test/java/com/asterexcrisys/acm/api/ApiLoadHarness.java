@@ -0,0 +1,101 @@
+package com.asterexcrisys.acm.api;
+
+import com.asterexcrisys.acm.utility.JsonUtility;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("unused")
+public final class ApiLoadHarness {
+
+    private final HttpClient client;
+    private final String baseUri;
+
+    public ApiLoadHarness(int port) {
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+        baseUri = "http://127.0.0.1:" + port + "/v1/";
+    }
+
+    public Optional<String> createSession(String vault, String password) throws Exception {
+        HttpResponse<String> response = send("POST", "sessions", null, JsonUtility.toJson(Map.of("vault", vault, "password", password)));
+        if (response.statusCode() != 201) {
+            return Optional.empty();
+        }
+        return JsonUtility.parseObject(response.body()).flatMap((body) -> JsonUtility.getString(body, "token"));
+    }
+
+    public int addToken(String session, String identifier) throws Exception {
+        return send("POST", "tokens/" + identifier, session, "").statusCode();
+    }
+
+    public String getMetrics(String session) throws Exception {
+        return send("GET", "metrics", session, null).body();
+    }
+
+    public void run(String session, String identifier, int concurrency, int requests) throws Exception {
+        String body = JsonUtility.toJson(Map.of("text", "load-harness-payload"));
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.execute(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long begin = System.nanoTime();
+                        int status;
+                        try {
+                            status = send("POST", "tokens/" + identifier + "/encrypt", session, body).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        latencies[index] = System.nanoTime() - begin;
+                        statuses.computeIfAbsent(status, (key) -> new LongAdder()).increment();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        System.out.printf("requests=%d concurrency=%d elapsed=%.1fms throughput=%.0f/s%n", requests, concurrency, elapsed / 1e6, requests / (elapsed / 1e9));
+        System.out.printf("latency p50=%dus p99=%dus max=%dus%n", latencies[requests / 2] / 1000, latencies[(int) Math.min(requests - 1, Math.ceil(requests * 0.99) - 1)] / 1000, latencies[requests - 1] / 1000);
+        System.out.println("statuses=" + new TreeMap<>(statuses));
+    }
+
+    private HttpResponse<String> send(String method, String path, String session, String body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + path)).timeout(Duration.ofSeconds(30));
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session);
+        }
+        builder.method(method, body == null? HttpRequest.BodyPublishers.noBody():HttpRequest.BodyPublishers.ofString(body));
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    public static void main(String[] arguments) throws Exception {
+        if (arguments.length < 4) {
+            System.err.println("Usage: ApiLoadHarness <port> <vault> <password> <token> [concurrency] [requests]");
+            System.exit(1);
+        }
+        int concurrency = arguments.length > 4? Integer.parseInt(arguments[4]):16;
+        int requests = arguments.length > 5? Integer.parseInt(arguments[5]):10000;
+        ApiLoadHarness harness = new ApiLoadHarness(Integer.parseInt(arguments[0]));
+        String session = harness.createSession(arguments[1], arguments[2]).orElseThrow(() -> new IllegalStateException("Failed to create session"));
+        harness.addToken(session, arguments[3]);
+        harness.run(session, arguments[3], concurrency, Math.min(requests, 1000));
+        harness.run(session, arguments[3], concurrency, requests);
+        System.out.println(harness.getMetrics(session));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.asterexcrisys.acm.api;
+
+import com.asterexcrisys.acm.VaultManager;
+import com.asterexcrisys.acm.exceptions.DatabaseException;
+import com.asterexcrisys.acm.services.api.ApiServer;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.types.api.ApiRoute;
+import com.asterexcrisys.acm.types.api.RouteStatistics;
+import com.asterexcrisys.acm.utility.JsonUtility;
+import com.asterexcrisys.acm.utility.PathUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ApiServerUnitTests {
+
+    private VaultManager manager;
+    private ApiServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setUp() throws DatabaseException {
+        PathUtility.deleteRecursively(Paths.get("./data/"));
+        manager = new VaultManager(GenericEncryptor.generateKey().orElseThrow());
+        server = new ApiServer(manager, 0);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+        client.close();
+        manager.close();
+        PathUtility.deleteRecursively(Paths.get("./data/"));
+    }
+
+    @Test
+    public void shouldRejectMalformedCiphertext() {
+        assertTrue(manager.addVault("name", "password"));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            HttpResponse<String> response = send("POST", "sessions", null, JsonUtility.toJson(Map.of("vault", "name", "password", "password")));
+            assertEquals(201, response.statusCode());
+            String session = JsonUtility.parseObject(response.body()).flatMap((body) -> JsonUtility.getString(body, "token")).orElseThrow();
+            assertEquals(201, send("POST", "tokens/identifier", session, "").statusCode());
+            response = send("POST", "tokens/identifier/decrypt", session, JsonUtility.toJson(Map.of("text", "not encrypted text")));
+            assertEquals(422, response.statusCode());
+            response = send("POST", "tokens/identifier/decrypt", session, JsonUtility.toJson(Map.of("texts", List.of("dGVzdA==", "not encrypted text"))));
+            assertEquals(422, response.statusCode());
+            Instant deadline = Instant.now().plusSeconds(5);
+            RouteStatistics statistics = getStatistics(ApiRoute.DECRYPT_TEXT);
+            while (statistics.requests() < 2 && Instant.now().isBefore(deadline)) {
+                Thread.sleep(50);
+                statistics = getStatistics(ApiRoute.DECRYPT_TEXT);
+            }
+            assertEquals(2, statistics.requests());
+            assertEquals(0, statistics.errors());
+        });
+    }
+
+    @Test
+    public void shouldRejectMissingOrExpiredSession() {
+        server.close();
+        server = new ApiServer(manager, 0, 4, Duration.ofMillis(200));
+        assertTrue(manager.addVault("name", "password"));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            assertEquals(401, send("GET", "credentials", null, null).statusCode());
+            assertEquals(401, send("GET", "credentials", "invalid", null).statusCode());
+            String session = createSession("name", "password");
+            assertEquals(200, send("GET", "credentials", session, null).statusCode());
+            Thread.sleep(400);
+            assertEquals(401, send("GET", "credentials", session, null).statusCode());
+        });
+    }
+
+    @Test
+    public void shouldRejectCrossOriginRequest() {
+        assertTrue(manager.addVault("name", "password"));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            String session = createSession("name", "password");
+            assertEquals(403, send("GET", "credentials", session, null, "Origin", "http://localhost").statusCode());
+            assertEquals(403, send("POST", "sessions", null, JsonUtility.toJson(Map.of("vault", "name", "password", "password")), "Origin", "http://localhost").statusCode());
+        });
+    }
+
+    @Test
+    public void shouldRejectRequestsOverConcurrencyLimit() {
+        assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+        server.close();
+        server = new ApiServer(manager, 0, 1, Duration.ofMinutes(1));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            try (Socket socket = new Socket("127.0.0.1", server.getAddress().getPort())) {
+                OutputStream output = socket.getOutputStream();
+                output.write("POST /v1/sessions HTTP/1.1\r\nHost: 127.0.0.1\r\nContent-Length: 64\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+                output.flush();
+                Instant deadline = Instant.now().plusSeconds(5);
+                int status = send("GET", "metrics", null, null).statusCode();
+                while (status != 503 && Instant.now().isBefore(deadline)) {
+                    Thread.sleep(50);
+                    status = send("GET", "metrics", null, null).statusCode();
+                }
+                assertEquals(503, status);
+                assertEquals(1, server.getMetrics().getRejections());
+            }
+        });
+    }
+
+    @Test
+    public void shouldRejectSessionForAnotherVault() {
+        assertTrue(manager.addVault("name1", "password"));
+        assertTrue(manager.addVault("name2", "password"));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            createSession("name1", "password");
+            HttpResponse<String> response = send("POST", "sessions", null, JsonUtility.toJson(Map.of("vault", "name2", "password", "password")));
+            assertEquals(409, response.statusCode());
+            assertEquals("name1", manager.getCredentialManager().orElseThrow().getVault().orElseThrow().getName());
+        });
+    }
+
+    @Test
+    public void shouldLockVaultAfterLastSessionExpires() {
+        server.close();
+        server = new ApiServer(manager, 0, 4, Duration.ofMillis(200));
+        assertTrue(manager.addVault("name", "password"));
+        assertTrue(server.start());
+        assertDoesNotThrow(() -> {
+            createSession("name", "password");
+            assertTrue(manager.isAuthenticated());
+            Instant deadline = Instant.now().plusSeconds(5);
+            while (manager.isAuthenticated() && Instant.now().isBefore(deadline)) {
+                Thread.sleep(50);
+            }
+            assertFalse(manager.isAuthenticated());
+        });
+    }
+
+    private RouteStatistics getStatistics(ApiRoute route) {
+        return server.getMetrics().getStatistics().stream().filter((statistics) -> {
+            return statistics.route().equals(route.label());
+        }).findFirst().orElseGet(() -> new RouteStatistics(route.label(), 0, 0, 0, 0, 0, 0));
+    }
+
+    private String createSession(String vault, String password) throws Exception {
+        HttpResponse<String> response = send("POST", "sessions", null, JsonUtility.toJson(Map.of("vault", vault, "password", password)));
+        assertEquals(201, response.statusCode());
+        return JsonUtility.parseObject(response.body()).flatMap((body) -> JsonUtility.getString(body, "token")).orElseThrow();
+    }
+
+    private HttpResponse<String> send(String method, String path, String session, String body, String... headers) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v1/" + path)).timeout(Duration.ofSeconds(30));
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session);
+        }
+        if (headers.length > 0) {
+            builder.headers(headers);
+        }
+        builder.method(method, body == null? HttpRequest.BodyPublishers.noBody():HttpRequest.BodyPublishers.ofString(body));
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.asterexcrisys.acm.encryption;
+
+import com.asterexcrisys.acm.exceptions.EncryptionException;
+import com.asterexcrisys.acm.services.encryption.DirectoryEncryptor;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.encryption.SegmentedEncryptor;
+import com.asterexcrisys.acm.types.encryption.BatchSummary;
+import com.asterexcrisys.acm.utility.PathUtility;
+import com.asterexcrisys.acm.utility.RandomnessUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DirectoryEncryptorUnitTests {
+
+    private DirectoryEncryptor encryptor;
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws EncryptionException, IOException {
+        encryptor = new DirectoryEncryptor(new GenericEncryptor(), 2);
+        directory = Files.createTempDirectory("directory");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        PathUtility.deleteRecursively(directory);
+    }
+
+    @Test
+    public void shouldEncryptAndDecryptMatchingFiles() {
+        assertDoesNotThrow(() -> {
+            byte[] firstData = RandomnessUtility.generateBytes(100).orElseThrow();
+            byte[] secondData = RandomnessUtility.generateBytes(200).orElseThrow();
+            Files.createDirectories(directory.resolve("nested"));
+            Files.write(directory.resolve("first.txt"), firstData);
+            Files.write(directory.resolve("nested").resolve("second.txt"), secondData);
+            Files.writeString(directory.resolve("ignored.log"), "ignored");
+            Optional<BatchSummary> summary = encryptor.encrypt(directory, "**.txt");
+            assertTrue(summary.isPresent());
+            assertEquals(2, summary.get().processed());
+            assertEquals(0, summary.get().skipped());
+            assertEquals(300, summary.get().bytes());
+            assertTrue(summary.get().isSuccessful());
+            assertTrue(SegmentedEncryptor.isSegmented(directory.resolve("first.txt")));
+            assertTrue(SegmentedEncryptor.isSegmented(directory.resolve("nested").resolve("second.txt")));
+            assertEquals("ignored", Files.readString(directory.resolve("ignored.log")));
+            summary = encryptor.encrypt(directory, "**.txt");
+            assertTrue(summary.isPresent());
+            assertEquals(0, summary.get().processed());
+            assertEquals(2, summary.get().skipped());
+            summary = encryptor.decrypt(directory, "**.txt");
+            assertTrue(summary.isPresent());
+            assertEquals(2, summary.get().processed());
+            assertArrayEquals(firstData, Files.readAllBytes(directory.resolve("first.txt")));
+            assertArrayEquals(secondData, Files.readAllBytes(directory.resolve("nested").resolve("second.txt")));
+        });
+    }
+
+    @Test
+    public void shouldRecordFailedFiles() {
+        assertDoesNotThrow(() -> {
+            Files.writeString(directory.resolve("plain.txt"), "not encrypted");
+            Optional<BatchSummary> summary = encryptor.decrypt(directory, "*.txt");
+            assertTrue(summary.isPresent());
+            assertEquals(0, summary.get().processed());
+            assertEquals(List.of(directory.resolve("plain.txt")), summary.get().failures());
+            assertFalse(summary.get().isSuccessful());
+            assertEquals("not encrypted", Files.readString(directory.resolve("plain.txt")));
+        });
+    }
+
+    @Test
+    public void shouldRecordUnreadableDirectories() throws IOException {
+        Path hidden = Files.createDirectories(directory.resolve("hidden"));
+        Files.writeString(hidden.resolve("secret.txt"), "secret");
+        Files.writeString(directory.resolve("visible.txt"), "visible");
+        Files.setPosixFilePermissions(hidden, PosixFilePermissions.fromString("---------"));
+        try {
+            assumeFalse(Files.isReadable(hidden));
+            Optional<BatchSummary> summary = encryptor.encrypt(directory, "**.txt");
+            assertTrue(summary.isPresent());
+            assertEquals(1, summary.get().processed());
+            assertEquals(List.of(hidden), summary.get().failures());
+        } finally {
+            Files.setPosixFilePermissions(hidden, PosixFilePermissions.fromString("rwx------"));
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidArguments() {
+        assertDoesNotThrow(() -> {
+            Files.writeString(directory.resolve("file.txt"), "data");
+            assertTrue(encryptor.encrypt(directory, "[").isEmpty());
+            assertTrue(encryptor.encrypt(directory, " ").isEmpty());
+            assertTrue(encryptor.encrypt(directory.resolve("file.txt"), "*").isEmpty());
+            assertTrue(encryptor.encrypt(directory.resolve("missing"), "*").isEmpty());
+        });
+        assertThrows(IllegalArgumentException.class, () -> new DirectoryEncryptor(new GenericEncryptor(), 0));
+    }
+
+    @Test
+    public void shouldSummarizeBatch() {
+        List<Path> failures = new ArrayList<>(List.of(Path.of("failed")));
+        BatchSummary summary = BatchSummary.of(4, 1, 2048, Duration.ofSeconds(2), failures);
+        failures.clear();
+        assertEquals(1, summary.failed());
+        assertFalse(summary.isSuccessful());
+        assertEquals(2.0, summary.filesPerSecond());
+        assertEquals(1024.0, summary.bytesPerSecond());
+        assertThrows(UnsupportedOperationException.class, () -> summary.failures().add(Path.of("other")));
+        BatchSummary emptySummary = BatchSummary.of(0, 0, 0, Duration.ZERO, List.of());
+        assertTrue(emptySummary.isSuccessful());
+        assertEquals(0.0, emptySummary.filesPerSecond());
+        assertEquals(0.0, emptySummary.bytesPerSecond());
+        assertThrows(NullPointerException.class, () -> BatchSummary.of(0, 0, 0, null, List.of()));
+        assertThrows(NullPointerException.class, () -> BatchSummary.of(0, 0, 0, Duration.ZERO, null));
+    }
+
+}
\ No newline at end of file
@@ -1,11 +1,20 @@
 package com.asterexcrisys.acm.encryption;
 
 import com.asterexcrisys.acm.exceptions.EncryptionException;
+import com.asterexcrisys.acm.services.encryption.CoreEncryptor;
 import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
 import com.asterexcrisys.acm.services.encryption.KeyEncryptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SuppressWarnings("unused")
@@ -28,6 +37,61 @@ public class GenericEncryptorUnitTests {
         });
     }
 
+    @Test
+    public void shouldEncryptAndDecryptBuffers() {
+        byte[] data = "test".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer encryptedData = ByteBuffer.allocateDirect(CoreEncryptor.getEncryptedSize(data.length));
+        assertTrue(encryptor.encrypt(ByteBuffer.wrap(data), encryptedData));
+        assertFalse(encryptedData.hasRemaining());
+        encryptedData.flip();
+        ByteBuffer decryptedData = ByteBuffer.allocate(CoreEncryptor.getDecryptedSize(encryptedData.remaining()));
+        assertTrue(encryptor.decrypt(encryptedData, decryptedData));
+        assertArrayEquals(data, decryptedData.array());
+        assertFalse(encryptor.encrypt(ByteBuffer.wrap(data), ByteBuffer.allocate(data.length)));
+    }
+
+    @Test
+    public void shouldEncryptAndDecryptConcurrently() {
+        assertDoesNotThrow(() -> {
+            List<Future<String>> results = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 1000; i++) {
+                    String data = "test" + i;
+                    results.add(executor.submit(() -> encryptor.decrypt(encryptor.encrypt(data).orElseThrow()).orElseThrow()));
+                }
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals("test" + i, results.get(i).get());
+            }
+        });
+    }
+
+    @Test
+    public void shouldEncryptAndDecryptWithDerivedKeys() {
+        assertDoesNotThrow(() -> {
+            String firstData = encryptor.encryptDerived("test").orElseThrow();
+            String secondData = encryptor.encryptDerived("test").orElseThrow();
+            assertNotEquals(firstData, secondData);
+            assertEquals("test", encryptor.decryptDerived(firstData).orElseThrow());
+            assertEquals("test", encryptor.decryptDerived(encryptor.encrypt("test").orElseThrow()).orElseThrow());
+            assertTrue(new GenericEncryptor().decryptDerived(firstData).isEmpty());
+            byte[] context = new byte[32];
+            assertArrayEquals(encryptor.deriveKey(context, "test").orElseThrow().getEncoded(), encryptor.deriveKey(context, "test").orElseThrow().getEncoded());
+            assertFalse(Arrays.equals(encryptor.deriveKey(context, "test").orElseThrow().getEncoded(), encryptor.deriveKey(context, "other").orElseThrow().getEncoded()));
+        });
+    }
+
+    @Test
+    public void shouldRejectMalformedData() {
+        assertDoesNotThrow(() -> {
+            assertTrue(encryptor.decrypt("not encrypted text").isEmpty());
+            assertTrue(encryptor.decrypt("not encrypted text".getBytes()).isEmpty());
+            assertTrue(encryptor.decryptDerived("not encrypted text").isEmpty());
+            assertTrue(encryptor.decryptDerived("v2.not encrypted text").isEmpty());
+            assertTrue(encryptor.decrypt("dGVzdA==").isEmpty());
+        });
+    }
+
     @Test
     public void shouldEncryptGeneratedKey() {
         assertDoesNotThrow(() -> {
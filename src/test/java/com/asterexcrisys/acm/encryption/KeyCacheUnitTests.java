@@ -0,0 +1,75 @@
+package com.asterexcrisys.acm.encryption;
+
+import com.asterexcrisys.acm.exceptions.EncryptionException;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.encryption.KeyCache;
+import com.asterexcrisys.acm.types.utility.CacheStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class KeyCacheUnitTests {
+
+    private KeyCache cache;
+    private GenericEncryptor encryptor;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() throws EncryptionException {
+        cache = new KeyCache(2, Duration.ofMinutes(1));
+        encryptor = new GenericEncryptor();
+        loads = new AtomicInteger(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    public void shouldResolveCachedEncryptors() {
+        GenericEncryptor firstEncryptor = resolve("token1").orElseThrow();
+        GenericEncryptor secondEncryptor = resolve("token1").orElseThrow();
+        assertEquals(1, loads.get());
+        assertEquals(encryptor.getDecryptedKey(), secondEncryptor.getDecryptedKey());
+        assertEquals("data", secondEncryptor.decrypt(firstEncryptor.encrypt("data").orElseThrow()).orElseThrow());
+        CacheStatistics statistics = cache.getEncryptorStatistics();
+        assertEquals(1, statistics.hits());
+        assertEquals(1, statistics.size());
+    }
+
+    @Test
+    public void shouldDestroyCachedKeysWithoutBreakingResolvedEncryptors() {
+        GenericEncryptor resolvedEncryptor = resolve("token1").orElseThrow();
+        GenericEncryptor cachedEncryptor = resolve("token1").orElseThrow();
+        cache.invalidate("token1");
+        assertEquals(1, cache.getEncryptorStatistics().evictions());
+        assertEquals("data", cachedEncryptor.decrypt(resolvedEncryptor.encrypt("data").orElseThrow()).orElseThrow());
+        resolve("token1").orElseThrow();
+        resolve("token2").orElseThrow();
+        resolve("token3").orElseThrow();
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.getEncryptorStatistics().evictions());
+        cache.invalidateAll();
+        assertEquals(0, cache.getEncryptorStatistics().size());
+        assertEquals(4, cache.getEncryptorStatistics().evictions());
+        assertEquals("data", cachedEncryptor.decrypt(resolvedEncryptor.encrypt("data").orElseThrow()).orElseThrow());
+        resolve("token1").orElseThrow();
+        assertEquals(5, loads.get());
+    }
+
+    private Optional<GenericEncryptor> resolve(String identifier) {
+        return cache.resolve(identifier, (key) -> {
+            loads.incrementAndGet();
+            return Optional.of(encryptor);
+        });
+    }
+
+}
\ No newline at end of file
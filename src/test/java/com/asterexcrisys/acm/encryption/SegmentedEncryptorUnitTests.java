@@ -0,0 +1,104 @@
+package com.asterexcrisys.acm.encryption;
+
+import com.asterexcrisys.acm.constants.EncryptionConstants;
+import com.asterexcrisys.acm.exceptions.EncryptionException;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.encryption.SegmentedEncryptor;
+import com.asterexcrisys.acm.types.encryption.CipherMode;
+import com.asterexcrisys.acm.utility.EncryptionUtility;
+import com.asterexcrisys.acm.utility.PathUtility;
+import com.asterexcrisys.acm.utility.RandomnessUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SegmentedEncryptorUnitTests {
+
+    private static final int SEGMENT_SIZE = EncryptionConstants.MINIMUM_SEGMENT_SIZE;
+
+    private GenericEncryptor genericEncryptor;
+    private SegmentedEncryptor encryptor;
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws EncryptionException, IOException {
+        genericEncryptor = new GenericEncryptor();
+        encryptor = new SegmentedEncryptor(genericEncryptor, SEGMENT_SIZE);
+        directory = Files.createTempDirectory("segmented");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        PathUtility.deleteRecursively(directory);
+    }
+
+    @Test
+    public void shouldEncryptAndDecryptFiles() {
+        assertDoesNotThrow(() -> {
+            for (int size : new int[] {0, 1, SEGMENT_SIZE, SEGMENT_SIZE + 1, 3 * SEGMENT_SIZE}) {
+                byte[] data = RandomnessUtility.generateBytes(Math.max(1, size)).orElseThrow();
+                data = Arrays.copyOf(data, size);
+                Files.write(directory.resolve("plain"), data);
+                assertTrue(encryptor.encrypt(directory.resolve("plain"), directory.resolve("encrypted")));
+                assertTrue(SegmentedEncryptor.isSegmented(directory.resolve("encrypted")));
+                assertTrue(encryptor.decrypt(directory.resolve("encrypted"), directory.resolve("decrypted")));
+                assertArrayEquals(data, Files.readAllBytes(directory.resolve("decrypted")));
+            }
+        });
+    }
+
+    @Test
+    public void shouldRejectTruncatedAndReorderedFiles() {
+        assertDoesNotThrow(() -> {
+            int encryptedSegmentSize = Integer.BYTES + SEGMENT_SIZE + EncryptionConstants.AUTHENTICATION_TAG_SIZE / Byte.SIZE;
+            Files.write(directory.resolve("plain"), RandomnessUtility.generateBytes(3 * SEGMENT_SIZE).orElseThrow());
+            assertTrue(encryptor.encrypt(directory.resolve("plain"), directory.resolve("encrypted")));
+            byte[] encryptedData = Files.readAllBytes(directory.resolve("encrypted"));
+            Files.write(directory.resolve("truncated"), Arrays.copyOf(encryptedData, EncryptionConstants.SEGMENT_HEADER_SIZE + 2 * encryptedSegmentSize));
+            assertFalse(encryptor.decrypt(directory.resolve("truncated"), directory.resolve("decrypted")));
+            byte[] reorderedData = encryptedData.clone();
+            System.arraycopy(encryptedData, EncryptionConstants.SEGMENT_HEADER_SIZE, reorderedData, EncryptionConstants.SEGMENT_HEADER_SIZE + encryptedSegmentSize, encryptedSegmentSize);
+            System.arraycopy(encryptedData, EncryptionConstants.SEGMENT_HEADER_SIZE + encryptedSegmentSize, reorderedData, EncryptionConstants.SEGMENT_HEADER_SIZE, encryptedSegmentSize);
+            Files.write(directory.resolve("reordered"), reorderedData);
+            assertFalse(encryptor.decrypt(directory.resolve("reordered"), directory.resolve("decrypted")));
+        });
+    }
+
+    @Test
+    public void shouldDecryptLegacyFiles() {
+        assertDoesNotThrow(() -> {
+            for (int size : new int[] {1, EncryptionConstants.CHUNK_SIZE, 3 * EncryptionConstants.CHUNK_SIZE + 17}) {
+                byte[] data = RandomnessUtility.generateBytes(size).orElseThrow();
+                StringBuilder encryptedData = new StringBuilder();
+                for (int offset = 0; offset < size; offset += EncryptionConstants.CHUNK_SIZE) {
+                    byte[] chunk = Arrays.copyOfRange(data, offset, Math.min(size, offset + EncryptionConstants.CHUNK_SIZE));
+                    encryptedData.append(genericEncryptor.encrypt(chunk).orElseThrow());
+                }
+                Path file = directory.resolve("legacy");
+                Files.writeString(file, encryptedData);
+                assertFalse(SegmentedEncryptor.isSegmented(file));
+                assertTrue(EncryptionUtility.transformFile(genericEncryptor, CipherMode.DECRYPT, file));
+                assertArrayEquals(data, Files.readAllBytes(file));
+            }
+        });
+    }
+
+    @Test
+    public void shouldRejectMalformedLegacyFiles() {
+        assertDoesNotThrow(() -> {
+            Files.writeString(directory.resolve("legacy"), "not encrypted at all");
+            assertFalse(encryptor.decrypt(directory.resolve("legacy"), directory.resolve("decrypted")));
+            Files.writeString(directory.resolve("legacy"), genericEncryptor.encrypt("data").orElseThrow().substring(1));
+            assertFalse(encryptor.decrypt(directory.resolve("legacy"), directory.resolve("decrypted")));
+        });
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.asterexcrisys.acm.injection;
+
+import com.asterexcrisys.acm.CredentialManager;
+import com.asterexcrisys.acm.TokenManager;
+import com.asterexcrisys.acm.VaultManager;
+import com.asterexcrisys.acm.constants.InjectionConstants;
+import com.asterexcrisys.acm.exceptions.DatabaseException;
+import com.asterexcrisys.acm.exceptions.DerivationException;
+import com.asterexcrisys.acm.exceptions.HashingException;
+import com.asterexcrisys.acm.services.encryption.GenericEncryptor;
+import com.asterexcrisys.acm.services.injection.SecretResolver;
+import com.asterexcrisys.acm.services.injection.TemplateRenderer;
+import com.asterexcrisys.acm.types.encryption.Vault;
+import com.asterexcrisys.acm.types.injection.SecretField;
+import com.asterexcrisys.acm.types.injection.SecretReference;
+import com.asterexcrisys.acm.utility.PathUtility;
+import org.junit.jupiter.api.*;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TemplateRendererUnitTests {
+
+    private Vault vault;
+    private CredentialManager credentialManager;
+    private TokenManager tokenManager;
+    private SecretResolver resolver;
+
+    @BeforeAll
+    public void setAllUp() throws DatabaseException {
+        PathUtility.deleteRecursively(Paths.get("./data/"));
+        try (VaultManager manager = new VaultManager(GenericEncryptor.generateKey().orElseThrow())) {
+            manager.addVault("name", "password");
+            vault = manager.getVault("name", "password").orElseThrow();
+        }
+    }
+
+    @AfterAll
+    public void tearAllDown() {
+        PathUtility.deleteRecursively(Paths.get("./data/"));
+    }
+
+    @BeforeEach
+    public void setUp() throws DerivationException, DatabaseException, NoSuchAlgorithmException, HashingException {
+        credentialManager = new CredentialManager(vault.getEncryptor().getSealedSalt(), vault.getHashedPassword(), "name", "password");
+        tokenManager = new TokenManager(vault.getEncryptor().getSealedSalt(), vault.getHashedPassword(), "name", "password");
+        resolver = new SecretResolver(credentialManager, tokenManager);
+        assertTrue(credentialManager.addCredential("platform1", "username", "password1"));
+        assertTrue(credentialManager.addCredential("platform2", "username", "password2"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        resolver.close();
+        credentialManager.removeAllCredentials();
+        credentialManager.close();
+        tokenManager.close();
+    }
+
+    @Test
+    public void shouldRenderTemplateWithCredentials() {
+        TemplateRenderer renderer = new TemplateRenderer(resolver, 1);
+        StringWriter writer = new StringWriter();
+        String template = "user={{acm:platform1/username}}\n" + "{".repeat(9000) + "a={{ acm:platform1/password }} b={{acm:platform2/password}} {{acm:platform1/password}}";
+        assertEquals(4, renderer.render(new StringReader(template), writer).orElseThrow());
+        assertEquals("user=username\n" + "{".repeat(9000) + "a=password1 b=password2 password1", writer.toString());
+        assertEquals(3, resolver.size());
+        assertTrue(renderer.render(new StringReader("{{acm:platform3/password}}"), new StringWriter()).isEmpty());
+        assertEquals(Map.of("PASSWORD", "password2"), resolver.resolveAll(SecretReference.parseBindings("PASSWORD=platform2/password").orElseThrow()).orElseThrow());
+    }
+
+    @Test
+    public void shouldRenderPlaceholderAcrossReadBoundary() {
+        TemplateRenderer renderer = new TemplateRenderer(resolver);
+        String placeholder = "{{ acm:platform1/password }}";
+        for (int offset = 0; offset <= placeholder.length(); offset++) {
+            String prefix = "x".repeat(InjectionConstants.BUFFER_SIZE - offset);
+            StringWriter writer = new StringWriter();
+            assertEquals(1, renderer.render(new StringReader(prefix + placeholder + "y"), writer).orElseThrow());
+            assertEquals(prefix + "password1y", writer.toString());
+        }
+    }
+
+    @Test
+    public void shouldRejectMalformedPlaceholders() {
+        TemplateRenderer renderer = new TemplateRenderer(resolver);
+        assertTrue(renderer.render(new StringReader("a={{acm:}}"), new StringWriter()).isEmpty());
+        assertTrue(renderer.render(new StringReader("a={{acm: }}"), new StringWriter()).isEmpty());
+        StringWriter writer = new StringWriter();
+        assertEquals(0, renderer.render(new StringReader("a={{acm:platform1/password"), writer).orElseThrow());
+        assertEquals("a={{acm:platform1/password", writer.toString());
+    }
+
+    @Test
+    public void shouldParseReferences() {
+        assertEquals(new SecretReference("platform", SecretField.PASSWORD), SecretReference.parse("platform/password").orElseThrow());
+        assertEquals(new SecretReference("platform", SecretField.USERNAME), SecretReference.parse("platform/USERNAME").orElseThrow());
+        assertEquals(new SecretReference("group/platform", SecretField.PASSWORD), SecretReference.parse("group/platform/password").orElseThrow());
+        assertEquals(new SecretReference("identifier", SecretField.TOKEN), SecretReference.parse("identifier").orElseThrow());
+        assertEquals(new SecretReference("identifier/other", SecretField.TOKEN), SecretReference.parse("identifier/other").orElseThrow());
+        assertEquals("platform/password", SecretReference.parse("platform/password").orElseThrow().value());
+        for (String reference : new String[] {null, "", " ", " platform/password", "platform/password "}) {
+            assertTrue(SecretReference.parse(reference).isEmpty());
+        }
+    }
+
+    @Test
+    public void shouldRejectMalformedBindings() {
+        Map<String, SecretReference> bindings = SecretReference.parseBindings("USER=platform1/username,_PASSWORD2=platform1/password").orElseThrow();
+        assertEquals(List.of("USER", "_PASSWORD2"), List.copyOf(bindings.keySet()));
+        for (String binding : new String[] {null, "", " ", "USER", "=platform1/username", "USER=", "USER= platform1/username", "1USER=platform1/username", "USER-NAME=platform1/username", "USER=platform1/username,", ",USER=platform1/username", "USER=platform1/username, PASSWORD=platform1/password"}) {
+            assertTrue(SecretReference.parseBindings(binding).isEmpty(), String.valueOf(binding));
+        }
+    }
+
+    @Test
+    public void shouldRejectDuplicateBindingNames() {
+        assertTrue(SecretReference.parseBindings("PASSWORD=platform1/password,PASSWORD=platform2/password").isEmpty());
+        assertTrue(SecretReference.parseBindings("PASSWORD=platform1/password,PASSWORD=platform1/password").isEmpty());
+        Optional<Map<String, SecretReference>> bindings = SecretReference.parseBindings("PASSWORD=platform1/password,password=platform2/password");
+        assertTrue(bindings.isPresent());
+        assertEquals(Map.of("PASSWORD", "password1", "password", "password2"), resolver.resolveAll(bindings.get()).orElseThrow());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.asterexcrisys.acm.utility;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class Argon2UtilityUnitTests {
+
+    @Test
+    public void shouldMatchReferenceImplementation() {
+        assertDoesNotThrow(() -> {
+            byte[] password = "Password123!".getBytes(StandardCharsets.UTF_8);
+            for (int type : new int[] {Argon2Parameters.ARGON2_id, Argon2Parameters.ARGON2_i, Argon2Parameters.ARGON2_d}) {
+                for (int lanes = 1; lanes <= 4; lanes++) {
+                    for (int length : new int[] {16, 32, 100}) {
+                        Argon2Parameters parameters = new Argon2Parameters.Builder(type)
+                                .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                                .withIterations(3)
+                                .withMemoryAsKB(64 * lanes + 5)
+                                .withParallelism(lanes)
+                                .withSalt(HashingUtility.generateSalt().orElseThrow())
+                                .build();
+                        byte[] expected = new byte[length];
+                        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+                        generator.init(parameters);
+                        generator.generateBytes(password, expected);
+                        assertArrayEquals(expected, Argon2Utility.generate(parameters, password, length).orElseThrow());
+                    }
+                }
+            }
+        });
+    }
+
+    @Test
+    public void shouldRejectInvalidParameters() {
+        Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withIterations(1)
+                .withMemoryAsKB(8)
+                .withParallelism(2)
+                .build();
+        assertTrue(Argon2Utility.generate(parameters, new byte[0], 32).isEmpty());
+        assertTrue(Argon2Utility.generate(null, new byte[0], 32).isEmpty());
+        assertTrue(Argon2Utility.generate(parameters, new byte[0], 3).isEmpty());
+    }
+
+}
\ No newline at end of file
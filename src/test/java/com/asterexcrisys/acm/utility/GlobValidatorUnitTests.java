@@ -0,0 +1,37 @@
+package com.asterexcrisys.acm.utility;
+
+import com.asterexcrisys.acm.services.console.validators.GlobValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class GlobValidatorUnitTests {
+
+    private GlobValidator validator;
+
+    @BeforeEach
+    public void setUp() {
+        validator = new GlobValidator();
+    }
+
+    @Test
+    public void shouldAcceptValidGlobs() {
+        assertTrue(validator.validate("*"));
+        assertTrue(validator.validate("**/*.txt"));
+        assertTrue(validator.validate("{a,b}/[0-9]?.log"));
+    }
+
+    @Test
+    public void shouldRejectInvalidGlobs() {
+        assertFalse(validator.validate(null));
+        assertFalse(validator.validate(""));
+        assertFalse(validator.validate("   "));
+        assertFalse(validator.validate("["));
+        assertFalse(validator.validate("{a,{b}}"));
+    }
+
+}
\ No newline at end of file
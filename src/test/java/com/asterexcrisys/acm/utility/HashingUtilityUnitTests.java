@@ -0,0 +1,71 @@
+package com.asterexcrisys.acm.utility;
+
+import com.asterexcrisys.acm.constants.HashingConstants;
+import com.asterexcrisys.acm.types.encryption.HashingPolicy;
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class HashingUtilityUnitTests {
+
+    private static final HashingPolicy POLICY = HashingPolicy.of(2, 1024, 2, 1000);
+
+    @Test
+    public void shouldDetectOutdatedHash() {
+        assertDoesNotThrow(() -> {
+            String hash = HashingUtility.hashPassword("Password123!", POLICY).orElseThrow();
+            assertTrue(HashingUtility.verifyPassword("Password123!", hash));
+            assertFalse(HashingUtility.verifyPassword("Password124!", hash));
+            assertFalse(HashingUtility.needsRehash(hash, POLICY));
+            assertTrue(HashingUtility.needsRehash(hash, HashingPolicy.of(3, 1024, 2, 1000)));
+            assertTrue(HashingUtility.needsRehash(hash, HashingPolicy.of(2, 2048, 2, 1000)));
+            assertFalse(HashingUtility.needsRehash(hash, HashingPolicy.of(2, 1024, 1, 1000)));
+            assertTrue(HashingUtility.needsRehash(hash, HashingPolicy.of(1, 512, 2, 1000)));
+            assertFalse(HashingUtility.needsRehash(hash, HashingPolicy.of(2, 1024, 2, 2000)));
+        });
+    }
+
+    @Test
+    public void shouldClampLoadedPolicy() {
+        HashingPolicy policy = HashingPolicy.ofClamped(1, 8, 0, 1);
+        assertEquals(HashingConstants.MINIMUM_ITERATION_COUNT, policy.iterationCount());
+        assertEquals(HashingConstants.MINIMUM_MEMORY_USAGE, policy.memoryUsage());
+        assertEquals(1, policy.parallelismCount());
+        assertEquals(HashingConstants.MINIMUM_KEY_ITERATION_COUNT, policy.keyIterationCount());
+        assertFalse(policy.isKeyOutdated(HashingConstants.MINIMUM_KEY_ITERATION_COUNT));
+        assertTrue(policy.isKeyOutdated(HashingConstants.MINIMUM_KEY_ITERATION_COUNT - 1));
+        assertTrue(policy.isKeyOutdated(HashingConstants.KEY_ITERATION_COUNT));
+        assertFalse(policy.isHashOutdated(HashingConstants.MINIMUM_ITERATION_COUNT, HashingConstants.MINIMUM_MEMORY_USAGE));
+        assertTrue(policy.isHashOutdated(HashingConstants.ITERATION_COUNT, HashingConstants.MEMORY_USAGE));
+    }
+
+    @Test
+    public void shouldVerifyLegacyHash() {
+        assertDoesNotThrow(() -> {
+            byte[] salt = HashingUtility.generateSalt().orElseThrow();
+            byte[] hashedData = new byte[HashingConstants.HASH_SIZE];
+            Argon2BytesGenerator generator = new Argon2BytesGenerator();
+            generator.init(new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                    .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                    .withIterations(2)
+                    .withMemoryAsKB(1024)
+                    .withParallelism(HashingConstants.PARALLELISM_COUNT)
+                    .withSalt(salt)
+                    .build());
+            generator.generateBytes("Password123!".getBytes(StandardCharsets.UTF_8), hashedData);
+            ByteBuffer buffer = ByteBuffer.allocate(salt.length + hashedData.length + 12);
+            buffer.put(salt).putInt(Argon2Parameters.ARGON2_VERSION_13).putInt(2).putInt(1024).put(hashedData);
+            String hash = Base64.getEncoder().encodeToString(buffer.array());
+            assertTrue(HashingUtility.verifyPassword("Password123!", hash));
+            assertTrue(HashingUtility.needsRehash(hash, POLICY));
+        });
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.asterexcrisys.acm.utility;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class JsonUtilityUnitTests {
+
+    @Test
+    public void shouldWriteAndParseObjects() {
+        assertDoesNotThrow(() -> {
+            Map<String, Object> object = new LinkedHashMap<>();
+            object.put("text", "quote \" slash \\ line\n\u0001 ünïcode");
+            object.put("count", 42L);
+            object.put("ratio", 0.5);
+            object.put("enabled", true);
+            object.put("missing", null);
+            object.put("texts", List.of("a", "b"));
+            object.put("nested", Map.of("key", "value"));
+            String json = JsonUtility.toJson(object);
+            assertEquals(object, JsonUtility.parseObject(json).orElseThrow());
+            assertEquals("quote \" slash \\ line\n\u0001 ünïcode", JsonUtility.getString(object, "text").orElseThrow());
+            assertEquals(List.of("a", "b"), JsonUtility.getStrings(object, "texts").orElseThrow());
+            assertTrue(JsonUtility.getString(object, "count").isEmpty());
+            assertEquals("\u00e9", JsonUtility.getString(JsonUtility.parseObject("{\"text\": \"\\u00e9\"}").orElseThrow(), "text").orElseThrow());
+        });
+    }
+
+    @Test
+    public void shouldRejectMalformedObjects() {
+        assertTrue(JsonUtility.parseObject("").isEmpty());
+        assertTrue(JsonUtility.parseObject("[1, 2]").isEmpty());
+        assertTrue(JsonUtility.parseObject("{\"key\": }").isEmpty());
+        assertTrue(JsonUtility.parseObject("{\"key\": \"value\"} trailing").isEmpty());
+        assertTrue(JsonUtility.parseObject("{\"key\": \"unterminated}").isEmpty());
+        assertTrue(JsonUtility.parseObject("{\"key\": " + "[".repeat(100) + "]".repeat(100) + "}").isEmpty());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.asterexcrisys.acm.utility;
+
+import com.asterexcrisys.acm.constants.EncryptionConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("unused")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RandomnessUtilityUnitTests {
+
+    @Test
+    public void shouldGenerateBytes() {
+        assertTrue(RandomnessUtility.generateBytes(0).isEmpty());
+        assertEquals(12, RandomnessUtility.generateBytes(12).orElseThrow().length);
+        assertEquals(EncryptionConstants.RANDOM_BUFFER_SIZE + 1, RandomnessUtility.generateBytes(EncryptionConstants.RANDOM_BUFFER_SIZE + 1).orElseThrow().length);
+        assertThrows(IllegalArgumentException.class, () -> RandomnessUtility.nextInt(0));
+    }
+
+    @Test
+    public void shouldGenerateDistinctBytesConcurrently() {
+        assertDoesNotThrow(() -> {
+            List<Future<String>> results = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 1000; i++) {
+                    results.add(executor.submit(() -> HexFormat.of().formatHex(RandomnessUtility.generateBytes(EncryptionConstants.INITIALIZATION_VECTOR_SIZE).orElseThrow())));
+                }
+            }
+            Set<String> values = new HashSet<>();
+            for (Future<String> result : results) {
+                assertTrue(values.add(result.get()));
+            }
+        });
+    }
+
+}
\ No newline at end of file
@@ -1,13 +1,16 @@
 package com.asterexcrisys.acm.utility;
 
 import com.asterexcrisys.acm.services.console.TableBuilder;
+import com.asterexcrisys.acm.services.console.TableRenderer;
 import com.asterexcrisys.acm.types.console.CellSize;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import java.io.StringWriter;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("unused")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -64,4 +67,25 @@ public class TableBuilderUnitTests {
         );
     }
 
+    @Test
+    public void shouldRenderTableWithSampledWidths() {
+        StringWriter writer = new StringWriter();
+        TableRenderer renderer = new TableRenderer(List.of("A", "BB"), CellSize.WRAP_SMALL, 1);
+        assertTrue(renderer.render(List.of(List.of("XXX", "Y"), List.of("ZZZZZ", "W")).iterator(), writer));
+        assertEquals(
+                """
+                        +-----+----+
+                        | A   | BB |\s
+                        +-----+----+
+                        +-----+----+
+                        | XXX | Y  |\s
+                        +-----+----+
+                        | ZZZ | W  |\s
+                        | ZZ  |    |\s
+                        +-----+----+
+                        """,
+                writer.toString()
+        );
+    }
+
 }
\ No newline at end of file